@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.HistogramMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.distsql.parser.statement.ral.RALStatement;
+import org.apache.shardingsphere.distsql.parser.statement.rdl.RDLStatement;
+import org.apache.shardingsphere.distsql.parser.statement.rql.RQLStatement;
+import org.apache.shardingsphere.distsql.parser.statement.rul.RULStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.DALStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dcl.DCLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.DDLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.TCLStatement;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Abstract SQL stage latency histogram advice.
+ * 
+ * <p>Every stage is labelled by the statement and database of its own invocation.</p>
+ */
+public abstract class AbstractSQLStageLatencyHistogramAdvice {
+    
+    private static final int SQL_TYPE_COUNT = SQLType.values().length;
+    
+    private final MetricConfiguration config = new MetricConfiguration("sql_stage_latency_millis", MetricCollectorType.HISTOGRAM,
+            "SQL stage latency millis histogram", Arrays.asList("stage", "type", "database"), Collections.singletonMap("buckets", getBuckets()));
+    
+    private final ThreadLocal<long[]> startNanoTime = ThreadLocal.withInitial(() -> new long[1]);
+    
+    private final Map<String, DoubleConsumer[]> observers = new ConcurrentHashMap<>();
+    
+    private Map<String, Object> getBuckets() {
+        Map<String, Object> result = new HashMap<>(4, 1F);
+        result.put("type", "exp");
+        result.put("start", 0.01D);
+        result.put("factor", 2);
+        result.put("count", 20);
+        return result;
+    }
+    
+    protected final void recordStartTime() {
+        startNanoTime.get()[0] = System.nanoTime();
+    }
+    
+    protected final void observe(final String pluginType, final SQLStatement sqlStatement, final String databaseName) {
+        double elapsedMillis = getElapsedMillis();
+        getObserver(pluginType, getSQLType(sqlStatement), null == databaseName ? "" : databaseName).accept(elapsedMillis);
+    }
+    
+    private DoubleConsumer getObserver(final String pluginType, final SQLType sqlType, final String databaseName) {
+        DoubleConsumer[] databaseObservers = observers.get(databaseName);
+        if (null == databaseObservers) {
+            databaseObservers = observers.computeIfAbsent(databaseName, key -> new DoubleConsumer[SQL_TYPE_COUNT]);
+        }
+        DoubleConsumer result = databaseObservers[sqlType.ordinal()];
+        if (null == result) {
+            result = MetricsCollectorRegistry.<HistogramMetricsCollector>get(config, pluginType).getObserver(getStage(), sqlType.name(), databaseName);
+            databaseObservers[sqlType.ordinal()] = result;
+        }
+        return result;
+    }
+    
+    private double getElapsedMillis() {
+        return (System.nanoTime() - startNanoTime.get()[0]) / 1000000D;
+    }
+    
+    private SQLType getSQLType(final SQLStatement sqlStatement) {
+        if (sqlStatement instanceof InsertStatement) {
+            return SQLType.INSERT;
+        }
+        if (sqlStatement instanceof UpdateStatement) {
+            return SQLType.UPDATE;
+        }
+        if (sqlStatement instanceof DeleteStatement) {
+            return SQLType.DELETE;
+        }
+        if (sqlStatement instanceof SelectStatement) {
+            return SQLType.SELECT;
+        }
+        if (sqlStatement instanceof DDLStatement) {
+            return SQLType.DDL;
+        }
+        if (sqlStatement instanceof DCLStatement) {
+            return SQLType.DCL;
+        }
+        if (sqlStatement instanceof DALStatement) {
+            return SQLType.DAL;
+        }
+        if (sqlStatement instanceof TCLStatement) {
+            return SQLType.TCL;
+        }
+        if (sqlStatement instanceof RQLStatement) {
+            return SQLType.RQL;
+        }
+        if (sqlStatement instanceof RDLStatement) {
+            return SQLType.RDL;
+        }
+        if (sqlStatement instanceof RALStatement) {
+            return SQLType.RAL;
+        }
+        if (sqlStatement instanceof RULStatement) {
+            return SQLType.RUL;
+        }
+        return SQLType.OTHER;
+    }
+    
+    protected abstract String getStage();
+    
+    private enum SQLType {
+        
+        INSERT, UPDATE, DELETE, SELECT, DDL, DCL, DAL, TCL, RQL, RDL, RAL, RUL, OTHER
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.api.advice.type.InstanceMethodAdvice;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.HistogramMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Backend execute latency histogram advice.
+ */
+public final class BackendExecuteLatencyHistogramAdvice implements InstanceMethodAdvice {
+    
+    private final MetricConfiguration config = new MetricConfiguration("backend_execute_latency_millis", MetricCollectorType.HISTOGRAM,
+            "Backend execute latency millis histogram of data source", Collections.singletonList("data_source"), Collections.singletonMap("buckets", getBuckets()));
+    
+    private final ThreadLocal<long[]> startNanoTime = ThreadLocal.withInitial(() -> new long[1]);
+    
+    private final Map<String, DoubleConsumer> observers = new ConcurrentHashMap<>();
+    
+    private Map<String, Object> getBuckets() {
+        Map<String, Object> result = new HashMap<>(4, 1F);
+        result.put("type", "exp");
+        result.put("start", 0.1D);
+        result.put("factor", 2);
+        result.put("count", 18);
+        return result;
+    }
+    
+    @Override
+    public void beforeMethod(final TargetAdviceObject target, final Method method, final Object[] args, final String pluginType) {
+        if ("start".equals(method.getName())) {
+            target.setAttachment(args[0]);
+            startNanoTime.get()[0] = System.nanoTime();
+        }
+    }
+    
+    @Override
+    public void afterMethod(final TargetAdviceObject target, final Method method, final Object[] args, final Object result, final String pluginType) {
+        switch (method.getName()) {
+            case "finishSuccess":
+            case "finishFailure":
+                if (null != target.getAttachment()) {
+                    double elapsedMillis = (System.nanoTime() - startNanoTime.get()[0]) / 1000000D;
+                    getObserver((String) target.getAttachment(), pluginType).accept(elapsedMillis);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+    
+    private DoubleConsumer getObserver(final String dataSourceName, final String pluginType) {
+        DoubleConsumer result = observers.get(dataSourceName);
+        return null == result
+                ? observers.computeIfAbsent(dataSourceName, key -> MetricsCollectorRegistry.<HistogramMetricsCollector>get(config, pluginType).getObserver(key))
+                : result;
+    }
+}
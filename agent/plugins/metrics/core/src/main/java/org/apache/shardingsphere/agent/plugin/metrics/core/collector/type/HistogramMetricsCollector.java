@@ -19,6 +19,8 @@ package org.apache.shardingsphere.agent.plugin.metrics.core.collector.type;
 
 import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollector;
 
+import java.util.function.DoubleConsumer;
+
 /**
  * Histogram metrics collector.
  */
@@ -30,4 +32,14 @@ public interface HistogramMetricsCollector extends MetricsCollector {
      * @param value value
      */
     void observe(double value);
+    
+    /**
+     * Get observer of labels.
+     * 
+     * <p>Callers should cache the observer, so observations skip the lookup of labels.</p>
+     *
+     * @param labels labels
+     * @return observer of labels
+     */
+    DoubleConsumer getObserver(String... labels);
 }
@@ -27,6 +27,7 @@ import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.DoubleConsumer;
 import java.util.stream.Collectors;
 
 public final class MetricsCollectorFixture implements CounterMetricsCollector, GaugeMetricsCollector, HistogramMetricsCollector, SummaryMetricsCollector, GaugeMetricFamilyMetricsCollector {
@@ -62,6 +63,12 @@ public final class MetricsCollectorFixture implements CounterMetricsCollector, G
         this.value = (int) value;
     }
     
+    @Override
+    public DoubleConsumer getObserver(final String... labels) {
+        String key = String.join(".", labels);
+        return observedValue -> labeledValues.put(key, (int) observedValue);
+    }
+    
     @Override
     public void addMetric(final List<String> labelValues, final double value) {
         for (String each : labelValues) {
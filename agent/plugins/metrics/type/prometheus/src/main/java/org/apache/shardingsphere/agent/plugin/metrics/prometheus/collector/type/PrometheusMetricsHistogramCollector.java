@@ -23,6 +23,7 @@ import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfigur
 import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.HistogramMetricsCollector;
 
 import java.util.Map;
+import java.util.function.DoubleConsumer;
 
 /**
  * Metrics histogram collector of Prometheus.
@@ -76,4 +77,9 @@ public final class PrometheusMetricsHistogramCollector implements HistogramMetri
     public void observe(final double value) {
         histogram.observe(value);
     }
+    
+    @Override
+    public DoubleConsumer getObserver(final String... labels) {
+        return histogram.labels(labels)::observe;
+    }
 }
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
+import org.apache.shardingsphere.encrypt.api.context.EncryptContext;
+import org.apache.shardingsphere.encrypt.api.encrypt.standard.StandardEncryptAlgorithm;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,6 +36,8 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,6 +61,22 @@ class EncryptMergedResultTest {
         assertThat(new EncryptMergedResult(metaData, mergedResult).getValue(1, String.class), is("VALUE"));
     }
     
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Test
+    void assertGetValueWithEncryptContextResolvedOnce() throws SQLException {
+        EncryptContext encryptContext = new EncryptContext("foo_db", "foo_schema", "t_encrypt", "order_id");
+        when(metaData.findEncryptContext(1)).thenReturn(Optional.of(encryptContext));
+        StandardEncryptAlgorithm encryptAlgorithm = mock(StandardEncryptAlgorithm.class);
+        when(encryptAlgorithm.decrypt("CIPHER_VALUE", encryptContext)).thenReturn("PLAIN_VALUE");
+        when(metaData.findStandardEncryptor("t_encrypt", "order_id")).thenReturn(Optional.of(encryptAlgorithm));
+        when(mergedResult.getValue(1, Object.class)).thenReturn("CIPHER_VALUE");
+        EncryptMergedResult actual = new EncryptMergedResult(metaData, mergedResult);
+        assertThat(actual.getValue(1, String.class), is("PLAIN_VALUE"));
+        assertThat(actual.getValue(1, String.class), is("PLAIN_VALUE"));
+        verify(metaData, times(1)).findEncryptContext(1);
+        verify(metaData, times(1)).findStandardEncryptor("t_encrypt", "order_id");
+    }
+    
     @Test
     void assertGetCalendarValue() throws SQLException {
         Calendar calendar = Calendar.getInstance();
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.readwritesplitting.exception.algorithm.ReadQueryLoadBalanceAlgorithmInitializationExcpetion;
+import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
+import org.apache.shardingsphere.readwritesplitting.statistic.DataSourceResponseStatistic;
+import org.apache.shardingsphere.readwritesplitting.statistic.DataSourceResponseStatisticRegistry;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptive read query load-balance algorithm.
+ * 
+ * <p>Picks two random read data sources and chooses the one with lower response time and fewer in flight executions.
+ * Read data source whose average response time exceeds threshold is ejected for a while, and is re-admitted automatically afterwards
+ * with median average response time of other read data sources.</p>
+ */
+public final class AdaptiveReadQueryLoadBalanceAlgorithm implements ReadQueryLoadBalanceAlgorithm {
+    
+    private static final String MAX_RESPONSE_MILLISECONDS_KEY = "max-response-milliseconds";
+    
+    private static final String EJECTION_MILLISECONDS_KEY = "ejection-milliseconds";
+    
+    private static final long DEFAULT_MAX_RESPONSE_MILLISECONDS = 1000L;
+    
+    private static final long DEFAULT_EJECTION_MILLISECONDS = 30000L;
+    
+    private long maxResponseNanos;
+    
+    private long ejectionNanos;
+    
+    private volatile Map<String, String> instanceKeys = Collections.emptyMap();
+    
+    @Override
+    public void init(final Properties props) {
+        maxResponseNanos = TimeUnit.MILLISECONDS.toNanos(getPositiveLong(props, MAX_RESPONSE_MILLISECONDS_KEY, DEFAULT_MAX_RESPONSE_MILLISECONDS));
+        ejectionNanos = TimeUnit.MILLISECONDS.toNanos(getPositiveLong(props, EJECTION_MILLISECONDS_KEY, DEFAULT_EJECTION_MILLISECONDS));
+    }
+    
+    private long getPositiveLong(final Properties props, final String key, final long defaultValue) {
+        String value = props.getProperty(key);
+        if (null == value) {
+            return defaultValue;
+        }
+        long result;
+        try {
+            result = Long.parseLong(value.trim());
+        } catch (final NumberFormatException ex) {
+            throw new ReadQueryLoadBalanceAlgorithmInitializationExcpetion(getType(), String.format("`%s` must be a number", key));
+        }
+        ShardingSpherePreconditions.checkState(result > 0L, () -> new ReadQueryLoadBalanceAlgorithmInitializationExcpetion(getType(), String.format("`%s` must be positive", key)));
+        return result;
+    }
+    
+    /**
+     * Set data source meta data, statistics of read data sources are looked up by their instances.
+     *
+     * @param dataSourceMetaDataMap data source meta data map, key is data source name
+     */
+    public void setDataSourceMetaData(final Map<String, DataSourceMetaData> dataSourceMetaDataMap) {
+        Map<String, String> result = new HashMap<>(dataSourceMetaDataMap.size(), 1F);
+        for (Entry<String, DataSourceMetaData> entry : dataSourceMetaDataMap.entrySet()) {
+            result.put(entry.getKey(), DataSourceResponseStatisticRegistry.getInstanceKey(entry.getValue()));
+        }
+        instanceKeys = result;
+        DataSourceResponseStatisticRegistry.enable();
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String writeDataSourceName, final List<String> readDataSourceNames) {
+        int size = readDataSourceNames.size();
+        if (1 == size) {
+            return readDataSourceNames.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(size);
+        int secondIndex = random.nextInt(size - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+        long nowNanos = System.nanoTime();
+        DataSourceResponseStatistic firstStatistic = getStatistic(readDataSourceNames.get(firstIndex));
+        DataSourceResponseStatistic secondStatistic = getStatistic(readDataSourceNames.get(secondIndex));
+        boolean firstAvailable = isAvailable(firstStatistic, nowNanos, readDataSourceNames);
+        boolean secondAvailable = isAvailable(secondStatistic, nowNanos, readDataSourceNames);
+        if (firstAvailable && secondAvailable) {
+            return readDataSourceNames.get(secondStatistic.getLoadScore() < firstStatistic.getLoadScore() ? secondIndex : firstIndex);
+        }
+        if (firstAvailable) {
+            return readDataSourceNames.get(firstIndex);
+        }
+        if (secondAvailable) {
+            return readDataSourceNames.get(secondIndex);
+        }
+        return findAvailableDataSource(readDataSourceNames, nowNanos, firstIndex);
+    }
+    
+    private DataSourceResponseStatistic getStatistic(final String dataSourceName) {
+        return DataSourceResponseStatisticRegistry.get(instanceKeys.getOrDefault(dataSourceName, dataSourceName));
+    }
+    
+    private boolean isAvailable(final DataSourceResponseStatistic statistic, final long nowNanos, final List<String> readDataSourceNames) {
+        if (statistic.isEjected(nowNanos)) {
+            return false;
+        }
+        if (statistic.isEjectionExpired(nowNanos)) {
+            statistic.readmit(getMedianResponseNanos(statistic, nowNanos, readDataSourceNames));
+        }
+        if (statistic.getAverageResponseNanos() > maxResponseNanos) {
+            statistic.eject(nowNanos + ejectionNanos);
+            return false;
+        }
+        return true;
+    }
+    
+    private double getMedianResponseNanos(final DataSourceResponseStatistic readmittedStatistic, final long nowNanos, final List<String> readDataSourceNames) {
+        double[] averageResponseNanos = new double[readDataSourceNames.size()];
+        int count = 0;
+        for (String each : readDataSourceNames) {
+            DataSourceResponseStatistic statistic = getStatistic(each);
+            if (statistic != readmittedStatistic && !statistic.isEjected(nowNanos) && !statistic.isEjectionExpired(nowNanos) && statistic.getAverageResponseNanos() > 0D) {
+                averageResponseNanos[count++] = statistic.getAverageResponseNanos();
+            }
+        }
+        if (0 == count) {
+            return maxResponseNanos;
+        }
+        Arrays.sort(averageResponseNanos, 0, count);
+        return averageResponseNanos[count / 2];
+    }
+    
+    private String findAvailableDataSource(final List<String> readDataSourceNames, final long nowNanos, final int defaultIndex) {
+        for (String each : readDataSourceNames) {
+            if (isAvailable(getStatistic(each), nowNanos, readDataSourceNames)) {
+                return each;
+            }
+        }
+        return readDataSourceNames.get(defaultIndex);
+    }
+    
+    @Override
+    public String getType() {
+        return "ADAPTIVE";
+    }
+}
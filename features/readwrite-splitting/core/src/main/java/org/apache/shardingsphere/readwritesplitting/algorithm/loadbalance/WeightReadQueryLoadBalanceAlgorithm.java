@@ -66,8 +66,11 @@ public final class WeightReadQueryLoadBalanceAlgorithm implements ReadQueryLoadB
     
     @Override
     public String getDataSource(final String name, final String writeDataSourceName, final List<String> readDataSourceNames) {
-        double[] weight = weightMap.containsKey(name) && weightMap.get(name).length == readDataSourceNames.size() ? weightMap.get(name) : initWeight(readDataSourceNames);
-        weightMap.put(name, weight);
+        double[] weight = weightMap.get(name);
+        if (null == weight || weight.length != readDataSourceNames.size()) {
+            weight = initWeight(readDataSourceNames);
+            weightMap.put(name, weight);
+        }
         return getDataSourceName(readDataSourceNames, weight);
     }
     
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.hook;
+
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.readwritesplitting.statistic.DataSourceResponseStatistic;
+import org.apache.shardingsphere.readwritesplitting.statistic.DataSourceResponseStatisticRegistry;
+
+import java.util.List;
+
+/**
+ * Data source response statistic SQL execution hook.
+ * 
+ * <p>Does nothing unless adaptive read query load-balance algorithm is in use.</p>
+ */
+public final class DataSourceResponseStatisticSQLExecutionHook implements SQLExecutionHook {
+    
+    private DataSourceResponseStatistic statistic;
+    
+    private long startNanos;
+    
+    @Override
+    public void start(final String dataSourceName, final String sql, final List<Object> params, final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread) {
+        if (!DataSourceResponseStatisticRegistry.isEnabled() || null == dataSourceMetaData) {
+            return;
+        }
+        statistic = DataSourceResponseStatisticRegistry.get(DataSourceResponseStatisticRegistry.getInstanceKey(dataSourceMetaData));
+        statistic.start();
+        startNanos = System.nanoTime();
+    }
+    
+    @Override
+    public void finishSuccess() {
+        finish(true);
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        finish(false);
+    }
+    
+    private void finish(final boolean success) {
+        if (null != statistic) {
+            statistic.finish(System.nanoTime() - startNanos, success);
+            statistic = null;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.statistic;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Data source response statistic.
+ */
+public final class DataSourceResponseStatistic {
+    
+    private static final double DECAY = 0.2D;
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private final AtomicLong averageResponseNanos = new AtomicLong(Double.doubleToLongBits(0D));
+    
+    private final AtomicLong ejectedUntilNanos = new AtomicLong();
+    
+    /**
+     * Record execution started.
+     */
+    public void start() {
+        inFlightCount.incrementAndGet();
+    }
+    
+    /**
+     * Record execution finished.
+     *
+     * @param responseNanos response time in nanoseconds
+     * @param success whether execution is succeeded
+     */
+    public void finish(final long responseNanos, final boolean success) {
+        inFlightCount.decrementAndGet();
+        while (true) {
+            long current = averageResponseNanos.get();
+            double average = Double.longBitsToDouble(current);
+            double sample = success ? responseNanos : Math.max(responseNanos, average * 2D);
+            double updated = 0D == average ? sample : average + DECAY * (sample - average);
+            if (averageResponseNanos.compareAndSet(current, Double.doubleToLongBits(updated))) {
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Get in flight execution count.
+     *
+     * @return in flight execution count
+     */
+    public int getInFlightCount() {
+        return Math.max(inFlightCount.get(), 0);
+    }
+    
+    /**
+     * Get exponentially weighted moving average of response time.
+     *
+     * @return average response time in nanoseconds, 0 if no execution finished
+     */
+    public double getAverageResponseNanos() {
+        return Double.longBitsToDouble(averageResponseNanos.get());
+    }
+    
+    /**
+     * Get load score, lower is better.
+     *
+     * @return load score
+     */
+    public double getLoadScore() {
+        return getAverageResponseNanos() * (getInFlightCount() + 1);
+    }
+    
+    /**
+     * Judge whether data source is ejected.
+     *
+     * @param nowNanos current nano time
+     * @return data source is ejected or not
+     */
+    public boolean isEjected(final long nowNanos) {
+        long ejectedUntil = ejectedUntilNanos.get();
+        return 0L != ejectedUntil && nowNanos - ejectedUntil < 0L;
+    }
+    
+    /**
+     * Judge whether ejection of data source is expired and data source is waiting for re-admission.
+     *
+     * @param nowNanos current nano time
+     * @return ejection is expired or not
+     */
+    public boolean isEjectionExpired(final long nowNanos) {
+        long ejectedUntil = ejectedUntilNanos.get();
+        return 0L != ejectedUntil && nowNanos - ejectedUntil >= 0L;
+    }
+    
+    /**
+     * Eject data source.
+     *
+     * @param ejectedUntilNanos nano time until which data source is ejected
+     */
+    public void eject(final long ejectedUntilNanos) {
+        this.ejectedUntilNanos.set(ejectedUntilNanos);
+    }
+    
+    /**
+     * Re-admit ejected data source with response time to start from.
+     * 
+     * <p>Response time should not be 0, otherwise re-admitted data source looks fastest and is flooded before it is measured again.</p>
+     *
+     * @param averageResponseNanos average response time in nanoseconds to start from
+     */
+    public void readmit(final double averageResponseNanos) {
+        long ejectedUntil = ejectedUntilNanos.get();
+        if (0L != ejectedUntil && ejectedUntilNanos.compareAndSet(ejectedUntil, 0L)) {
+            this.averageResponseNanos.set(Double.doubleToLongBits(averageResponseNanos));
+        }
+    }
+}
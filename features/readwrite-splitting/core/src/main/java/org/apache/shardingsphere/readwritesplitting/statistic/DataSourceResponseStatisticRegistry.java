@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.statistic;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Data source response statistic registry.
+ * 
+ * <p>Statistics are kept per physical data source instance, so same data source name in different logic databases does not share statistic.
+ * Statistics are recorded only after an adaptive read query load-balance algorithm is in use.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataSourceResponseStatisticRegistry {
+    
+    private static final Map<String, DataSourceResponseStatistic> STATISTICS = new ConcurrentHashMap<>();
+    
+    private static volatile boolean enabled;
+    
+    /**
+     * Enable recording data source response statistics.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+    
+    /**
+     * Judge whether recording data source response statistics is enabled.
+     *
+     * @return recording data source response statistics is enabled or not
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Get instance key of data source.
+     *
+     * @param dataSourceMetaData data source meta data
+     * @return instance key
+     */
+    public static String getInstanceKey(final DataSourceMetaData dataSourceMetaData) {
+        return String.format("%s:%d/%s/%s", dataSourceMetaData.getHostname(), dataSourceMetaData.getPort(), dataSourceMetaData.getCatalog(), dataSourceMetaData.getSchema());
+    }
+    
+    /**
+     * Get data source response statistic.
+     *
+     * @param instanceKey instance key of data source
+     * @return data source response statistic
+     */
+    public static DataSourceResponseStatistic get(final String instanceKey) {
+        DataSourceResponseStatistic result = STATISTICS.get(instanceKey);
+        if (null == result) {
+            result = new DataSourceResponseStatistic();
+            DataSourceResponseStatistic previous = STATISTICS.putIfAbsent(instanceKey, result);
+            if (null != previous) {
+                result = previous;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Clear all data source response statistics.
+     */
+    public static void clear() {
+        STATISTICS.clear();
+        enabled = false;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.readwritesplitting.exception.algorithm.ReadQueryLoadBalanceAlgorithmInitializationExcpetion;
+import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
+import org.apache.shardingsphere.readwritesplitting.statistic.DataSourceResponseStatistic;
+import org.apache.shardingsphere.readwritesplitting.statistic.DataSourceResponseStatisticRegistry;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AdaptiveReadQueryLoadBalanceAlgorithmTest {
+    
+    private final List<String> readDataSourceNames = Arrays.asList("test_read_ds_1", "test_read_ds_2");
+    
+    @AfterEach
+    void tearDown() {
+        DataSourceResponseStatisticRegistry.clear();
+    }
+    
+    @Test
+    void assertGetSingleReadDataSource() {
+        ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, "ADAPTIVE", new Properties());
+        assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", Collections.singletonList("test_read_ds_1")), is("test_read_ds_1"));
+    }
+    
+    @Test
+    void assertGetFasterReadDataSource() {
+        ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, "ADAPTIVE", new Properties());
+        recordResponse("test_read_ds_1", 50L, true);
+        recordResponse("test_read_ds_2", 5L, true);
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("test_read_ds_2"));
+        }
+    }
+    
+    @Test
+    void assertGetLessLoadedReadDataSource() {
+        ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, "ADAPTIVE", new Properties());
+        recordResponse("test_read_ds_1", 5L, true);
+        recordResponse("test_read_ds_2", 5L, true);
+        DataSourceResponseStatistic busyStatistic = DataSourceResponseStatisticRegistry.get("test_read_ds_1");
+        busyStatistic.start();
+        busyStatistic.start();
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("test_read_ds_2"));
+        }
+    }
+    
+    @Test
+    void assertEjectSlowReadDataSource() {
+        ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class,
+                "ADAPTIVE", PropertiesBuilder.build(new Property("max-response-milliseconds", "10"), new Property("ejection-milliseconds", "60000")));
+        recordResponse("test_read_ds_1", 100L, true);
+        recordResponse("test_read_ds_2", 1L, true);
+        assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("test_read_ds_2"));
+        DataSourceResponseStatistic ejectedStatistic = DataSourceResponseStatisticRegistry.get("test_read_ds_1");
+        long nowNanos = System.nanoTime();
+        assertTrue(ejectedStatistic.isEjected(nowNanos));
+        assertThat(ejectedStatistic.getAverageResponseNanos(), is((double) TimeUnit.MILLISECONDS.toNanos(100L)));
+        assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("test_read_ds_2"));
+        assertFalse(ejectedStatistic.isEjected(nowNanos + TimeUnit.MINUTES.toNanos(2L)));
+    }
+    
+    @Test
+    void assertReAdmitEjectedReadDataSource() {
+        recordResponse("test_read_ds_1", 100L, true);
+        recordResponse("test_read_ds_2", 5L, true);
+        DataSourceResponseStatistic readmittedStatistic = DataSourceResponseStatisticRegistry.get("test_read_ds_1");
+        readmittedStatistic.eject(System.nanoTime() - 1L);
+        ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class,
+                "ADAPTIVE", PropertiesBuilder.build(new Property("max-response-milliseconds", "10")));
+        assertTrue(readDataSourceNames.contains(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames)));
+        assertFalse(readmittedStatistic.isEjected(System.nanoTime()));
+        assertFalse(readmittedStatistic.isEjectionExpired(System.nanoTime()));
+        assertThat(readmittedStatistic.getAverageResponseNanos(), is((double) TimeUnit.MILLISECONDS.toNanos(5L)));
+    }
+    
+    @Test
+    void assertReAdmitEjectedReadDataSourceWithoutMeasuredPeer() {
+        recordResponse("test_read_ds_1", 100L, true);
+        DataSourceResponseStatistic readmittedStatistic = DataSourceResponseStatisticRegistry.get("test_read_ds_1");
+        readmittedStatistic.eject(System.nanoTime() - 1L);
+        ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class,
+                "ADAPTIVE", PropertiesBuilder.build(new Property("max-response-milliseconds", "10")));
+        loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames);
+        assertThat(readmittedStatistic.getAverageResponseNanos(), is((double) TimeUnit.MILLISECONDS.toNanos(10L)));
+    }
+    
+    @Test
+    void assertGetDataSourceWithSameNameInDifferentDatabases() {
+        AdaptiveReadQueryLoadBalanceAlgorithm fooLoadBalanceAlgorithm = (AdaptiveReadQueryLoadBalanceAlgorithm) TypedSPILoader.getService(
+                ReadQueryLoadBalanceAlgorithm.class, "ADAPTIVE", new Properties());
+        fooLoadBalanceAlgorithm.setDataSourceMetaData(createDataSourceMetaDataMap("foo_host"));
+        AdaptiveReadQueryLoadBalanceAlgorithm barLoadBalanceAlgorithm = (AdaptiveReadQueryLoadBalanceAlgorithm) TypedSPILoader.getService(
+                ReadQueryLoadBalanceAlgorithm.class, "ADAPTIVE", new Properties());
+        barLoadBalanceAlgorithm.setDataSourceMetaData(createDataSourceMetaDataMap("bar_host"));
+        recordResponse("foo_host_1:3306/foo_db/null", 50L, true);
+        recordResponse("foo_host_2:3306/foo_db/null", 5L, true);
+        recordResponse("bar_host_1:3306/foo_db/null", 5L, true);
+        recordResponse("bar_host_2:3306/foo_db/null", 50L, true);
+        for (int i = 0; i < 10; i++) {
+            assertThat(fooLoadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("test_read_ds_2"));
+            assertThat(barLoadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("test_read_ds_1"));
+        }
+    }
+    
+    @Test
+    void assertGetDataSourceWhenAllReadDataSourcesEjected() {
+        ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, "ADAPTIVE", new Properties());
+        long ejectedUntilNanos = System.nanoTime() + TimeUnit.MINUTES.toNanos(1L);
+        DataSourceResponseStatisticRegistry.get("test_read_ds_1").eject(ejectedUntilNanos);
+        DataSourceResponseStatisticRegistry.get("test_read_ds_2").eject(ejectedUntilNanos);
+        assertTrue(readDataSourceNames.contains(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames)));
+    }
+    
+    @Test
+    void assertRecordFailureResponse() {
+        recordResponse("test_read_ds_1", 10L, true);
+        recordResponse("test_read_ds_1", 1L, false);
+        assertThat(DataSourceResponseStatisticRegistry.get("test_read_ds_1").getAverageResponseNanos(), is((double) TimeUnit.MILLISECONDS.toNanos(12L)));
+    }
+    
+    @Test
+    void assertInitWithInvalidProperty() {
+        assertThrows(ReadQueryLoadBalanceAlgorithmInitializationExcpetion.class,
+                () -> TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, "ADAPTIVE", PropertiesBuilder.build(new Property("max-response-milliseconds", "0"))));
+        assertThrows(ReadQueryLoadBalanceAlgorithmInitializationExcpetion.class,
+                () -> TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, "ADAPTIVE", PropertiesBuilder.build(new Property("ejection-milliseconds", "foo"))));
+    }
+    
+    private Map<String, DataSourceMetaData> createDataSourceMetaDataMap(final String hostnamePrefix) {
+        Map<String, DataSourceMetaData> result = new HashMap<>(2, 1F);
+        result.put("test_read_ds_1", mockDataSourceMetaData(hostnamePrefix + "_1"));
+        result.put("test_read_ds_2", mockDataSourceMetaData(hostnamePrefix + "_2"));
+        return result;
+    }
+    
+    private DataSourceMetaData mockDataSourceMetaData(final String hostname) {
+        DataSourceMetaData result = mock(DataSourceMetaData.class);
+        when(result.getHostname()).thenReturn(hostname);
+        when(result.getPort()).thenReturn(3306);
+        when(result.getCatalog()).thenReturn("foo_db");
+        return result;
+    }
+    
+    private void recordResponse(final String dataSourceName, final long responseMilliseconds, final boolean success) {
+        DataSourceResponseStatistic statistic = DataSourceResponseStatisticRegistry.get(dataSourceName);
+        statistic.start();
+        statistic.finish(TimeUnit.MILLISECONDS.toNanos(responseMilliseconds), success);
+    }
+}
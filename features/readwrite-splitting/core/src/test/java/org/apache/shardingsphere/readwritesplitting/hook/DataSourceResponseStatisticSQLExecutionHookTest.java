@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.hook;
+
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.readwritesplitting.statistic.DataSourceResponseStatistic;
+import org.apache.shardingsphere.readwritesplitting.statistic.DataSourceResponseStatisticRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DataSourceResponseStatisticSQLExecutionHookTest {
+    
+    private static final String INSTANCE_KEY = "127.0.0.1:3306/foo_db/null";
+    
+    private final DataSourceMetaData dataSourceMetaData = mockDataSourceMetaData();
+    
+    @AfterEach
+    void tearDown() {
+        DataSourceResponseStatisticRegistry.clear();
+    }
+    
+    @Test
+    void assertStartWhenDisabled() {
+        DataSourceResponseStatisticSQLExecutionHook hook = new DataSourceResponseStatisticSQLExecutionHook();
+        hook.start("read_ds", "SELECT 1", Collections.emptyList(), dataSourceMetaData, true);
+        assertThat(DataSourceResponseStatisticRegistry.get(INSTANCE_KEY).getInFlightCount(), is(0));
+        hook.finishSuccess();
+        assertThat(DataSourceResponseStatisticRegistry.get(INSTANCE_KEY).getAverageResponseNanos(), is(0D));
+    }
+    
+    @Test
+    void assertFinishSuccess() {
+        DataSourceResponseStatisticRegistry.enable();
+        DataSourceResponseStatisticSQLExecutionHook hook = new DataSourceResponseStatisticSQLExecutionHook();
+        hook.start("read_ds", "SELECT 1", Collections.emptyList(), dataSourceMetaData, true);
+        DataSourceResponseStatistic actual = DataSourceResponseStatisticRegistry.get(INSTANCE_KEY);
+        assertThat(actual.getInFlightCount(), is(1));
+        hook.finishSuccess();
+        assertThat(actual.getInFlightCount(), is(0));
+        assertTrue(actual.getAverageResponseNanos() > 0D);
+    }
+    
+    @Test
+    void assertFinishFailure() {
+        DataSourceResponseStatisticRegistry.enable();
+        DataSourceResponseStatisticSQLExecutionHook hook = new DataSourceResponseStatisticSQLExecutionHook();
+        hook.start("read_ds", "SELECT 1", Collections.emptyList(), dataSourceMetaData, false);
+        hook.finishFailure(new SQLException(""));
+        hook.finishFailure(new SQLException(""));
+        assertThat(DataSourceResponseStatisticRegistry.get(INSTANCE_KEY).getInFlightCount(), is(0));
+    }
+    
+    private DataSourceMetaData mockDataSourceMetaData() {
+        DataSourceMetaData result = mock(DataSourceMetaData.class);
+        when(result.getHostname()).thenReturn("127.0.0.1");
+        when(result.getPort()).thenReturn(3306);
+        when(result.getCatalog()).thenReturn("foo_db");
+        return result;
+    }
+}
@@ -26,11 +26,14 @@ import org.apache.shardingsphere.mode.event.storage.StorageNodeRole;
 import org.apache.shardingsphere.mode.event.storage.StorageNodeDataSourceChangedEvent;
 import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
+import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
 import org.junit.jupiter.api.Test;
 
+import javax.sql.DataSource;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
@@ -102,4 +105,19 @@ class ReadwriteSplittingRuleTest {
         Map<String, Collection<String>> expected = Collections.singletonMap("readwrite", Arrays.asList("write_ds", "read_ds_0", "read_ds_1"));
         assertThat(actual, is(expected));
     }
+    
+    @Test
+    void assertCreateAdaptiveLoadBalancerWithDataSourceWithoutURL() {
+        MockedDataSource dataSourceWithoutURL = new MockedDataSource();
+        dataSourceWithoutURL.setUrl(null);
+        Map<String, DataSource> dataSources = new LinkedHashMap<>(3, 1F);
+        dataSources.put("write_ds", new MockedDataSource());
+        dataSources.put("read_ds_0", dataSourceWithoutURL);
+        dataSources.put("read_ds_1", new MockedDataSource());
+        ReadwriteSplittingDataSourceRuleConfiguration config =
+                new ReadwriteSplittingDataSourceRuleConfiguration("readwrite", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), "adaptive");
+        ReadwriteSplittingRule actual = new ReadwriteSplittingRule("logic_db", new ReadwriteSplittingRuleConfiguration(
+                Collections.singleton(config), Collections.singletonMap("adaptive", new AlgorithmConfiguration("ADAPTIVE", new Properties()))), dataSources, mock(InstanceContext.class));
+        assertThat(actual.getSingleDataSourceRule().getLoadBalancer().getType(), is("ADAPTIVE"));
+    }
 }
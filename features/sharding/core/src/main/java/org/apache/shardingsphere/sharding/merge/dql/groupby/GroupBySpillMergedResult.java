@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.CompareUtils;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.NullsOrderType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+/**
+ * Spill merged result for group by.
+ * 
+ * <p>Rows of all query results are sorted by group by items with {@link SpillableRowSorter}, aggregated as a stream,
+ * and then sorted by order by items again, so rows exceeding spill threshold are held in local temporary files instead of memory.
+ * Rows are never spilled if spill threshold is less than or equal to 0.</p>
+ */
+public final class GroupBySpillMergedResult implements MergedResult {
+    
+    private final boolean approximateDistinctCount;
+    
+    private final SpillableRowSorter sortedRows;
+    
+    private boolean wasNull;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                    final ShardingSphereSchema schema, final int spillThreshold, final boolean approximateDistinctCount) throws SQLException {
+        this.approximateDistinctCount = approximateDistinctCount;
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty()
+                ? Collections.emptyList()
+                : GroupByMemoryMergedResult.getValueCaseSensitive(queryResults.get(0), selectStatementContext, schema);
+        SpillableRowSorter groupedRows = new SpillableRowSorter(new GroupByItemsComparator(selectStatementContext.getGroupByContext().getItems()), spillThreshold);
+        sortedRows = new SpillableRowSorter(new GroupByRowComparator(selectStatementContext, valueCaseSensitive), spillThreshold);
+        try {
+            for (QueryResult each : queryResults) {
+                while (each.next()) {
+                    groupedRows.add(new MemoryQueryResultRow(each));
+                }
+            }
+            aggregateGroups(selectStatementContext, groupedRows, sortedRows);
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            sortedRows.close();
+            throw ex;
+        } finally {
+            groupedRows.close();
+        }
+    }
+    
+    private void aggregateGroups(final SelectStatementContext selectStatementContext, final SpillableRowSorter groupedRows, final SpillableRowSorter result) {
+        Comparator<MemoryQueryResultRow> groupByItemsComparator = new GroupByItemsComparator(selectStatementContext.getGroupByContext().getItems());
+        boolean hasNext = groupedRows.next();
+        if (!hasNext) {
+            Object[] data = GroupByMemoryMergedResult.generateReturnData(selectStatementContext);
+            if (Arrays.stream(data).anyMatch(Objects::nonNull)) {
+                result.add(new MemoryQueryResultRow(data));
+            }
+            return;
+        }
+        while (hasNext) {
+            MemoryQueryResultRow groupRow = groupedRows.getCurrentRow();
+            Map<AggregationProjection, AggregationUnit> aggregationUnitMap = createAggregationUnitMap(selectStatementContext);
+            do {
+                aggregate(aggregationUnitMap, groupedRows.getCurrentRow());
+                hasNext = groupedRows.next();
+            } while (hasNext && 0 == groupByItemsComparator.compare(groupRow, groupedRows.getCurrentRow()));
+            for (Entry<AggregationProjection, AggregationUnit> entry : aggregationUnitMap.entrySet()) {
+                groupRow.setCell(entry.getKey().getIndex(), entry.getValue().getResult());
+            }
+            result.add(groupRow);
+        }
+    }
+    
+    private Map<AggregationProjection, AggregationUnit> createAggregationUnitMap(final SelectStatementContext selectStatementContext) {
+        Collection<AggregationProjection> aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections();
+        Map<AggregationProjection, AggregationUnit> result = new LinkedHashMap<>(aggregationProjections.size(), 1F);
+        for (AggregationProjection each : aggregationProjections) {
+            result.put(each, AggregationUnitFactory.create(each.getType(), each instanceof AggregationDistinctProjection, approximateDistinctCount));
+        }
+        return result;
+    }
+    
+    private void aggregate(final Map<AggregationProjection, AggregationUnit> aggregationUnitMap, final MemoryQueryResultRow row) {
+        for (Entry<AggregationProjection, AggregationUnit> entry : aggregationUnitMap.entrySet()) {
+            List<Comparable<?>> values = new ArrayList<>(2);
+            if (entry.getKey().getDerivedAggregationProjections().isEmpty()) {
+                values.add(getAggregationValue(row, entry.getKey()));
+            } else {
+                for (AggregationProjection each : entry.getKey().getDerivedAggregationProjections()) {
+                    values.add(getAggregationValue(row, each));
+                }
+            }
+            entry.getValue().merge(values);
+        }
+    }
+    
+    private Comparable<?> getAggregationValue(final MemoryQueryResultRow row, final AggregationProjection aggregationProjection) {
+        Object result = row.getCell(aggregationProjection.getIndex());
+        ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", result));
+        return (Comparable<?>) result;
+    }
+    
+    @Override
+    public boolean next() {
+        return sortedRows.next();
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = sortedRows.getCurrentRow().getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = sortedRows.getCurrentRow().getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Get Character stream");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() {
+        sortedRows.close();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class GroupByItemsComparator implements Comparator<MemoryQueryResultRow> {
+        
+        private final Collection<OrderByItem> groupByItems;
+        
+        @SuppressWarnings("rawtypes")
+        @Override
+        public int compare(final MemoryQueryResultRow o1, final MemoryQueryResultRow o2) {
+            for (OrderByItem each : groupByItems) {
+                Object groupValue1 = o1.getCell(each.getIndex());
+                ShardingSpherePreconditions.checkState(null == groupValue1 || groupValue1 instanceof Comparable, () -> new NotImplementComparableValueException("Group by", groupValue1));
+                Object groupValue2 = o2.getCell(each.getIndex());
+                ShardingSpherePreconditions.checkState(null == groupValue2 || groupValue2 instanceof Comparable, () -> new NotImplementComparableValueException("Group by", groupValue2));
+                int result = CompareUtils.compareTo((Comparable) groupValue1, (Comparable) groupValue2, OrderDirection.ASC, NullsOrderType.FIRST, true);
+                if (0 != result) {
+                    return result;
+                }
+            }
+            return 0;
+        }
+    }
+}
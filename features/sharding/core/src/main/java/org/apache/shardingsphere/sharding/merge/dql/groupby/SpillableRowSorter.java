@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.exception.data.MergeSpillFailedException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Spillable row sorter.
+ * 
+ * <p>Rows are buffered in memory until the buffered row count reaches spill threshold, then the buffer is sorted and written to a local temporary file as a sorted run.
+ * Sorted runs and the remaining buffer are merged back as a stream, so memory usage is bounded by spill threshold plus one row per sorted run.
+ * At most {@value #MAX_MERGE_FAN_IN} runs are opened at the same time, more runs are merged into bigger runs in advance.
+ * Temporary files are deleted once their rows are exhausted or the sorter is closed.</p>
+ */
+public final class SpillableRowSorter implements AutoCloseable {
+    
+    static final int MAX_MERGE_FAN_IN = 64;
+    
+    private final Comparator<MemoryQueryResultRow> comparator;
+    
+    private final int spillThreshold;
+    
+    private final List<MemoryQueryResultRow> buffer;
+    
+    private final LinkedList<SortedRun> sortedRuns = new LinkedList<>();
+    
+    private PriorityQueue<SortedRun> mergingRuns;
+    
+    @Getter
+    private MemoryQueryResultRow currentRow;
+    
+    public SpillableRowSorter(final Comparator<MemoryQueryResultRow> comparator, final int spillThreshold) {
+        this.comparator = comparator;
+        this.spillThreshold = spillThreshold;
+        buffer = new ArrayList<>(spillThreshold > 0 ? Math.min(spillThreshold, 1024) : 1024);
+    }
+    
+    /**
+     * Add row.
+     *
+     * @param row row to be added
+     * @throws MergeSpillFailedException merge spill failed exception
+     */
+    public void add(final MemoryQueryResultRow row) {
+        buffer.add(row);
+        if (spillThreshold > 0 && buffer.size() >= spillThreshold) {
+            buffer.sort(comparator);
+            sortedRuns.add(writeRun(buffer.iterator()));
+            buffer.clear();
+        }
+    }
+    
+    /**
+     * Judge whether rows have been spilled to disk.
+     *
+     * @return rows have been spilled or not
+     */
+    public boolean isSpilled() {
+        return !sortedRuns.isEmpty();
+    }
+    
+    private FileSortedRun writeRun(final Iterator<MemoryQueryResultRow> rows) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("shardingsphere-merge-", ".run");
+            try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+                while (rows.hasNext()) {
+                    outputStream.writeBoolean(true);
+                    SpilledRowCodec.write(outputStream, rows.next().getData());
+                }
+                outputStream.writeBoolean(false);
+            }
+            return new FileSortedRun(file);
+        } catch (final IOException | SQLException ex) {
+            deleteQuietly(file);
+            throw new MergeSpillFailedException(ex.getMessage());
+        } catch (final MergeSpillFailedException ex) {
+            deleteQuietly(file);
+            throw ex;
+        }
+    }
+    
+    private static void deleteQuietly(final Path file) {
+        if (null == file) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException ignored) {
+        }
+    }
+    
+    /**
+     * Iterate next row in sorted order.
+     *
+     * @return has next row or not
+     * @throws MergeSpillFailedException merge spill failed exception
+     */
+    public boolean next() {
+        if (null == mergingRuns) {
+            buffer.sort(comparator);
+            sortedRuns.add(new MemorySortedRun(buffer.iterator()));
+            mergingRuns = createMergingRuns(sortedRuns);
+        }
+        if (mergingRuns.isEmpty()) {
+            currentRow = null;
+            close();
+            return false;
+        }
+        currentRow = pollNextRow(mergingRuns);
+        return true;
+    }
+    
+    private PriorityQueue<SortedRun> createMergingRuns(final List<SortedRun> runs) {
+        while (runs.size() > MAX_MERGE_FAN_IN) {
+            List<SortedRun> mergedRuns = new ArrayList<>(MAX_MERGE_FAN_IN);
+            for (int i = 0; i < MAX_MERGE_FAN_IN; i++) {
+                mergedRuns.add(runs.remove(0));
+            }
+            runs.add(mergeRuns(mergedRuns));
+        }
+        PriorityQueue<SortedRun> result = new PriorityQueue<>(runs.size(), (o1, o2) -> comparator.compare(o1.getCurrentRow(), o2.getCurrentRow()));
+        for (SortedRun each : runs) {
+            if (each.next()) {
+                result.offer(each);
+            } else {
+                each.close();
+            }
+        }
+        return result;
+    }
+    
+    private SortedRun mergeRuns(final List<SortedRun> runs) {
+        PriorityQueue<SortedRun> mergingRuns = createMergingRuns(runs);
+        try {
+            return writeRun(new Iterator<MemoryQueryResultRow>() {
+                
+                @Override
+                public boolean hasNext() {
+                    return !mergingRuns.isEmpty();
+                }
+                
+                @Override
+                public MemoryQueryResultRow next() {
+                    if (mergingRuns.isEmpty()) {
+                        throw new NoSuchElementException();
+                    }
+                    return pollNextRow(mergingRuns);
+                }
+            });
+        } finally {
+            runs.forEach(SortedRun::close);
+        }
+    }
+    
+    private MemoryQueryResultRow pollNextRow(final PriorityQueue<SortedRun> runs) {
+        SortedRun run = runs.poll();
+        MemoryQueryResultRow result = run.getCurrentRow();
+        if (run.next()) {
+            runs.offer(run);
+        } else {
+            run.close();
+        }
+        return result;
+    }
+    
+    @Override
+    public void close() {
+        sortedRuns.forEach(SortedRun::close);
+        sortedRuns.clear();
+        buffer.clear();
+    }
+    
+    private interface SortedRun {
+        
+        boolean next();
+        
+        MemoryQueryResultRow getCurrentRow();
+        
+        void close();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class MemorySortedRun implements SortedRun {
+        
+        private final Iterator<MemoryQueryResultRow> rows;
+        
+        @Getter
+        private MemoryQueryResultRow currentRow;
+        
+        @Override
+        public boolean next() {
+            if (!rows.hasNext()) {
+                return false;
+            }
+            currentRow = rows.next();
+            return true;
+        }
+        
+        @Override
+        public void close() {
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class FileSortedRun implements SortedRun {
+        
+        private final Path file;
+        
+        private DataInputStream inputStream;
+        
+        @Getter
+        private MemoryQueryResultRow currentRow;
+        
+        private boolean closed;
+        
+        @Override
+        public boolean next() {
+            try {
+                if (null == inputStream) {
+                    inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+                }
+                if (!inputStream.readBoolean()) {
+                    return false;
+                }
+                currentRow = new MemoryQueryResultRow(SpilledRowCodec.read(inputStream));
+                return true;
+            } catch (final IOException | SQLException | ClassNotFoundException ex) {
+                throw new MergeSpillFailedException(ex.getMessage());
+            }
+        }
+        
+        @SneakyThrows(IOException.class)
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            currentRow = null;
+            if (null != inputStream) {
+                inputStream.close();
+            }
+            Files.deleteIfExists(file);
+        }
+    }
+}
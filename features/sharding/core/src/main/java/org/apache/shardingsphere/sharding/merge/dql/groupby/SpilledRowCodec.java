@@ -0,0 +1,283 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sharding.exception.data.MergeSpillFailedException;
+
+import javax.sql.rowset.serial.SerialBlob;
+import javax.sql.rowset.serial.SerialClob;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Date;
+
+/**
+ * Spilled row codec.
+ * 
+ * <p>Values are written with a type tag, so common JDBC values which are not {@link Serializable} such as {@link Blob} and {@link Clob} can be spilled too.
+ * Java serialization is only the fallback for other serializable values.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class SpilledRowCodec {
+    
+    private static final byte NULL = 0;
+    
+    private static final byte STRING = 1;
+    
+    private static final byte INTEGER = 2;
+    
+    private static final byte LONG = 3;
+    
+    private static final byte SHORT = 4;
+    
+    private static final byte BYTE = 5;
+    
+    private static final byte BOOLEAN = 6;
+    
+    private static final byte FLOAT = 7;
+    
+    private static final byte DOUBLE = 8;
+    
+    private static final byte BIG_DECIMAL = 9;
+    
+    private static final byte BIG_INTEGER = 10;
+    
+    private static final byte SQL_DATE = 11;
+    
+    private static final byte SQL_TIME = 12;
+    
+    private static final byte SQL_TIMESTAMP = 13;
+    
+    private static final byte DATE = 14;
+    
+    private static final byte BYTES = 15;
+    
+    private static final byte LOCAL_DATE = 16;
+    
+    private static final byte LOCAL_TIME = 17;
+    
+    private static final byte LOCAL_DATE_TIME = 18;
+    
+    private static final byte BLOB = 19;
+    
+    private static final byte CLOB = 20;
+    
+    private static final byte SERIALIZABLE = 21;
+    
+    /**
+     * Write row.
+     *
+     * @param outputStream output stream
+     * @param row row data
+     * @throws IOException IO exception
+     * @throws SQLException SQL exception
+     * @throws MergeSpillFailedException merge spill failed exception
+     */
+    static void write(final DataOutputStream outputStream, final Object[] row) throws IOException, SQLException {
+        outputStream.writeInt(row.length);
+        for (Object each : row) {
+            writeValue(outputStream, each);
+        }
+    }
+    
+    private static void writeValue(final DataOutputStream outputStream, final Object value) throws IOException, SQLException {
+        if (null == value) {
+            outputStream.writeByte(NULL);
+        } else if (value instanceof String) {
+            outputStream.writeByte(STRING);
+            writeBytes(outputStream, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Integer) {
+            outputStream.writeByte(INTEGER);
+            outputStream.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            outputStream.writeByte(LONG);
+            outputStream.writeLong((Long) value);
+        } else if (value instanceof Short) {
+            outputStream.writeByte(SHORT);
+            outputStream.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            outputStream.writeByte(BYTE);
+            outputStream.writeByte((Byte) value);
+        } else if (value instanceof Boolean) {
+            outputStream.writeByte(BOOLEAN);
+            outputStream.writeBoolean((Boolean) value);
+        } else if (value instanceof Float) {
+            outputStream.writeByte(FLOAT);
+            outputStream.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            outputStream.writeByte(DOUBLE);
+            outputStream.writeDouble((Double) value);
+        } else if (value instanceof BigDecimal) {
+            outputStream.writeByte(BIG_DECIMAL);
+            outputStream.writeInt(((BigDecimal) value).scale());
+            writeBytes(outputStream, ((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (value instanceof BigInteger) {
+            outputStream.writeByte(BIG_INTEGER);
+            writeBytes(outputStream, ((BigInteger) value).toByteArray());
+        } else if (value instanceof java.sql.Date) {
+            outputStream.writeByte(SQL_DATE);
+            outputStream.writeLong(((java.sql.Date) value).getTime());
+        } else if (value instanceof Time) {
+            outputStream.writeByte(SQL_TIME);
+            outputStream.writeLong(((Time) value).getTime());
+        } else if (value instanceof Timestamp) {
+            outputStream.writeByte(SQL_TIMESTAMP);
+            outputStream.writeLong(((Timestamp) value).getTime());
+            outputStream.writeInt(((Timestamp) value).getNanos());
+        } else if (value instanceof Date) {
+            outputStream.writeByte(DATE);
+            outputStream.writeLong(((Date) value).getTime());
+        } else if (value instanceof byte[]) {
+            outputStream.writeByte(BYTES);
+            writeBytes(outputStream, (byte[]) value);
+        } else if (value instanceof LocalDate) {
+            outputStream.writeByte(LOCAL_DATE);
+            outputStream.writeLong(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalTime) {
+            outputStream.writeByte(LOCAL_TIME);
+            outputStream.writeLong(((LocalTime) value).toNanoOfDay());
+        } else if (value instanceof LocalDateTime) {
+            outputStream.writeByte(LOCAL_DATE_TIME);
+            outputStream.writeLong(((LocalDateTime) value).toLocalDate().toEpochDay());
+            outputStream.writeLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+        } else if (value instanceof Blob) {
+            outputStream.writeByte(BLOB);
+            writeBytes(outputStream, ((Blob) value).getBytes(1L, (int) ((Blob) value).length()));
+        } else if (value instanceof Clob) {
+            outputStream.writeByte(CLOB);
+            writeBytes(outputStream, ((Clob) value).getSubString(1L, (int) ((Clob) value).length()).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Serializable) {
+            outputStream.writeByte(SERIALIZABLE);
+            writeBytes(outputStream, serialize(value));
+        } else {
+            throw new MergeSpillFailedException(String.format("value type `%s` is not supported", value.getClass().getName()));
+        }
+    }
+    
+    private static void writeBytes(final DataOutputStream outputStream, final byte[] value) throws IOException {
+        outputStream.writeInt(value.length);
+        outputStream.write(value);
+    }
+    
+    private static byte[] serialize(final Object value) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(result)) {
+            objectOutputStream.writeObject(value);
+        }
+        return result.toByteArray();
+    }
+    
+    /**
+     * Read row.
+     *
+     * @param inputStream input stream
+     * @return row data
+     * @throws IOException IO exception
+     * @throws SQLException SQL exception
+     * @throws ClassNotFoundException class not found exception
+     */
+    static Object[] read(final DataInputStream inputStream) throws IOException, SQLException, ClassNotFoundException {
+        Object[] result = new Object[inputStream.readInt()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = readValue(inputStream);
+        }
+        return result;
+    }
+    
+    private static Object readValue(final DataInputStream inputStream) throws IOException, SQLException, ClassNotFoundException {
+        byte type = inputStream.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return new String(readBytes(inputStream), StandardCharsets.UTF_8);
+            case INTEGER:
+                return inputStream.readInt();
+            case LONG:
+                return inputStream.readLong();
+            case SHORT:
+                return inputStream.readShort();
+            case BYTE:
+                return inputStream.readByte();
+            case BOOLEAN:
+                return inputStream.readBoolean();
+            case FLOAT:
+                return inputStream.readFloat();
+            case DOUBLE:
+                return inputStream.readDouble();
+            case BIG_DECIMAL:
+                int scale = inputStream.readInt();
+                return new BigDecimal(new BigInteger(readBytes(inputStream)), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(inputStream));
+            case SQL_DATE:
+                return new java.sql.Date(inputStream.readLong());
+            case SQL_TIME:
+                return new Time(inputStream.readLong());
+            case SQL_TIMESTAMP:
+                Timestamp timestamp = new Timestamp(inputStream.readLong());
+                timestamp.setNanos(inputStream.readInt());
+                return timestamp;
+            case DATE:
+                return new Date(inputStream.readLong());
+            case BYTES:
+                return readBytes(inputStream);
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(inputStream.readLong());
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(inputStream.readLong());
+            case LOCAL_DATE_TIME:
+                LocalDate localDate = LocalDate.ofEpochDay(inputStream.readLong());
+                return LocalDateTime.of(localDate, LocalTime.ofNanoOfDay(inputStream.readLong()));
+            case BLOB:
+                return new SerialBlob(readBytes(inputStream));
+            case CLOB:
+                return new SerialClob(new String(readBytes(inputStream), StandardCharsets.UTF_8).toCharArray());
+            case SERIALIZABLE:
+                try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(readBytes(inputStream)))) {
+                    return objectInputStream.readObject();
+                }
+            default:
+                throw new MergeSpillFailedException(String.format("unknown value type tag `%s`", type));
+        }
+    }
+    
+    private static byte[] readBytes(final DataInputStream inputStream) throws IOException {
+        byte[] result = new byte[inputStream.readInt()];
+        inputStream.readFully(result);
+        return result;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ * 
+ * <p>
+ * Each internal node keeps the loser of the match between its two subtrees, the overall winner is kept on top.
+ * Advancing the winner replays the matches on its path to root only, which costs log2(k) comparisons for k order by values.
+ * Exhausted order by values lose to any other order by value, and equal order by values keep the one replaying upward as winner.
+ * </p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private static final int MIN_LEAF = -1;
+    
+    private final List<OrderByValue> orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] tree;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) throws SQLException {
+        this.orderByValues = orderByValues;
+        int size = orderByValues.size();
+        exhausted = new boolean[size];
+        tree = new int[Math.max(size, 1)];
+        for (int i = 0; i < size; i++) {
+            exhausted[i] = !orderByValues.get(i).next();
+            tree[i] = MIN_LEAF;
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            replay(i);
+        }
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     * 
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return orderByValues.isEmpty() || exhausted[tree[0]];
+    }
+    
+    /**
+     * Get winner order by value.
+     * 
+     * @return winner order by value
+     */
+    public OrderByValue getWinner() {
+        return orderByValues.get(tree[0]);
+    }
+    
+    /**
+     * Move winner order by value to its next row and select new winner.
+     * 
+     * @throws SQLException SQL exception
+     */
+    public void advanceWinner() throws SQLException {
+        int winner = tree[0];
+        exhausted[winner] = !orderByValues.get(winner).next();
+        replay(winner);
+    }
+    
+    private void replay(final int leaf) {
+        int winner = leaf;
+        for (int node = (leaf + orderByValues.size()) >> 1; node > 0; node >>= 1) {
+            if (beats(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    private boolean beats(final int leaf, final int otherLeaf) {
+        if (MIN_LEAF == otherLeaf) {
+            return false;
+        }
+        if (MIN_LEAF == leaf) {
+            return true;
+        }
+        if (exhausted[leaf]) {
+            return false;
+        }
+        return exhausted[otherLeaf] || orderByValues.get(leaf).compareTo(orderByValues.get(otherLeaf)) < 0;
+    }
+}
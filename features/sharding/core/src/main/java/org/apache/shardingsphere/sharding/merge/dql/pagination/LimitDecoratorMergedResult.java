@@ -41,7 +41,8 @@ public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
     }
     
     private boolean skipOffset() throws SQLException {
-        for (int i = 0; i < pagination.getActualOffset(); i++) {
+        long offset = pagination.isSeeked() ? 0L : pagination.getActualOffset();
+        for (int i = 0; i < offset; i++) {
             if (!getMergedResult().next()) {
                 return true;
             }
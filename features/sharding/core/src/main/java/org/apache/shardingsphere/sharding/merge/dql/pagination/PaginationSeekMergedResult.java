@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.pagination;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationSeekContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.decorator.DecoratorMergedResult;
+import org.apache.shardingsphere.infra.session.connection.pagination.PaginationConnectionContext;
+import org.apache.shardingsphere.infra.session.connection.pagination.PaginationSeekPosition;
+
+import java.sql.SQLException;
+
+/**
+ * Decorator merged result for recording order values of merged rows as pagination seek position.
+ */
+public final class PaginationSeekMergedResult extends DecoratorMergedResult {
+    
+    private final int[] orderByColumnIndexes;
+    
+    private final PaginationSeekPosition seekPosition;
+    
+    private final Object[] orderValues;
+    
+    public PaginationSeekMergedResult(final MergedResult mergedResult, final SelectStatementContext selectStatementContext,
+                                      final PaginationSeekContext seekContext, final PaginationConnectionContext paginationConnectionContext) {
+        super(mergedResult);
+        orderByColumnIndexes = selectStatementContext.getOrderByContext().getItems().stream().mapToInt(OrderByItem::getIndex).toArray();
+        PaginationContext paginationContext = selectStatementContext.getPaginationContext();
+        seekPosition = seekContext.isSeeked()
+                ? paginationConnectionContext.createSeekPosition(seekContext.getKey(), seekContext.getParameters(), paginationContext.getActualOffset(), seekContext.getBoundaryValues())
+                : paginationConnectionContext.createSeekPosition(seekContext.getKey(), seekContext.getParameters(), 0L, null);
+        orderValues = new Object[orderByColumnIndexes.length];
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        boolean result = getMergedResult().next();
+        if (result) {
+            for (int i = 0; i < orderByColumnIndexes.length; i++) {
+                orderValues[i] = getMergedResult().getValue(orderByColumnIndexes[i], Object.class);
+            }
+            seekPosition.forward(orderValues);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.context;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationSeekContext;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.PaginationSeekTokenGenerator;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Pagination seek context engine for sharding.
+ */
+public final class ShardingPaginationSeekContextEngine {
+    
+    /**
+     * Create pagination seek context.
+     * 
+     * <p>Only multiple routed LIMIT queries on single table ordered by columns covering its primary key are supported,
+     * the boundary values of previous page are used only if previous page was read in the same connection and ended right before current offset.
+     * Routed data sources need to share one storage type, because nulls order of keyset predicate follows the storage type.</p>
+     *
+     * @param sqlRewriteContext SQL rewrite context
+     * @param routeContext route context
+     * @return created pagination seek context
+     */
+    public Optional<PaginationSeekContext> createPaginationSeekContext(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
+        if (!(sqlRewriteContext.getSqlStatementContext() instanceof SelectStatementContext) || routeContext.isSingleRouting()) {
+            return Optional.empty();
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlRewriteContext.getSqlStatementContext();
+        Optional<LimitSegment> limitSegment = SelectStatementHandler.getLimitSegment(selectStatementContext.getSqlStatement());
+        if (!limitSegment.isPresent() || !limitSegment.get().getRowCount().isPresent() || !isSeekable(selectStatementContext, sqlRewriteContext)) {
+            return Optional.empty();
+        }
+        Optional<String> storageType = findStorageType(sqlRewriteContext.getStorageTypes(), routeContext);
+        if (!storageType.isPresent()) {
+            return Optional.empty();
+        }
+        PaginationContext paginationContext = selectStatementContext.getPaginationContext();
+        String sql = sqlRewriteContext.getSql();
+        String key = sqlRewriteContext.getDatabaseName() + ":" + sql.substring(0, limitSegment.get().getStartIndex()) + sql.substring(limitSegment.get().getStopIndex() + 1);
+        List<Object> params = getParametersWithoutPagination(paginationContext, sqlRewriteContext.getParameters());
+        long offset = paginationContext.getActualOffset();
+        List<Object> boundaryValues = 0L == offset ? Collections.emptyList()
+                : sqlRewriteContext.getConnectionContext().getPaginationContext().findSeekOrderValues(key, params, offset)
+                        .filter(optional -> optional.stream().allMatch(PaginationSeekTokenGenerator::isSupportedBoundaryValue)).orElse(Collections.emptyList());
+        return Optional.of(new PaginationSeekContext(key, params, boundaryValues, storageType.get()));
+    }
+    
+    private Optional<String> findStorageType(final Map<String, DatabaseType> storageTypes, final RouteContext routeContext) {
+        Collection<String> result = new HashSet<>();
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            DatabaseType storageType = storageTypes.get(each.getDataSourceMapper().getActualName());
+            if (null == storageType) {
+                return Optional.empty();
+            }
+            result.add(DatabaseTypeEngine.getTrunkDatabaseType(storageType.getType()).getType());
+        }
+        return 1 == result.size() ? Optional.of(result.iterator().next()) : Optional.empty();
+    }
+    
+    private boolean isSeekable(final SelectStatementContext selectStatementContext, final SQLRewriteContext sqlRewriteContext) {
+        if (selectStatementContext.isContainsJoinQuery() || selectStatementContext.isContainsSubquery() || selectStatementContext.isContainsCombine() || selectStatementContext.isContainsHaving()
+                || !selectStatementContext.getGroupByContext().getItems().isEmpty() || !selectStatementContext.getProjectionsContext().getAggregationProjections().isEmpty()
+                || selectStatementContext.getProjectionsContext().isDistinctRow() || selectStatementContext.getOrderByContext().isGenerated()
+                || selectStatementContext.getOrderByContext().getItems().isEmpty() || 1 != selectStatementContext.getAllTables().size()) {
+            return false;
+        }
+        SimpleTableSegment tableSegment = selectStatementContext.getAllTables().iterator().next();
+        String schemaName = selectStatementContext.getTablesContext().getSchemaName()
+                .orElseGet(() -> DatabaseTypeEngine.getDefaultSchemaName(selectStatementContext.getDatabaseType(), sqlRewriteContext.getDatabaseName()));
+        ShardingSphereSchema schema = sqlRewriteContext.getSchemas().get(schemaName);
+        ShardingSphereTable table = null == schema ? null : schema.getTable(tableSegment.getTableName().getIdentifier().getValue());
+        if (null == table || table.getPrimaryKeyColumns().isEmpty()) {
+            return false;
+        }
+        Collection<String> orderByColumnNames = new HashSet<>();
+        for (OrderByItem each : selectStatementContext.getOrderByContext().getItems()) {
+            if (!(each.getSegment() instanceof ColumnOrderByItemSegment)) {
+                return false;
+            }
+            ColumnSegment column = ((ColumnOrderByItemSegment) each.getSegment()).getColumn();
+            String columnName = column.getIdentifier().getValue();
+            if (!isOwnedByTable(column, tableSegment) || !table.containsColumn(columnName) || isProjectionAlias(selectStatementContext, columnName)) {
+                return false;
+            }
+            orderByColumnNames.add(columnName.toLowerCase());
+        }
+        return orderByColumnNames.containsAll(table.getPrimaryKeyColumns());
+    }
+    
+    private boolean isOwnedByTable(final ColumnSegment column, final SimpleTableSegment tableSegment) {
+        return !column.getOwner().isPresent() || column.getOwner().get().getIdentifier().getValue().equalsIgnoreCase(tableSegment.getAliasName().orElse(null));
+    }
+    
+    private boolean isProjectionAlias(final SelectStatementContext selectStatementContext, final String columnName) {
+        for (Projection each : selectStatementContext.getProjectionsContext().getProjections()) {
+            if (each.getAlias().filter(columnName::equalsIgnoreCase).isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private List<Object> getParametersWithoutPagination(final PaginationContext paginationContext, final List<Object> params) {
+        List<Object> result = new ArrayList<>(params.size());
+        int offsetParameterIndex = paginationContext.getOffsetParameterIndex().orElse(-1);
+        int rowCountParameterIndex = paginationContext.getRowCountParameterIndex().orElse(-1);
+        for (int i = 0; i < params.size(); i++) {
+            if (offsetParameterIndex != i && rowCountParameterIndex != i) {
+                result.add(params.get(i));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.token.generator.impl;
+
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationSeekContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.CollectionSQLTokenGenerator;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.sharding.rewrite.token.generator.IgnoreForSingleRoute;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.PaginationSeekToken;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.NullsOrderType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Pagination seek token generator.
+ */
+public final class PaginationSeekTokenGenerator implements CollectionSQLTokenGenerator<SelectStatementContext>, IgnoreForSingleRoute {
+    
+    private static final String WHERE = "WHERE";
+    
+    @Override
+    public boolean isGenerateSQLToken(final SQLStatementContext sqlStatementContext) {
+        return sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).getPaginationContext().isSeeked();
+    }
+    
+    @Override
+    public Collection<SQLToken> generateSQLTokens(final SelectStatementContext selectStatementContext) {
+        Optional<PaginationSeekContext> seekContext = selectStatementContext.getPaginationContext().getSeekContext();
+        Preconditions.checkState(seekContext.isPresent());
+        String predicate = createPredicate(new ArrayList<>(selectStatementContext.getOrderByContext().getItems()), seekContext.get().getBoundaryValues(),
+                seekContext.get().getStorageType(), 0).orElse("1 = 0");
+        Optional<WhereSegment> whereSegment = selectStatementContext.getSqlStatement().getWhere();
+        if (whereSegment.isPresent()) {
+            return Arrays.asList(new PaginationSeekToken(whereSegment.get().getStartIndex() + WHERE.length(), "("),
+                    new PaginationSeekToken(whereSegment.get().getStopIndex() + 1, ") AND (" + predicate + ")"));
+        }
+        Preconditions.checkState(selectStatementContext.getSqlStatement().getOrderBy().isPresent());
+        return Collections.singleton(new PaginationSeekToken(selectStatementContext.getSqlStatement().getOrderBy().get().getStartIndex(), WHERE + " " + predicate + " "));
+    }
+    
+    private Optional<String> createPredicate(final List<OrderByItem> orderByItems, final List<Object> boundaryValues, final String databaseType, final int index) {
+        if (index == orderByItems.size()) {
+            return Optional.empty();
+        }
+        ColumnOrderByItemSegment orderByItemSegment = (ColumnOrderByItemSegment) orderByItems.get(index).getSegment();
+        String column = orderByItemSegment.getColumn().getQualifiedName();
+        boolean nullsFirst = NullsOrderType.FIRST == orderByItemSegment.getNullsOrderType(databaseType);
+        Optional<String> nextPredicate = createPredicate(orderByItems, boundaryValues, databaseType, index + 1);
+        Object boundaryValue = boundaryValues.get(index);
+        Collection<String> result = new LinkedList<>();
+        if (null == boundaryValue) {
+            if (nullsFirst) {
+                result.add(column + " IS NOT NULL");
+            }
+            nextPredicate.ifPresent(optional -> result.add("(" + column + " IS NULL AND (" + optional + "))"));
+        } else {
+            String literal = toLiteral(boundaryValue);
+            result.add(column + (OrderDirection.ASC == orderByItemSegment.getOrderDirection() ? " > " : " < ") + literal);
+            if (!nullsFirst) {
+                result.add(column + " IS NULL");
+            }
+            nextPredicate.ifPresent(optional -> result.add("(" + column + " = " + literal + " AND (" + optional + "))"));
+        }
+        return result.isEmpty() ? Optional.empty() : Optional.of(String.join(" OR ", result));
+    }
+    
+    private String toLiteral(final Object value) {
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        return value instanceof String ? "'" + value + "'" : value.toString();
+    }
+    
+    /**
+     * Judge whether boundary value can be rendered as SQL literal.
+     *
+     * @param value boundary value
+     * @return boundary value can be rendered as SQL literal or not
+     */
+    public static boolean isSupportedBoundaryValue(final Object value) {
+        if (null == value || value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte || value instanceof BigInteger || value instanceof BigDecimal) {
+            return true;
+        }
+        return value instanceof String && ((String) value).chars().noneMatch(each -> '\'' == each || '\\' == each || each < ' ');
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpillableRowSorterTest {
+    
+    @Test
+    void assertNextWithoutSpill() {
+        try (SpillableRowSorter sorter = createSorter(0)) {
+            assertFalse(sorter.isSpilled());
+            assertSortedRows(sorter);
+        }
+    }
+    
+    @Test
+    void assertNextWithSpill() {
+        try (SpillableRowSorter sorter = createSorter(2)) {
+            assertTrue(sorter.isSpilled());
+            assertSortedRows(sorter);
+        }
+    }
+    
+    @Test
+    void assertNextWithMoreRunsThanMaxMergeFanIn() {
+        int rowCount = SpillableRowSorter.MAX_MERGE_FAN_IN * 3;
+        try (SpillableRowSorter sorter = new SpillableRowSorter(Comparator.comparing(each -> (Integer) each.getCell(1)), 1)) {
+            for (int i = rowCount; i > 0; i--) {
+                sorter.add(new MemoryQueryResultRow(new Object[]{i}));
+            }
+            int expected = 0;
+            while (sorter.next()) {
+                assertThat(sorter.getCurrentRow().getCell(1), is(++expected));
+            }
+            assertThat(expected, is(rowCount));
+        }
+    }
+    
+    @Test
+    void assertCloseDeletesSpilledFiles() {
+        int spilledFileCount = getSpilledFileCount();
+        SpillableRowSorter sorter = createSorter(2);
+        assertThat(getSpilledFileCount(), is(spilledFileCount + 2));
+        sorter.next();
+        sorter.close();
+        assertThat(getSpilledFileCount(), is(spilledFileCount));
+    }
+    
+    private int getSpilledFileCount() {
+        return Objects.requireNonNull(new File(System.getProperty("java.io.tmpdir")).list((dir, name) -> name.startsWith("shardingsphere-merge-"))).length;
+    }
+    
+    private SpillableRowSorter createSorter(final int spillThreshold) {
+        SpillableRowSorter result = new SpillableRowSorter(Comparator.comparing(each -> (Integer) each.getCell(1)), spillThreshold);
+        for (int each : new int[]{5, 3, 1, 4, 2}) {
+            result.add(new MemoryQueryResultRow(new Object[]{each, "value_" + each}));
+        }
+        return result;
+    }
+    
+    private void assertSortedRows(final SpillableRowSorter sorter) {
+        List<Object> actual = new LinkedList<>();
+        while (sorter.next()) {
+            actual.add(sorter.getCurrentRow().getCell(1));
+            assertThat(sorter.getCurrentRow().getCell(2), is("value_" + sorter.getCurrentRow().getCell(1)));
+        }
+        assertThat(actual.toString(), is("[1, 2, 3, 4, 5]"));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.rowset.serial.SerialBlob;
+import javax.sql.rowset.serial.SerialClob;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SpilledRowCodecTest {
+    
+    @Test
+    void assertWriteAndRead() throws IOException, SQLException, ClassNotFoundException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        Object[] row = {null, "foo", 1, 2L, new BigDecimal("-1.50"), timestamp, LocalDateTime.of(2023, 1, 1, 12, 30), new byte[]{1, 2},
+                new SerialBlob(new byte[]{3, 4}), new SerialClob("bar".toCharArray()), 'c'};
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream outputStream = new DataOutputStream(bytes)) {
+            SpilledRowCodec.write(outputStream, row);
+        }
+        Object[] actual = SpilledRowCodec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertThat(actual.length, is(row.length));
+        assertThat(actual[0], nullValue());
+        assertThat(actual[1], is("foo"));
+        assertThat(actual[2], is(1));
+        assertThat(actual[3], is(2L));
+        assertThat(actual[4], is(new BigDecimal("-1.50")));
+        assertThat(actual[5], is(timestamp));
+        assertThat(actual[6], is(LocalDateTime.of(2023, 1, 1, 12, 30)));
+        assertThat(actual[7], is(new byte[]{1, 2}));
+        assertThat(((Blob) actual[8]).getBytes(1L, 2), is(new byte[]{3, 4}));
+        assertThat(((Clob) actual[9]).getSubString(1L, 3), is("bar"));
+        assertThat(actual[10], is('c'));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.pagination;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationSeekContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.session.connection.pagination.PaginationConnectionContext;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PaginationSeekMergedResultTest {
+    
+    @Test
+    void assertNextWithoutSeeked() throws SQLException {
+        PaginationConnectionContext paginationConnectionContext = new PaginationConnectionContext();
+        MergedResult actual = new PaginationSeekMergedResult(mockMergedResult(), mockSelectStatementContext(),
+                new PaginationSeekContext("foo_key", Collections.emptyList(), Collections.emptyList(), "MySQL"), paginationConnectionContext);
+        assertFalse(paginationConnectionContext.findSeekOrderValues("foo_key", Collections.emptyList(), 0L).isPresent());
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+        assertThat(paginationConnectionContext.findSeekOrderValues("foo_key", Collections.emptyList(), 2L), is(Optional.of(Collections.singletonList(20))));
+        assertFalse(paginationConnectionContext.findSeekOrderValues("foo_key", Collections.singletonList(1), 2L).isPresent());
+    }
+    
+    @Test
+    void assertNextWithSeeked() throws SQLException {
+        PaginationConnectionContext paginationConnectionContext = new PaginationConnectionContext();
+        SelectStatementContext selectStatementContext = mockSelectStatementContext();
+        when(selectStatementContext.getPaginationContext().getActualOffset()).thenReturn(10L);
+        MergedResult actual = new PaginationSeekMergedResult(mockMergedResult(), selectStatementContext,
+                new PaginationSeekContext("foo_key", Collections.emptyList(), Collections.singletonList(5), "MySQL"), paginationConnectionContext);
+        assertThat(paginationConnectionContext.findSeekOrderValues("foo_key", Collections.emptyList(), 10L), is(Optional.of(Collections.singletonList(5))));
+        assertTrue(actual.next());
+        assertThat(paginationConnectionContext.findSeekOrderValues("foo_key", Collections.emptyList(), 11L), is(Optional.of(Collections.singletonList(10))));
+    }
+    
+    private MergedResult mockMergedResult() throws SQLException {
+        MergedResult result = mock(MergedResult.class);
+        when(result.next()).thenReturn(true, true, false);
+        when(result.getValue(2, Object.class)).thenReturn(10, 20);
+        return result;
+    }
+    
+    private SelectStatementContext mockSelectStatementContext() {
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.ASC, null));
+        orderByItem.setIndex(2);
+        when(result.getOrderByContext().getItems()).thenReturn(Collections.singleton(orderByItem));
+        return result;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.context;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationSeekContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShardingPaginationSeekContextEngineTest {
+    
+    private static final String SQL = "SELECT * FROM t_order ORDER BY order_id LIMIT 20, 10";
+    
+    private static final String KEY = "foo_db:SELECT * FROM t_order ORDER BY order_id ";
+    
+    private final ConnectionContext connectionContext = new ConnectionContext();
+    
+    private SQLRewriteContext sqlRewriteContext;
+    
+    private SelectStatementContext selectStatementContext;
+    
+    @BeforeEach
+    void setUp() {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        NumberLiteralLimitValueSegment offsetSegment = new NumberLiteralLimitValueSegment(46, 47, 20L);
+        NumberLiteralLimitValueSegment rowCountSegment = new NumberLiteralLimitValueSegment(50, 51, 10L);
+        selectStatement.setLimit(new LimitSegment(40, 51, offsetSegment, rowCountSegment));
+        selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(selectStatementContext.getSqlStatement()).thenReturn(selectStatement);
+        when(selectStatementContext.getPaginationContext()).thenReturn(new PaginationContext(offsetSegment, rowCountSegment, Collections.emptyList()));
+        when(selectStatementContext.getGroupByContext().getItems()).thenReturn(Collections.emptyList());
+        when(selectStatementContext.getProjectionsContext().getAggregationProjections()).thenReturn(Collections.emptyList());
+        when(selectStatementContext.getProjectionsContext().getProjections()).thenReturn(Collections.emptyList());
+        when(selectStatementContext.getAllTables()).thenReturn(Collections.singleton(new SimpleTableSegment(new TableNameSegment(14, 20, new IdentifierValue("t_order")))));
+        when(selectStatementContext.getTablesContext().getSchemaName()).thenReturn(Optional.of("foo_db"));
+        sqlRewriteContext = mock(SQLRewriteContext.class);
+        when(sqlRewriteContext.getSqlStatementContext()).thenReturn(selectStatementContext);
+        when(sqlRewriteContext.getDatabaseName()).thenReturn("foo_db");
+        when(sqlRewriteContext.getSql()).thenReturn(SQL);
+        when(sqlRewriteContext.getParameters()).thenReturn(Collections.emptyList());
+        when(sqlRewriteContext.getConnectionContext()).thenReturn(connectionContext);
+        Map<String, DatabaseType> storageTypes = new HashMap<>(2, 1F);
+        storageTypes.put("ds_0", new MySQLDatabaseType());
+        storageTypes.put("ds_1", new MySQLDatabaseType());
+        when(sqlRewriteContext.getStorageTypes()).thenReturn(storageTypes);
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Arrays.asList(new ShardingSphereColumn("order_id", 0, true, false, false, true, false),
+                new ShardingSphereColumn("user_id", 0, false, false, false, true, false)), Collections.emptyList(), Collections.emptyList());
+        when(sqlRewriteContext.getSchemas()).thenReturn(Collections.singletonMap("foo_db", new ShardingSphereSchema(Collections.singletonMap("t_order", table), Collections.emptyMap())));
+    }
+    
+    @Test
+    void assertCreatePaginationSeekContextWithPreviousPage() {
+        mockOrderByItem("order_id");
+        connectionContext.getPaginationContext().createSeekPosition(KEY, Collections.emptyList(), 20L, Collections.singletonList(100L));
+        Optional<PaginationSeekContext> actual = new ShardingPaginationSeekContextEngine().createPaginationSeekContext(sqlRewriteContext, createRouteContext("ds_0", "ds_1"));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getKey(), is(KEY));
+        assertTrue(actual.get().isSeeked());
+        assertThat(actual.get().getBoundaryValues(), is(Collections.singletonList(100L)));
+        assertThat(actual.get().getStorageType(), is("MySQL"));
+    }
+    
+    @Test
+    void assertCreatePaginationSeekContextWithUnmatchedOffset() {
+        mockOrderByItem("order_id");
+        connectionContext.getPaginationContext().createSeekPosition(KEY, Collections.emptyList(), 10L, Collections.singletonList(100L));
+        Optional<PaginationSeekContext> actual = new ShardingPaginationSeekContextEngine().createPaginationSeekContext(sqlRewriteContext, createRouteContext("ds_0", "ds_1"));
+        assertTrue(actual.isPresent());
+        assertFalse(actual.get().isSeeked());
+    }
+    
+    @Test
+    void assertCreatePaginationSeekContextWithoutPrimaryKeyOrdered() {
+        mockOrderByItem("user_id");
+        assertFalse(new ShardingPaginationSeekContextEngine().createPaginationSeekContext(sqlRewriteContext, createRouteContext("ds_0", "ds_1")).isPresent());
+    }
+    
+    @Test
+    void assertCreatePaginationSeekContextWithSingleRouting() {
+        mockOrderByItem("order_id");
+        RouteContext routeContext = mock(RouteContext.class);
+        when(routeContext.isSingleRouting()).thenReturn(true);
+        assertFalse(new ShardingPaginationSeekContextEngine().createPaginationSeekContext(sqlRewriteContext, routeContext).isPresent());
+    }
+    
+    @Test
+    void assertCreatePaginationSeekContextWithDifferentStorageTypes() {
+        mockOrderByItem("order_id");
+        sqlRewriteContext.getStorageTypes().put("ds_1", new PostgreSQLDatabaseType());
+        assertFalse(new ShardingPaginationSeekContextEngine().createPaginationSeekContext(sqlRewriteContext, createRouteContext("ds_0", "ds_1")).isPresent());
+    }
+    
+    @Test
+    void assertCreatePaginationSeekContextWithUnknownStorageType() {
+        mockOrderByItem("order_id");
+        assertFalse(new ShardingPaginationSeekContextEngine().createPaginationSeekContext(sqlRewriteContext, createRouteContext("ds_0", "ds_2")).isPresent());
+    }
+    
+    private RouteContext createRouteContext(final String... dataSourceNames) {
+        RouteContext result = new RouteContext();
+        for (String each : dataSourceNames) {
+            result.getRouteUnits().add(new RouteUnit(new RouteMapper(each, each), Collections.emptyList()));
+        }
+        return result;
+    }
+    
+    private void mockOrderByItem(final String columnName) {
+        OrderByItem orderByItem = new OrderByItem(new ColumnOrderByItemSegment(new ColumnSegment(31, 38, new IdentifierValue(columnName)), OrderDirection.ASC, null));
+        when(selectStatementContext.getOrderByContext().getItems()).thenReturn(Collections.singleton(orderByItem));
+    }
+}
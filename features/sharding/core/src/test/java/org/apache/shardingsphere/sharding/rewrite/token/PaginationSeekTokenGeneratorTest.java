@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.token;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationSeekContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.PaginationSeekTokenGenerator;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PaginationSeekTokenGeneratorTest {
+    
+    @Test
+    void assertIsGenerateSQLToken() {
+        PaginationSeekTokenGenerator generator = new PaginationSeekTokenGenerator();
+        assertFalse(generator.isGenerateSQLToken(mock(InsertStatementContext.class)));
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(selectStatementContext.getPaginationContext().isSeeked()).thenReturn(false);
+        assertFalse(generator.isGenerateSQLToken(selectStatementContext));
+        when(selectStatementContext.getPaginationContext().isSeeked()).thenReturn(true);
+        assertTrue(generator.isGenerateSQLToken(selectStatementContext));
+    }
+    
+    @Test
+    void assertGenerateSQLTokensWithWhere() {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setWhere(new WhereSegment(22, 40, new LiteralExpressionSegment(28, 40, 1)));
+        List<SQLToken> actual = new ArrayList<>(new PaginationSeekTokenGenerator().generateSQLTokens(mockSelectStatementContext(selectStatement, Arrays.asList(10, 1000), "MySQL")));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getStartIndex(), is(27));
+        assertThat(actual.get(0).toString(), is("("));
+        assertThat(actual.get(1).getStartIndex(), is(41));
+        assertThat(actual.get(1).toString(), is(") AND (user_id > 10 OR (user_id = 10 AND (order_id < 1000 OR order_id IS NULL)))"));
+    }
+    
+    @Test
+    void assertGenerateSQLTokensWithoutWhere() {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setOrderBy(new OrderBySegment(22, 60, Collections.emptyList()));
+        List<SQLToken> actual = new ArrayList<>(new PaginationSeekTokenGenerator().generateSQLTokens(mockSelectStatementContext(selectStatement, Arrays.asList(null, 1000), "MySQL")));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getStartIndex(), is(22));
+        assertThat(actual.get(0).toString(), is("WHERE user_id IS NOT NULL OR (user_id IS NULL AND (order_id < 1000 OR order_id IS NULL)) "));
+    }
+    
+    @Test
+    void assertGenerateSQLTokensWithStorageTypeNullsOrder() {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setOrderBy(new OrderBySegment(22, 60, Collections.emptyList()));
+        List<SQLToken> actual = new ArrayList<>(new PaginationSeekTokenGenerator().generateSQLTokens(mockSelectStatementContext(selectStatement, Arrays.asList(10, 1000), "PostgreSQL")));
+        assertThat(actual.get(0).toString(), is("WHERE user_id > 10 OR user_id IS NULL OR (user_id = 10 AND (order_id < 1000)) "));
+    }
+    
+    @Test
+    void assertIsSupportedBoundaryValue() {
+        assertTrue(PaginationSeekTokenGenerator.isSupportedBoundaryValue(null));
+        assertTrue(PaginationSeekTokenGenerator.isSupportedBoundaryValue(1L));
+        assertTrue(PaginationSeekTokenGenerator.isSupportedBoundaryValue("foo"));
+        assertFalse(PaginationSeekTokenGenerator.isSupportedBoundaryValue("foo'bar"));
+        assertFalse(PaginationSeekTokenGenerator.isSupportedBoundaryValue("foo\\bar"));
+        assertFalse(PaginationSeekTokenGenerator.isSupportedBoundaryValue(1.5D));
+        assertFalse(PaginationSeekTokenGenerator.isSupportedBoundaryValue(new Date()));
+    }
+    
+    private SelectStatementContext mockSelectStatementContext(final MySQLSelectStatement selectStatement, final List<Object> boundaryValues, final String storageType) {
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getSqlStatement()).thenReturn(selectStatement);
+        when(result.getDatabaseType().getType()).thenReturn("MySQL");
+        when(result.getPaginationContext().getSeekContext()).thenReturn(Optional.of(new PaginationSeekContext("foo_key", Collections.emptyList(), boundaryValues, storageType)));
+        when(result.getOrderByContext().getItems()).thenReturn(Arrays.asList(
+                createOrderByItem("user_id", OrderDirection.ASC), createOrderByItem("order_id", OrderDirection.DESC)));
+        return result;
+    }
+    
+    private OrderByItem createOrderByItem(final String columnName, final OrderDirection orderDirection) {
+        return new OrderByItem(new ColumnOrderByItemSegment(new ColumnSegment(0, 0, new IdentifierValue(columnName)), orderDirection, null));
+    }
+}
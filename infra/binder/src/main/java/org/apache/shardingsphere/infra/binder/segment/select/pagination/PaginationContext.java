@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.binder.segment.select.pagination;
 
 import lombok.Getter;
+import lombok.Setter;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.NumberLiteralPaginationValueSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.PaginationValueSegment;
@@ -43,6 +44,9 @@ public final class PaginationContext {
     
     private final Long actualRowCount;
     
+    @Setter
+    private PaginationSeekContext seekContext;
+    
     public PaginationContext(final PaginationValueSegment offsetSegment, final PaginationValueSegment rowCountSegment, final List<Object> params) {
         hasPagination = null != offsetSegment || null != rowCountSegment;
         this.offsetSegment = offsetSegment;
@@ -121,6 +125,24 @@ public final class PaginationContext {
                 : Optional.empty();
     }
     
+    /**
+     * Get pagination seek context.
+     *
+     * @return pagination seek context
+     */
+    public Optional<PaginationSeekContext> getSeekContext() {
+        return Optional.ofNullable(seekContext);
+    }
+    
+    /**
+     * Judge whether offset is seeked from boundary values of previous page.
+     *
+     * @return offset is seeked or not
+     */
+    public boolean isSeeked() {
+        return null != seekContext && seekContext.isSeeked();
+    }
+    
     /**
      * Get revised offset.
      *
@@ -140,7 +162,7 @@ public final class PaginationContext {
         if (isMaxRowCount(selectStatementContext)) {
             return Integer.MAX_VALUE;
         }
-        return rowCountSegment instanceof LimitValueSegment ? actualOffset + actualRowCount : actualRowCount;
+        return rowCountSegment instanceof LimitValueSegment && !isSeeked() ? actualOffset + actualRowCount : actualRowCount;
     }
     
     private boolean isMaxRowCount(final SelectStatementContext selectStatementContext) {
@@ -52,6 +52,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether execute SQL and proxy commands with virtual threads, only take effect when virtual thread is supported by current JVM.
+     */
+    KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED("kernel-executor-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -62,6 +67,29 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     CHECK_TABLE_METADATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Directory of local schema meta data snapshots, schema meta data is loaded from snapshot and validated in background on initial startup if configured.
+     */
+    METADATA_SNAPSHOT_PATH("metadata-snapshot-path", "", String.class, true),
+    
+    /**
+     * Max rows held in memory when merging group by results, rows exceeding it will be spilled to local temporary files.
+     * Less than or equal to 0 means no limitation.
+     */
+    GROUP_BY_MERGE_SPILL_THRESHOLD("group-by-merge-spill-threshold", String.valueOf(0), int.class, false),
+    
+    /**
+     * Whether estimate COUNT(DISTINCT ...) with HyperLogLog when merging results, which bounds memory usage with about 1% error.
+     */
+    APPROXIMATE_DISTINCT_COUNT_ENABLED("approximate-distinct-count-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Whether seek deep LIMIT offset pages of sharded ORDER BY queries from the last row of the previous page in the same connection.
+     * 
+     * <p>Seeked page starts right after the last row of previous page, so it may differ from OFFSET result if rows are inserted or deleted between the two queries.</p>
+     */
+    PAGINATION_SEEK_ENABLED("pagination-seek-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Frontend database protocol type for ShardingSphere-Proxy.
      */
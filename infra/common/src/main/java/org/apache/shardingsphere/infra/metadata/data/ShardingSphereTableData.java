@@ -24,6 +24,7 @@ import lombok.RequiredArgsConstructor;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * ShardingSphere table data.
@@ -36,4 +37,23 @@ public final class ShardingSphereTableData {
     private final String name;
     
     private final Collection<ShardingSphereRowData> rows = new TreeSet<>(Comparator.comparing(ShardingSphereRowData::getUniqueKey));
+    
+    @EqualsAndHashCode.Exclude
+    private final AtomicLong version = new AtomicLong();
+    
+    /**
+     * Get version of rows.
+     *
+     * @return version of rows
+     */
+    public long getVersion() {
+        return version.get();
+    }
+    
+    /**
+     * Increase version of rows, should be called after rows are changed.
+     */
+    public void increaseVersion() {
+        version.incrementAndGet();
+    }
 }
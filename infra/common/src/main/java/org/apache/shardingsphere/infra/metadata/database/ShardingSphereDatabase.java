@@ -84,10 +84,28 @@ public final class ShardingSphereDatabase {
      */
     public static ShardingSphereDatabase create(final String name, final DatabaseType protocolType, final Map<String, DatabaseType> storageTypes,
                                                 final DatabaseConfiguration databaseConfig, final ConfigurationProperties props, final InstanceContext instanceContext) throws SQLException {
+        return create(name, protocolType, storageTypes, databaseConfig, props, instanceContext, false);
+    }
+    
+    /**
+     * Create database meta data.
+     * 
+     * @param name database name
+     * @param protocolType database protocol type
+     * @param storageTypes storage types
+     * @param databaseConfig database configuration
+     * @param props configuration properties
+     * @param instanceContext instance context
+     * @param useMetaDataSnapshot whether to build schemas with meta data snapshot, only for initial startup
+     * @return database meta data
+     * @throws SQLException SQL exception
+     */
+    public static ShardingSphereDatabase create(final String name, final DatabaseType protocolType, final Map<String, DatabaseType> storageTypes, final DatabaseConfiguration databaseConfig,
+                                                final ConfigurationProperties props, final InstanceContext instanceContext, final boolean useMetaDataSnapshot) throws SQLException {
         Collection<ShardingSphereRule> databaseRules = DatabaseRulesBuilder.build(name, databaseConfig, instanceContext);
-        Map<String, ShardingSphereSchema> schemas = new ConcurrentHashMap<>(GenericSchemaBuilder
-                .build(new GenericSchemaBuilderMaterial(protocolType, storageTypes, DataSourceStateManager.getInstance().getEnabledDataSourceMap(name, databaseConfig.getDataSources()), databaseRules,
-                        props, DatabaseTypeEngine.getDefaultSchemaName(protocolType, name))));
+        GenericSchemaBuilderMaterial material = new GenericSchemaBuilderMaterial(protocolType, storageTypes,
+                DataSourceStateManager.getInstance().getEnabledDataSourceMap(name, databaseConfig.getDataSources()), databaseRules, props, DatabaseTypeEngine.getDefaultSchemaName(protocolType, name));
+        Map<String, ShardingSphereSchema> schemas = new ConcurrentHashMap<>(useMetaDataSnapshot ? GenericSchemaBuilder.buildWithSnapshot(material) : GenericSchemaBuilder.build(material));
         SystemSchemaBuilder.build(name, protocolType).forEach(schemas::putIfAbsent);
         return create(name, protocolType, databaseConfig, databaseRules, schemas);
     }
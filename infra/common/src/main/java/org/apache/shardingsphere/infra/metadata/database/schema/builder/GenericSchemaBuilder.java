@@ -19,11 +19,13 @@ package org.apache.shardingsphere.infra.metadata.database.schema.builder;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.metadata.database.schema.loader.metadata.SchemaMetaDataLoaderEngine;
 import org.apache.shardingsphere.infra.metadata.database.schema.loader.metadata.SchemaMetaDataLoaderMaterial;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.metadata.SchemaMetaDataSnapshot;
 import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.ConstraintMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.IndexMetaData;
@@ -54,6 +56,7 @@ import java.util.stream.Collectors;
  * Generic schema builder.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
 public final class GenericSchemaBuilder {
     
     /**
@@ -76,13 +79,45 @@ public final class GenericSchemaBuilder {
      * @throws SQLException SQL exception
      */
     public static Map<String, ShardingSphereSchema> build(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) throws SQLException {
-        Map<String, SchemaMetaData> result = loadSchemas(tableNames, material);
+        return build(loadSchemas(tableNames, material), material);
+    }
+    
+    private static Map<String, ShardingSphereSchema> build(final Map<String, SchemaMetaData> schemaMetaDataMap, final GenericSchemaBuilderMaterial material) {
+        Map<String, SchemaMetaData> result = schemaMetaDataMap;
         if (!isProtocolTypeSameWithStorageType(material)) {
             result = translate(result, material);
         }
         return revise(result, material);
     }
     
+    /**
+     * Build generic schema with meta data snapshot.
+     * 
+     * <p>Only for initial startup. If meta data snapshot path is configured, schema is built from snapshot,
+     * and meta data loaded from data sources in background is applied to built schema if snapshot is stale.</p>
+     *
+     * @param material generic schema builder material
+     * @return generic schema map
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, ShardingSphereSchema> buildWithSnapshot(final GenericSchemaBuilderMaterial material) throws SQLException {
+        Collection<String> tableNames = getAllTableNames(material.getRules());
+        String snapshotPath = material.getProps().getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_PATH);
+        if (snapshotPath.isEmpty()) {
+            return build(tableNames, material);
+        }
+        SchemaMetaDataSnapshot snapshot = SchemaMetaDataSnapshot.create(snapshotPath, tableNames, material);
+        Optional<Map<String, SchemaMetaData>> snapshotSchemaMetaDataMap = snapshot.load();
+        if (!snapshotSchemaMetaDataMap.isPresent()) {
+            Map<String, SchemaMetaData> schemaMetaDataMap = loadSchemas(tableNames, material);
+            snapshot.persist(schemaMetaDataMap);
+            return build(schemaMetaDataMap, material);
+        }
+        Map<String, ShardingSphereSchema> result = build(snapshotSchemaMetaDataMap.get(), material);
+        snapshot.validateInBackground(snapshotSchemaMetaDataMap.get(), () -> loadSchemas(tableNames, material), actual -> apply(result, build(actual, material)));
+        return result;
+    }
+    
     private static boolean isProtocolTypeSameWithStorageType(final GenericSchemaBuilderMaterial material) {
         for (DatabaseType each : material.getStorageTypes().values()) {
             if (!material.getProtocolType().equals(each)) {
@@ -105,6 +140,16 @@ public final class GenericSchemaBuilder {
         return SchemaMetaDataLoaderEngine.load(schemaMetaDataLoaderMaterials);
     }
     
+    private static void apply(final Map<String, ShardingSphereSchema> schemas, final Map<String, ShardingSphereSchema> reloadedSchemas) {
+        for (Entry<String, ShardingSphereSchema> entry : schemas.entrySet()) {
+            ShardingSphereSchema reloadedSchema = reloadedSchemas.getOrDefault(entry.getKey(), new ShardingSphereSchema());
+            entry.getValue().getAllTableNames().removeIf(each -> !reloadedSchema.containsTable(each));
+            entry.getValue().putAll(reloadedSchema.getTables());
+        }
+        reloadedSchemas.keySet().stream().filter(each -> !schemas.containsKey(each))
+                .forEach(each -> log.warn("Schema `{}` is not in meta data snapshot, please execute `REFRESH TABLE METADATA` to load it.", each));
+    }
+    
     private static Map<String, SchemaMetaData> translate(final Map<String, SchemaMetaData> schemaMetaDataMap, final GenericSchemaBuilderMaterial material) {
         Collection<TableMetaData> tableMetaDataList = new LinkedList<>();
         for (DatabaseType each : material.getStorageTypes().values()) {
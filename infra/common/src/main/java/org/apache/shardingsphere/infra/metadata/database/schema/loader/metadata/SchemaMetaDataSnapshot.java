@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.loader.metadata;
+
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.datasource.props.DataSourcePropertiesCreator;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.ConstraintMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.IndexMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.SchemaMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.TableMetaData;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlSchemaMetaDataSnapshot;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereColumn;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereConstraint;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereIndex;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereSchema;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereTable;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Schema meta data snapshot.
+ * 
+ * <p>Snapshot is a local file named by version, which is digested from the tables and storage units to be loaded,
+ * so that changed configuration never reads snapshot of another version. Version covers storage unit URLs and actual data nodes of rules too.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class SchemaMetaDataSnapshot {
+    
+    private static final ExecutorService VALIDATE_EXECUTOR = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SchemaMetaDataSnapshot-%d").build());
+    
+    @Getter
+    private final File file;
+    
+    private final String version;
+    
+    /**
+     * Create schema meta data snapshot.
+     *
+     * @param snapshotPath directory of snapshot files
+     * @param tableNames table names to be loaded
+     * @param material generic schema builder material
+     * @return created schema meta data snapshot
+     */
+    public static SchemaMetaDataSnapshot create(final String snapshotPath, final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) {
+        boolean checkMetaDataEnable = material.getProps().getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED);
+        StringBuilder fingerprint = new StringBuilder().append(material.getDefaultSchemaName()).append(';').append(checkMetaDataEnable).append(';');
+        for (Entry<String, DataSource> entry : new TreeMap<>(material.getDataSourceMap()).entrySet()) {
+            DatabaseType storageType = material.getStorageTypes().get(entry.getKey());
+            fingerprint.append(entry.getKey()).append('=').append(null == storageType ? null : storageType.getType()).append('@').append(getURL(entry.getValue())).append(',');
+        }
+        fingerprint.append(';').append(String.join(",", new TreeSet<>(tableNames))).append(';');
+        for (ShardingSphereRule each : material.getRules()) {
+            if (each instanceof DataNodeContainedRule) {
+                appendDataNodes(fingerprint, ((DataNodeContainedRule) each).getAllDataNodes());
+            }
+        }
+        String version = Hashing.sha256().hashString(fingerprint, StandardCharsets.UTF_8).toString();
+        return new SchemaMetaDataSnapshot(new File(snapshotPath, "metadata-" + version + ".yaml"), version);
+    }
+    
+    private static Object getURL(final DataSource dataSource) {
+        return DataSourcePropertiesCreator.create(dataSource).getConnectionPropertySynonyms().getStandardProperties().get("url");
+    }
+    
+    private static void appendDataNodes(final StringBuilder fingerprint, final Map<String, Collection<DataNode>> dataNodes) {
+        for (Entry<String, Collection<DataNode>> entry : new TreeMap<>(dataNodes).entrySet()) {
+            fingerprint.append(entry.getKey()).append('=');
+            entry.getValue().stream().map(DataNode::format).sorted().forEach(each -> fingerprint.append(each).append(','));
+            fingerprint.append(';');
+        }
+    }
+    
+    /**
+     * Load schema meta data from snapshot.
+     *
+     * @return loaded schema meta data, empty if snapshot does not exist or is not readable
+     */
+    public Optional<Map<String, SchemaMetaData>> load() {
+        if (!file.isFile()) {
+            return Optional.empty();
+        }
+        try {
+            YamlSchemaMetaDataSnapshot snapshot = YamlEngine.unmarshal(file, YamlSchemaMetaDataSnapshot.class);
+            if (null == snapshot || !version.equals(snapshot.getVersion()) || null == snapshot.getSchemas()) {
+                return Optional.empty();
+            }
+            return Optional.of(swapToSchemaMetaData(snapshot));
+            // CHECKSTYLE:OFF
+        } catch (final IOException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.warn("Load schema meta data snapshot `{}` failed, load from data sources instead.", file, ex);
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Persist schema meta data to snapshot.
+     *
+     * @param schemaMetaDataMap schema meta data map
+     */
+    public void persist(final Map<String, SchemaMetaData> schemaMetaDataMap) {
+        try {
+            Files.createDirectories(file.getAbsoluteFile().getParentFile().toPath());
+            Path tempFile = Files.createTempFile(file.getAbsoluteFile().getParentFile().toPath(), file.getName(), ".tmp");
+            Files.write(tempFile, YamlEngine.marshal(swapToYamlSnapshot(schemaMetaDataMap)).getBytes(StandardCharsets.UTF_8));
+            Files.move(tempFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException ex) {
+            log.warn("Persist schema meta data snapshot `{}` failed.", file, ex);
+        }
+    }
+    
+    /**
+     * Validate snapshot in background, refresh snapshot and apply meta data loaded from data sources if it is different from snapshot.
+     *
+     * @param snapshotSchemaMetaDataMap schema meta data loaded from snapshot
+     * @param loader loader of schema meta data from data sources
+     * @param staleSnapshotHandler handler to apply meta data loaded from data sources when snapshot is stale
+     * @return future of whether snapshot is up to date
+     */
+    public Future<Boolean> validateInBackground(final Map<String, SchemaMetaData> snapshotSchemaMetaDataMap, final Callable<Map<String, SchemaMetaData>> loader,
+                                                final Consumer<Map<String, SchemaMetaData>> staleSnapshotHandler) {
+        String expected = YamlEngine.marshal(swapToYamlSnapshot(snapshotSchemaMetaDataMap));
+        return VALIDATE_EXECUTOR.submit(() -> validate(expected, loader, staleSnapshotHandler));
+    }
+    
+    private boolean validate(final String expected, final Callable<Map<String, SchemaMetaData>> loader, final Consumer<Map<String, SchemaMetaData>> staleSnapshotHandler) {
+        Map<String, SchemaMetaData> actual;
+        try {
+            actual = loader.call();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.warn("Validate schema meta data snapshot `{}` failed.", file, ex);
+            return false;
+        }
+        if (expected.equals(YamlEngine.marshal(swapToYamlSnapshot(actual)))) {
+            return true;
+        }
+        persist(actual);
+        staleSnapshotHandler.accept(actual);
+        log.warn("Schema meta data snapshot `{}` is stale, latest meta data loaded from data sources has been applied.", file);
+        return false;
+    }
+    
+    private YamlSchemaMetaDataSnapshot swapToYamlSnapshot(final Map<String, SchemaMetaData> schemaMetaDataMap) {
+        YamlSchemaMetaDataSnapshot result = new YamlSchemaMetaDataSnapshot();
+        result.setVersion(version);
+        Map<String, YamlShardingSphereSchema> schemas = new TreeMap<>();
+        for (Entry<String, SchemaMetaData> entry : schemaMetaDataMap.entrySet()) {
+            YamlShardingSphereSchema schema = new YamlShardingSphereSchema();
+            Map<String, YamlShardingSphereTable> tables = new TreeMap<>();
+            for (TableMetaData each : entry.getValue().getTables()) {
+                tables.put(each.getName(), swapToYamlTable(each));
+            }
+            schema.setTables(tables);
+            schemas.put(entry.getKey(), schema);
+        }
+        result.setSchemas(schemas);
+        return result;
+    }
+    
+    private YamlShardingSphereTable swapToYamlTable(final TableMetaData table) {
+        YamlShardingSphereTable result = new YamlShardingSphereTable();
+        result.setName(table.getName());
+        Map<String, YamlShardingSphereColumn> columns = new LinkedHashMap<>(table.getColumns().size(), 1F);
+        for (ColumnMetaData each : table.getColumns()) {
+            YamlShardingSphereColumn column = new YamlShardingSphereColumn();
+            column.setName(each.getName());
+            column.setDataType(each.getDataType());
+            column.setPrimaryKey(each.isPrimaryKey());
+            column.setGenerated(each.isGenerated());
+            column.setCaseSensitive(each.isCaseSensitive());
+            column.setVisible(each.isVisible());
+            column.setUnsigned(each.isUnsigned());
+            columns.put(each.getName(), column);
+        }
+        result.setColumns(columns);
+        Map<String, YamlShardingSphereIndex> indexes = new TreeMap<>();
+        for (IndexMetaData each : table.getIndexes()) {
+            YamlShardingSphereIndex index = new YamlShardingSphereIndex();
+            index.setName(each.getName());
+            indexes.put(each.getName(), index);
+        }
+        result.setIndexes(indexes);
+        Map<String, YamlShardingSphereConstraint> constraints = new TreeMap<>();
+        for (ConstraintMetaData each : table.getConstraints()) {
+            YamlShardingSphereConstraint constraint = new YamlShardingSphereConstraint();
+            constraint.setName(each.getName());
+            constraint.setReferencedTableName(each.getReferencedTableName());
+            constraints.put(each.getName(), constraint);
+        }
+        result.setConstraints(constraints);
+        return result;
+    }
+    
+    private Map<String, SchemaMetaData> swapToSchemaMetaData(final YamlSchemaMetaDataSnapshot snapshot) {
+        Map<String, SchemaMetaData> result = new LinkedHashMap<>(snapshot.getSchemas().size(), 1F);
+        for (Entry<String, YamlShardingSphereSchema> entry : snapshot.getSchemas().entrySet()) {
+            Collection<TableMetaData> tables = new LinkedList<>();
+            if (null != entry.getValue().getTables()) {
+                entry.getValue().getTables().values().forEach(each -> tables.add(swapToTableMetaData(each)));
+            }
+            result.put(entry.getKey(), new SchemaMetaData(entry.getKey(), tables));
+        }
+        return result;
+    }
+    
+    private TableMetaData swapToTableMetaData(final YamlShardingSphereTable table) {
+        Collection<ColumnMetaData> columns = new LinkedList<>();
+        if (null != table.getColumns()) {
+            table.getColumns().values().forEach(each -> columns.add(
+                    new ColumnMetaData(each.getName(), each.getDataType(), each.isPrimaryKey(), each.isGenerated(), each.isCaseSensitive(), each.isVisible(), each.isUnsigned())));
+        }
+        Collection<IndexMetaData> indexes = new LinkedList<>();
+        if (null != table.getIndexes()) {
+            table.getIndexes().values().forEach(each -> indexes.add(new IndexMetaData(each.getName())));
+        }
+        Collection<ConstraintMetaData> constraints = new LinkedList<>();
+        if (null != table.getConstraints()) {
+            table.getConstraints().values().forEach(each -> constraints.add(new ConstraintMetaData(each.getName(), each.getReferencedTableName())));
+        }
+        return new TableMetaData(table.getName(), columns, indexes, constraints);
+    }
+}
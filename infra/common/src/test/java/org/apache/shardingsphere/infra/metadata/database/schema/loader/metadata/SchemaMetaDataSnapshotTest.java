@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.loader.metadata;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.ConstraintMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.IndexMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.SchemaMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.TableMetaData;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SchemaMetaDataSnapshotTest {
+    
+    @TempDir
+    private Path snapshotPath;
+    
+    @Test
+    void assertLoadWithoutSnapshotFile() {
+        assertFalse(createSnapshot("t_order").load().isPresent());
+    }
+    
+    @Test
+    void assertPersistAndLoad() {
+        SchemaMetaDataSnapshot snapshot = createSnapshot("t_order");
+        Map<String, SchemaMetaData> expected = createSchemaMetaDataMap(new ColumnMetaData("status", Types.VARCHAR, false, false, true, true, false));
+        snapshot.persist(expected);
+        assertTrue(snapshot.getFile().isFile());
+        Optional<Map<String, SchemaMetaData>> actual = createSnapshot("t_order").load();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().size(), is(1));
+        assertThat(new LinkedList<>(actual.get().get("foo_schema").getTables()), is(new LinkedList<>(expected.get("foo_schema").getTables())));
+    }
+    
+    @Test
+    void assertLoadWithChangedTableNames() {
+        createSnapshot("t_order").persist(createSchemaMetaDataMap(new ColumnMetaData("status", Types.VARCHAR, false, false, true, true, false)));
+        assertFalse(createSnapshot("t_order", "t_order_item").load().isPresent());
+    }
+    
+    @Test
+    void assertLoadWithChangedDataSourceURL() {
+        createSnapshot("t_order").persist(createSchemaMetaDataMap(new ColumnMetaData("status", Types.VARCHAR, false, false, true, true, false)));
+        MockedDataSource dataSource = new MockedDataSource();
+        dataSource.setUrl("jdbc:mock://127.0.0.2/foo_ds");
+        assertFalse(createSnapshot(dataSource, Collections.emptyMap(), "t_order").load().isPresent());
+    }
+    
+    @Test
+    void assertLoadWithChangedDataNodes() {
+        createSnapshot("t_order").persist(createSchemaMetaDataMap(new ColumnMetaData("status", Types.VARCHAR, false, false, true, true, false)));
+        assertTrue(createSnapshot(new MockedDataSource(), Collections.singletonMap("t_order", Collections.singleton(new DataNode("foo_ds.t_order_0"))), "t_order").load().isPresent());
+        assertFalse(createSnapshot(new MockedDataSource(), Collections.singletonMap("t_order", Arrays.asList(new DataNode("foo_ds.t_order_0"), new DataNode("foo_ds.t_order_1"))), "t_order")
+                .load().isPresent());
+    }
+    
+    @Test
+    void assertValidateInBackgroundWithSameMetaData() throws Exception {
+        SchemaMetaDataSnapshot snapshot = createSnapshot("t_order");
+        Map<String, SchemaMetaData> schemaMetaDataMap = createSchemaMetaDataMap(new ColumnMetaData("status", Types.VARCHAR, false, false, true, true, false));
+        snapshot.persist(schemaMetaDataMap);
+        Collection<Map<String, SchemaMetaData>> applied = new LinkedList<>();
+        assertTrue(snapshot.validateInBackground(snapshot.load().orElseThrow(IllegalStateException::new), () -> schemaMetaDataMap, applied::add).get());
+        assertTrue(applied.isEmpty());
+    }
+    
+    @Test
+    void assertValidateInBackgroundWithStaleSnapshot() throws Exception {
+        SchemaMetaDataSnapshot snapshot = createSnapshot("t_order");
+        snapshot.persist(createSchemaMetaDataMap(new ColumnMetaData("status", Types.VARCHAR, false, false, true, true, false)));
+        Map<String, SchemaMetaData> actual = createSchemaMetaDataMap(new ColumnMetaData("status", Types.INTEGER, false, false, false, true, false));
+        Collection<Map<String, SchemaMetaData>> applied = new LinkedList<>();
+        assertFalse(snapshot.validateInBackground(snapshot.load().orElseThrow(IllegalStateException::new), () -> actual, applied::add).get());
+        assertThat(applied, is(Collections.singletonList(actual)));
+        assertThat(new LinkedList<>(snapshot.load().orElseThrow(IllegalStateException::new).get("foo_schema").getTables()), is(new LinkedList<>(actual.get("foo_schema").getTables())));
+    }
+    
+    private SchemaMetaDataSnapshot createSnapshot(final String... tableNames) {
+        return createSnapshot(new MockedDataSource(), Collections.singletonMap("t_order", Collections.singleton(new DataNode("foo_ds.t_order_0"))), tableNames);
+    }
+    
+    private SchemaMetaDataSnapshot createSnapshot(final DataSource dataSource, final Map<String, Collection<DataNode>> dataNodes, final String... tableNames) {
+        DataNodeContainedRule rule = mock(DataNodeContainedRule.class);
+        when(rule.getAllDataNodes()).thenReturn(dataNodes);
+        GenericSchemaBuilderMaterial material = new GenericSchemaBuilderMaterial(TypedSPILoader.getService(DatabaseType.class, "MySQL"),
+                Collections.singletonMap("foo_ds", TypedSPILoader.getService(DatabaseType.class, "MySQL")), Collections.singletonMap("foo_ds", dataSource),
+                Collections.singleton(rule), new ConfigurationProperties(new Properties()), "foo_schema");
+        return SchemaMetaDataSnapshot.create(snapshotPath.toString(), Arrays.asList(tableNames), material);
+    }
+    
+    private Map<String, SchemaMetaData> createSchemaMetaDataMap(final ColumnMetaData statusColumn) {
+        ColumnMetaData idColumn = new ColumnMetaData("order_id", Types.BIGINT, true, true, false, true, true);
+        TableMetaData table = new TableMetaData("t_order_0", new LinkedList<>(Arrays.asList(idColumn, statusColumn)),
+                new LinkedList<>(Collections.singleton(new IndexMetaData("idx_status"))), new LinkedList<>(Collections.singleton(new ConstraintMetaData("fk_user", "t_user"))));
+        return Collections.singletonMap("foo_schema", new SchemaMetaData("foo_schema", new LinkedList<>(Collections.singleton(table))));
+    }
+}
@@ -25,13 +25,18 @@ import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceMan
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnknownSQLException;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 /**
  * Executor engine.
@@ -41,10 +46,16 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private static final int CPU_CORES = Runtime.getRuntime().availableProcessors();
     
+    private static final String DEFAULT_NAME_FORMAT = "%d";
+    
     private final ExecutorServiceManager executorServiceManager;
     
     private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+        this(executorSize, false);
+    }
+    
+    private ExecutorEngine(final int executorSize, final boolean virtualThreadEnabled) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, DEFAULT_NAME_FORMAT, virtualThreadEnabled);
     }
     
     /**
@@ -57,6 +68,17 @@ public final class ExecutorEngine implements AutoCloseable {
         return new ExecutorEngine(executorSize);
     }
     
+    /**
+     * Create executor engine with executor size and thread type.
+     *
+     * @param executorSize executor size, ignored if virtual thread is used
+     * @param virtualThreadEnabled whether execute with virtual threads when supported by current JVM
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngineWithSize(final int executorSize, final boolean virtualThreadEnabled) {
+        return new ExecutorEngine(executorSize, virtualThreadEnabled);
+    }
+    
     /**
      * Create executor engine with CPU and resources.
      * 
@@ -114,9 +136,60 @@ public final class ExecutorEngine implements AutoCloseable {
                 : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
     }
     
+    /**
+     * Execute and hand over results of execution groups in completion order.
+     * 
+     * <p>The first execution group runs in the calling thread and the others run in executor service.
+     * Results of each group are handed to the consumer in the calling thread as soon as the group finishes, so a slow group does not hold back groups finished earlier.
+     * If a group fails, groups not started yet are skipped, and the failure is thrown after the running groups finished.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param serial whether using multi thread execute or not
+     * @param groupResultsConsumer consumer of results of each execution group
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @throws SQLException throw if execute failure
+     */
+    public <I, O> void executeInCompletionOrder(final ExecutionGroupContext<I> executionGroupContext, final ExecutorCallback<I, O> firstCallback,
+                                                final ExecutorCallback<I, O> callback, final boolean serial, final Consumer<Collection<O>> groupResultsConsumer) throws SQLException {
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return;
+        }
+        Iterator<ExecutionGroup<I>> executionGroups = executionGroupContext.getInputGroups().iterator();
+        if (serial) {
+            groupResultsConsumer.accept(syncExecute(executionGroups.next(), null == firstCallback ? callback : firstCallback));
+            while (executionGroups.hasNext()) {
+                groupResultsConsumer.accept(syncExecute(executionGroups.next(), callback));
+            }
+            return;
+        }
+        ExecutionGroup<I> firstInputs = executionGroups.next();
+        AtomicBoolean aborted = new AtomicBoolean();
+        BlockingQueue<CompletableFuture<Collection<O>>> completedFutures = new LinkedBlockingQueue<>();
+        List<CompletableFuture<Collection<O>>> restResultFutures = new ArrayList<>();
+        while (executionGroups.hasNext()) {
+            CompletableFuture<Collection<O>> future = asyncExecute(executionGroups.next(), callback, aborted);
+            future.whenComplete((unused, ex) -> completedFutures.add(future));
+            restResultFutures.add(future);
+        }
+        try {
+            groupResultsConsumer.accept(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
+            for (int i = 0; i < restResultFutures.size(); i++) {
+                groupResultsConsumer.accept(takeCompletedGroupResults(completedFutures));
+            }
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            abortAndAwait(restResultFutures, aborted);
+            throw ex;
+        }
+    }
+    
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
-        List<O> result = new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
+        List<O> result = new ArrayList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
         while (executionGroups.hasNext()) {
             result.addAll(syncExecute(executionGroups.next(), callback));
         }
@@ -125,43 +198,98 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private <I, O> List<O> parallelExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
-        Collection<Future<Collection<O>>> restResultFutures = asyncExecute(executionGroups, callback);
-        return getGroupResults(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
+        AtomicBoolean aborted = new AtomicBoolean();
+        List<CompletableFuture<Collection<O>>> restResultFutures = new ArrayList<>();
+        while (executionGroups.hasNext()) {
+            restResultFutures.add(asyncExecute(executionGroups.next(), callback, aborted));
+        }
+        Collection<O> firstResults;
+        try {
+            firstResults = syncExecute(firstInputs, null == firstCallback ? callback : firstCallback);
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            abortAndAwait(restResultFutures, aborted);
+            throw ex;
+        }
+        return getGroupResults(firstResults, restResultFutures, aborted);
     }
     
     private <I, O> Collection<O> syncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) throws SQLException {
         return callback.execute(executionGroup.getInputs(), true);
     }
     
-    private <I, O> Collection<Future<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback) {
-        Collection<Future<Collection<O>>> result = new LinkedList<>();
-        while (executionGroups.hasNext()) {
-            result.add(asyncExecute(executionGroups.next(), callback));
+    private <I, O> CompletableFuture<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback, final AtomicBoolean aborted) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (aborted.get()) {
+                return Collections.emptyList();
+            }
+            try {
+                return callback.execute(executionGroup.getInputs(), false);
+            } catch (final SQLException ex) {
+                throw new CompletionException(ex);
+            }
+        }, executorServiceManager.getExecutorService());
+    }
+    
+    private <O> List<O> getGroupResults(final Collection<O> firstResults, final List<CompletableFuture<Collection<O>>> restFutures, final AtomicBoolean aborted) throws SQLException {
+        awaitGroupResults(restFutures, aborted);
+        List<O> result = new ArrayList<>(firstResults);
+        for (CompletableFuture<Collection<O>> each : restFutures) {
+            result.addAll(each.join());
         }
         return result;
     }
     
-    private <I, O> Future<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) {
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false));
+    private <O> void awaitGroupResults(final List<CompletableFuture<Collection<O>>> futures, final AtomicBoolean aborted) throws SQLException {
+        if (futures.isEmpty()) {
+            return;
+        }
+        CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+        for (CompletableFuture<Collection<O>> each : futures) {
+            each.whenComplete((unused, ex) -> {
+                if (null != ex) {
+                    firstFailure.completeExceptionally(ex);
+                }
+            });
+        }
+        try {
+            CompletableFuture.anyOf(CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])), firstFailure).get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            abortAndAwait(futures, aborted);
+            throw new UnknownSQLException(ex);
+        } catch (final ExecutionException ex) {
+            abortAndAwait(futures, aborted);
+            throwException(ex);
+        }
     }
     
-    private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<Future<Collection<O>>> restFutures) throws SQLException {
-        List<O> result = new LinkedList<>(firstResults);
-        for (Future<Collection<O>> each : restFutures) {
-            try {
-                result.addAll(each.get());
-            } catch (final InterruptedException ex) {
-                Thread.currentThread().interrupt();
-            } catch (final ExecutionException ex) {
-                return throwException(ex);
-            }
+    private <O> Collection<O> takeCompletedGroupResults(final BlockingQueue<CompletableFuture<Collection<O>>> completedFutures) throws SQLException {
+        try {
+            return completedFutures.take().get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new UnknownSQLException(ex);
+        } catch (final ExecutionException ex) {
+            throwException(ex);
+            return Collections.emptyList();
         }
-        return result;
     }
     
-    private <O> List<O> throwException(final Exception exception) throws SQLException {
-        if (exception.getCause() instanceof SQLException) {
-            throw (SQLException) exception.getCause();
+    private <O> void abortAndAwait(final List<CompletableFuture<Collection<O>>> futures, final AtomicBoolean aborted) {
+        // Caller closes connections of all groups once failure is thrown, so skip groups not started and wait for groups still running.
+        aborted.set(true);
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).handle((unused, ex) -> null).join();
+    }
+    
+    private void throwException(final Exception exception) throws SQLException {
+        Throwable cause = exception.getCause();
+        while (cause instanceof CompletionException || cause instanceof ExecutionException) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof SQLException) {
+            throw (SQLException) cause;
         }
         throw new UnknownSQLException(exception);
     }
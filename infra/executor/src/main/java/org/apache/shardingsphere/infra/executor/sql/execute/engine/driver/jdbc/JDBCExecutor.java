@@ -24,8 +24,10 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupConte
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * JDBC executor.
@@ -70,4 +72,22 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute and hand over results of execution groups in completion order.
+     *
+     * @param executionGroupContext execution group context
+     * @param callback JDBC execute callback
+     * @param groupResultsConsumer consumer of results of each execution group
+     * @param <T> class type of return value
+     * @throws SQLException SQL exception
+     */
+    public <T> void executeInCompletionOrder(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                             final JDBCExecutorCallback<T> callback, final Consumer<Collection<T>> groupResultsConsumer) throws SQLException {
+        try {
+            executorEngine.executeInCompletionOrder(executionGroupContext, null, callback, connectionContext.getTransactionContext().isInTransaction(), groupResultsConsumer);
+        } catch (final SQLException ex) {
+            SQLExecutorExceptionHandler.handleException(ex);
+        }
+    }
 }
@@ -17,17 +17,14 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader;
 
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryQueryResultColumns;
 
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * Abstract dialect query result data row loader.
@@ -35,45 +32,72 @@ import java.util.List;
 public abstract class AbstractQueryResultDataRowLoader implements DialectQueryResultDataRowLoader {
     
     @Override
-    public Collection<MemoryQueryResultDataRow> load(final int columnCount, final ResultSet resultSet) throws SQLException {
-        Collection<MemoryQueryResultDataRow> result = new LinkedList<>();
+    public MemoryQueryResultColumns load(final int columnCount, final ResultSet resultSet) throws SQLException {
+        MemoryQueryResultColumn[] columns = new MemoryQueryResultColumn[columnCount];
+        int[] columnTypes = new int[columnCount];
+        boolean[] signed = new boolean[columnCount];
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        for (int i = 0; i < columnCount; i++) {
+            columns[i] = new MemoryQueryResultColumn();
+            columnTypes[i] = metaData.getColumnType(i + 1);
+            signed[i] = (Types.INTEGER == columnTypes[i] || Types.BIGINT == columnTypes[i]) && metaData.isSigned(i + 1);
+        }
+        int rowCount = 0;
         while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(columnCount);
-            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
-                Object rowValue = loadRowValue(resultSet, columnIndex);
-                rowData.add(resultSet.wasNull() ? null : rowValue);
+            for (int i = 0; i < columnCount; i++) {
+                loadColumnValue(resultSet, i + 1, columnTypes[i], signed[i], columns[i]);
             }
-            result.add(new MemoryQueryResultDataRow(rowData));
+            rowCount++;
         }
-        return result;
+        return new MemoryQueryResultColumns(columns, rowCount);
+    }
+    
+    private void loadColumnValue(final ResultSet resultSet, final int columnIndex, final int columnType, final boolean signed, final MemoryQueryResultColumn column) throws SQLException {
+        if (Types.INTEGER == columnType && signed) {
+            int value = resultSet.getInt(columnIndex);
+            if (resultSet.wasNull()) {
+                column.addNull();
+            } else {
+                column.addInt(value);
+            }
+            return;
+        }
+        if (Types.INTEGER == columnType || Types.BIGINT == columnType && signed) {
+            long value = resultSet.getLong(columnIndex);
+            if (resultSet.wasNull()) {
+                column.addNull();
+            } else {
+                column.addLong(value);
+            }
+            return;
+        }
+        if (Types.FLOAT == columnType || Types.DOUBLE == columnType) {
+            double value = resultSet.getDouble(columnIndex);
+            if (resultSet.wasNull()) {
+                column.addNull();
+            } else {
+                column.addDouble(value);
+            }
+            return;
+        }
+        Object value = loadRowValue(resultSet, columnIndex, columnType);
+        column.add(resultSet.wasNull() ? null : value);
     }
     
     @SuppressWarnings("ReturnOfNull")
-    private Object loadRowValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
-        ResultSetMetaData metaData = resultSet.getMetaData();
-        switch (metaData.getColumnType(columnIndex)) {
+    private Object loadRowValue(final ResultSet resultSet, final int columnIndex, final int columnType) throws SQLException {
+        switch (columnType) {
             case Types.BOOLEAN:
                 return resultSet.getBoolean(columnIndex);
             case Types.TINYINT:
             case Types.SMALLINT:
                 return getSmallintValue(resultSet, columnIndex);
-            case Types.INTEGER:
-                if (metaData.isSigned(columnIndex)) {
-                    return resultSet.getInt(columnIndex);
-                }
-                return resultSet.getLong(columnIndex);
             case Types.BIGINT:
-                if (metaData.isSigned(columnIndex)) {
-                    return resultSet.getLong(columnIndex);
-                }
                 BigDecimal bigDecimal = resultSet.getBigDecimal(columnIndex);
                 return null == bigDecimal ? null : bigDecimal.toBigInteger();
             case Types.NUMERIC:
             case Types.DECIMAL:
                 return resultSet.getBigDecimal(columnIndex);
-            case Types.FLOAT:
-            case Types.DOUBLE:
-                return resultSet.getDouble(columnIndex);
             case Types.CHAR:
             case Types.VARCHAR:
             case Types.LONGVARCHAR:
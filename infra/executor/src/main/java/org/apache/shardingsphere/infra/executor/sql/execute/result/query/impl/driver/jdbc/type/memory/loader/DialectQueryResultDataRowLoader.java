@@ -17,13 +17,12 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader;
 
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryQueryResultColumns;
 import org.apache.shardingsphere.infra.util.spi.annotation.SingletonSPI;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPI;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Collection;
 
 /**
  * Dialect query result data row loader.
@@ -32,12 +31,12 @@ import java.util.Collection;
 public interface DialectQueryResultDataRowLoader extends TypedSPI {
     
     /**
-     * Load rows.
+     * Load rows into columns.
      *
      * @param columnCount column count
      * @param resultSet result set of JDBC
-     * @return query result data rows
+     * @return query result columns
      * @throws SQLException SQL exception
      */
-    Collection<MemoryQueryResultDataRow> load(int columnCount, ResultSet resultSet) throws SQLException;
+    MemoryQueryResultColumns load(int columnCount, ResultSet resultSet) throws SQLException;
 }
@@ -21,6 +21,8 @@ import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryQueryResultColumns;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
 
 import java.io.BufferedReader;
@@ -32,9 +34,11 @@ import java.io.InputStreamReader;
 import java.io.ObjectOutputStream;
 import java.io.Reader;
 import java.sql.SQLException;
+import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.List;
 
 /**
  * Abstract memory query result.
@@ -44,10 +48,13 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
     @Getter
     private final QueryResultMetaData metaData;
     
-    private final Iterator<MemoryQueryResultDataRow> rows;
+    private final MemoryQueryResultColumn[] columns;
     
-    @Getter
-    private MemoryQueryResultDataRow currentRow;
+    private final int totalRowCount;
+    
+    private final MemoryQueryResultDataRow currentRow;
+    
+    private int currentRowIndex = -1;
     
     @Getter
     private long rowCount;
@@ -55,39 +62,92 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
     private boolean wasNull;
     
     protected AbstractMemoryQueryResult(final QueryResultMetaData metaData, final Collection<MemoryQueryResultDataRow> rows) {
+        this(metaData, toColumns(rows));
+    }
+    
+    protected AbstractMemoryQueryResult(final QueryResultMetaData metaData, final MemoryQueryResultColumns columns) {
         this.metaData = metaData;
-        this.rows = rows.iterator();
-        rowCount = rows.size();
+        this.columns = columns.getColumns();
+        totalRowCount = columns.getRowCount();
+        rowCount = totalRowCount;
+        currentRow = new MemoryQueryResultDataRow(new CurrentRowValues());
+    }
+    
+    private static MemoryQueryResultColumns toColumns(final Collection<MemoryQueryResultDataRow> rows) {
+        List<MemoryQueryResultColumn> columns = new ArrayList<>();
+        int rowIndex = 0;
+        for (MemoryQueryResultDataRow each : rows) {
+            List<Object> values = each.getValue();
+            while (columns.size() < values.size()) {
+                MemoryQueryResultColumn column = new MemoryQueryResultColumn();
+                for (int i = 0; i < rowIndex; i++) {
+                    column.add(null);
+                }
+                columns.add(column);
+            }
+            for (int i = 0; i < columns.size(); i++) {
+                columns.get(i).add(i < values.size() ? values.get(i) : null);
+            }
+            rowIndex++;
+        }
+        return new MemoryQueryResultColumns(columns.toArray(new MemoryQueryResultColumn[0]), rowIndex);
     }
     
     @Override
     public final boolean next() {
-        if (rows.hasNext()) {
-            currentRow = rows.next();
+        if (currentRowIndex + 1 < totalRowCount) {
+            currentRowIndex++;
             rowCount--;
             return true;
         }
-        currentRow = null;
+        currentRowIndex = totalRowCount;
         return false;
     }
     
+    /**
+     * Judge whether cursor is positioned on a row.
+     *
+     * @return cursor is positioned on a row or not
+     */
+    public final boolean hasCurrentRow() {
+        return currentRowIndex >= 0 && currentRowIndex < totalRowCount;
+    }
+    
+    /**
+     * Get current row.
+     * 
+     * <p>The returned row is a view of the columns at the cursor, it is reused and follows the cursor when {@code next()} is called.</p>
+     *
+     * @return current row, null if cursor is not positioned on a row
+     */
+    public final MemoryQueryResultDataRow getCurrentRow() {
+        return hasCurrentRow() ? currentRow : null;
+    }
+    
+    private Object getCurrentValue(final int columnIndex) {
+        if (!hasCurrentRow()) {
+            throw new IllegalStateException("Cursor is not positioned on a row.");
+        }
+        return columns[columnIndex - 1].get(currentRowIndex);
+    }
+    
     @Override
     public final Object getValue(final int columnIndex, final Class<?> type) {
-        Object result = currentRow.getValue().get(columnIndex - 1);
+        Object result = getCurrentValue(columnIndex);
         wasNull = null == result;
         return result;
     }
     
     @Override
     public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        Object result = currentRow.getValue().get(columnIndex - 1);
+        Object result = getCurrentValue(columnIndex);
         wasNull = null == result;
         return result;
     }
     
     @Override
     public final InputStream getInputStream(final int columnIndex, final String type) {
-        Object value = currentRow.getValue().get(columnIndex - 1);
+        Object value = getCurrentValue(columnIndex);
         wasNull = null == value;
         return getInputStream(value);
     }
@@ -116,4 +176,17 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
     @Override
     public final void close() {
     }
+    
+    private final class CurrentRowValues extends AbstractList<Object> {
+        
+        @Override
+        public Object get(final int index) {
+            return columns[index].get(currentRowIndex);
+        }
+        
+        @Override
+        public int size() {
+            return columns.length;
+        }
+    }
 }
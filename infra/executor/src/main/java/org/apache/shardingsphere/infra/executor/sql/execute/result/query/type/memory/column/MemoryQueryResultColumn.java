@@ -0,0 +1,480 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Memory query result column.
+ * 
+ * <p>Values of a column are stored in arrays with a null bitmap once the first non-null value shows the column type.
+ * Integers, longs and doubles are kept in primitive arrays, decimals are kept as unscaled long and scale,
+ * strings and byte arrays are appended to a shared char or byte arena, so the column holds no per-value objects for them.
+ * Other values are kept as the original objects. If a value of another type is added later, the column falls back to object storage.
+ * Loaders write primitive values with the typed add methods, and the typed get methods read them without boxing.</p>
+ */
+public final class MemoryQueryResultColumn {
+    
+    private static final int DEFAULT_CAPACITY = 16;
+    
+    private final BitSet nullValues = new BitSet();
+    
+    private StorageType storageType = StorageType.UNRESOLVED;
+    
+    @Getter
+    private int size;
+    
+    private int[] intValues;
+    
+    private long[] longValues;
+    
+    private double[] doubleValues;
+    
+    private int[] scales;
+    
+    private char[] chars;
+    
+    private byte[] bytes;
+    
+    private int[] valueEnds;
+    
+    private int arenaSize;
+    
+    private Object[] objectValues;
+    
+    /**
+     * Add value.
+     *
+     * @param value value to be added
+     */
+    public void add(final Object value) {
+        if (null == value) {
+            addNull();
+            return;
+        }
+        prepare(StorageType.valueOf(value));
+        switch (storageType) {
+            case INT:
+                intValues[size] = (Integer) value;
+                break;
+            case LONG:
+                longValues[size] = (Long) value;
+                break;
+            case DOUBLE:
+                doubleValues[size] = (Double) value;
+                break;
+            case DECIMAL:
+                longValues[size] = ((BigDecimal) value).unscaledValue().longValue();
+                scales[size] = ((BigDecimal) value).scale();
+                break;
+            case STRING:
+                appendString((String) value);
+                break;
+            case BYTES:
+                appendBytes((byte[]) value);
+                break;
+            default:
+                objectValues[size] = value;
+                break;
+        }
+        size++;
+    }
+    
+    /**
+     * Add int value.
+     *
+     * @param value int value to be added
+     */
+    public void addInt(final int value) {
+        prepare(StorageType.INT);
+        if (StorageType.INT == storageType) {
+            intValues[size] = value;
+        } else {
+            objectValues[size] = value;
+        }
+        size++;
+    }
+    
+    /**
+     * Add long value.
+     *
+     * @param value long value to be added
+     */
+    public void addLong(final long value) {
+        prepare(StorageType.LONG);
+        if (StorageType.LONG == storageType) {
+            longValues[size] = value;
+        } else {
+            objectValues[size] = value;
+        }
+        size++;
+    }
+    
+    /**
+     * Add double value.
+     *
+     * @param value double value to be added
+     */
+    public void addDouble(final double value) {
+        prepare(StorageType.DOUBLE);
+        if (StorageType.DOUBLE == storageType) {
+            doubleValues[size] = value;
+        } else {
+            objectValues[size] = value;
+        }
+        size++;
+    }
+    
+    /**
+     * Add null value.
+     */
+    public void addNull() {
+        if (StorageType.UNRESOLVED != storageType) {
+            ensureCapacity(size + 1);
+            if (null != valueEnds) {
+                valueEnds[size] = arenaSize;
+            }
+        }
+        nullValues.set(size);
+        size++;
+    }
+    
+    private void prepare(final StorageType valueStorageType) {
+        if (StorageType.UNRESOLVED == storageType) {
+            storageType = valueStorageType;
+            allocate(Math.max(DEFAULT_CAPACITY, size + 1));
+        } else if (StorageType.OBJECT != storageType && storageType != valueStorageType) {
+            convertToObjectStorage();
+        }
+        ensureCapacity(size + 1);
+    }
+    
+    private void appendString(final String value) {
+        int end = arenaSize + value.length();
+        if (end > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(end, chars.length << 1));
+        }
+        value.getChars(0, value.length(), chars, arenaSize);
+        arenaSize = end;
+        valueEnds[size] = end;
+    }
+    
+    private void appendBytes(final byte[] value) {
+        int end = arenaSize + value.length;
+        if (end > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(end, bytes.length << 1));
+        }
+        System.arraycopy(value, 0, bytes, arenaSize, value.length);
+        arenaSize = end;
+        valueEnds[size] = end;
+    }
+    
+    /**
+     * Get value.
+     *
+     * @param rowIndex row index, start from 0
+     * @return value, null if the value is SQL NULL
+     */
+    public Object get(final int rowIndex) {
+        checkRowIndex(rowIndex);
+        if (nullValues.get(rowIndex)) {
+            return null;
+        }
+        switch (storageType) {
+            case INT:
+                return intValues[rowIndex];
+            case LONG:
+                return longValues[rowIndex];
+            case DOUBLE:
+                return doubleValues[rowIndex];
+            case DECIMAL:
+                return BigDecimal.valueOf(longValues[rowIndex], scales[rowIndex]);
+            case STRING:
+                return new String(chars, getValueStart(rowIndex), valueEnds[rowIndex] - getValueStart(rowIndex));
+            case BYTES:
+                return Arrays.copyOfRange(bytes, getValueStart(rowIndex), valueEnds[rowIndex]);
+            default:
+                return objectValues[rowIndex];
+        }
+    }
+    
+    /**
+     * Judge whether value is null.
+     *
+     * @param rowIndex row index, start from 0
+     * @return value is null or not
+     */
+    public boolean isNull(final int rowIndex) {
+        checkRowIndex(rowIndex);
+        return nullValues.get(rowIndex);
+    }
+    
+    /**
+     * Get int value.
+     *
+     * @param rowIndex row index, start from 0
+     * @return int value, 0 if the value is SQL NULL
+     */
+    public int getInt(final int rowIndex) {
+        if (isNull(rowIndex)) {
+            return 0;
+        }
+        switch (storageType) {
+            case INT:
+                return intValues[rowIndex];
+            case LONG:
+                return (int) longValues[rowIndex];
+            case DOUBLE:
+                return (int) doubleValues[rowIndex];
+            default:
+                return ((Number) get(rowIndex)).intValue();
+        }
+    }
+    
+    /**
+     * Get long value.
+     *
+     * @param rowIndex row index, start from 0
+     * @return long value, 0 if the value is SQL NULL
+     */
+    public long getLong(final int rowIndex) {
+        if (isNull(rowIndex)) {
+            return 0L;
+        }
+        switch (storageType) {
+            case INT:
+                return intValues[rowIndex];
+            case LONG:
+                return longValues[rowIndex];
+            case DOUBLE:
+                return (long) doubleValues[rowIndex];
+            default:
+                return ((Number) get(rowIndex)).longValue();
+        }
+    }
+    
+    /**
+     * Get double value.
+     *
+     * @param rowIndex row index, start from 0
+     * @return double value, 0 if the value is SQL NULL
+     */
+    public double getDouble(final int rowIndex) {
+        if (isNull(rowIndex)) {
+            return 0D;
+        }
+        switch (storageType) {
+            case INT:
+                return intValues[rowIndex];
+            case LONG:
+                return longValues[rowIndex];
+            case DOUBLE:
+                return doubleValues[rowIndex];
+            default:
+                return ((Number) get(rowIndex)).doubleValue();
+        }
+    }
+    
+    /**
+     * Get big decimal value.
+     *
+     * @param rowIndex row index, start from 0
+     * @return big decimal value, null if the value is SQL NULL
+     */
+    public BigDecimal getBigDecimal(final int rowIndex) {
+        if (isNull(rowIndex)) {
+            return null;
+        }
+        switch (storageType) {
+            case INT:
+                return BigDecimal.valueOf(intValues[rowIndex]);
+            case LONG:
+                return BigDecimal.valueOf(longValues[rowIndex]);
+            case DOUBLE:
+                return BigDecimal.valueOf(doubleValues[rowIndex]);
+            case DECIMAL:
+                return BigDecimal.valueOf(longValues[rowIndex], scales[rowIndex]);
+            default:
+                Object value = get(rowIndex);
+                return value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+        }
+    }
+    
+    /**
+     * Get string value.
+     *
+     * @param rowIndex row index, start from 0
+     * @return string value, null if the value is SQL NULL
+     */
+    public String getString(final int rowIndex) {
+        Object value = get(rowIndex);
+        if (null == value) {
+            return null;
+        }
+        return value instanceof byte[] ? new String((byte[]) value) : value.toString();
+    }
+    
+    /**
+     * Get bytes value.
+     *
+     * @param rowIndex row index, start from 0
+     * @return bytes value, null if the value is SQL NULL
+     */
+    public byte[] getBytes(final int rowIndex) {
+        Object value = get(rowIndex);
+        if (null == value) {
+            return null;
+        }
+        return value instanceof byte[] ? (byte[]) value : value.toString().getBytes();
+    }
+    
+    private int getValueStart(final int rowIndex) {
+        return 0 == rowIndex ? 0 : valueEnds[rowIndex - 1];
+    }
+    
+    private void checkRowIndex(final int rowIndex) {
+        if (rowIndex < 0 || rowIndex >= size) {
+            throw new IndexOutOfBoundsException(String.format("Row index: %d, size: %d", rowIndex, size));
+        }
+    }
+    
+    private void allocate(final int capacity) {
+        switch (storageType) {
+            case INT:
+                intValues = new int[capacity];
+                break;
+            case LONG:
+                longValues = new long[capacity];
+                break;
+            case DOUBLE:
+                doubleValues = new double[capacity];
+                break;
+            case DECIMAL:
+                longValues = new long[capacity];
+                scales = new int[capacity];
+                break;
+            case STRING:
+                chars = new char[capacity << 4];
+                valueEnds = new int[capacity];
+                break;
+            case BYTES:
+                bytes = new byte[capacity << 4];
+                valueEnds = new int[capacity];
+                break;
+            default:
+                objectValues = new Object[capacity];
+                break;
+        }
+    }
+    
+    private void ensureCapacity(final int minCapacity) {
+        int capacity = getCapacity();
+        if (minCapacity <= capacity) {
+            return;
+        }
+        int newCapacity = Math.max(minCapacity, capacity + (capacity >> 1));
+        switch (storageType) {
+            case INT:
+                intValues = Arrays.copyOf(intValues, newCapacity);
+                break;
+            case LONG:
+                longValues = Arrays.copyOf(longValues, newCapacity);
+                break;
+            case DOUBLE:
+                doubleValues = Arrays.copyOf(doubleValues, newCapacity);
+                break;
+            case DECIMAL:
+                longValues = Arrays.copyOf(longValues, newCapacity);
+                scales = Arrays.copyOf(scales, newCapacity);
+                break;
+            case STRING:
+            case BYTES:
+                valueEnds = Arrays.copyOf(valueEnds, newCapacity);
+                break;
+            default:
+                objectValues = Arrays.copyOf(objectValues, newCapacity);
+                break;
+        }
+    }
+    
+    private int getCapacity() {
+        switch (storageType) {
+            case INT:
+                return intValues.length;
+            case LONG:
+            case DECIMAL:
+                return longValues.length;
+            case DOUBLE:
+                return doubleValues.length;
+            case STRING:
+            case BYTES:
+                return valueEnds.length;
+            default:
+                return objectValues.length;
+        }
+    }
+    
+    private void convertToObjectStorage() {
+        Object[] values = new Object[getCapacity()];
+        for (int i = 0; i < size; i++) {
+            values[i] = get(i);
+        }
+        intValues = null;
+        longValues = null;
+        doubleValues = null;
+        scales = null;
+        chars = null;
+        bytes = null;
+        valueEnds = null;
+        arenaSize = 0;
+        objectValues = values;
+        storageType = StorageType.OBJECT;
+    }
+    
+    private enum StorageType {
+        
+        UNRESOLVED, INT, LONG, DOUBLE, DECIMAL, STRING, BYTES, OBJECT;
+        
+        private static StorageType valueOf(final Object value) {
+            Class<?> valueClass = value.getClass();
+            if (Integer.class == valueClass) {
+                return INT;
+            }
+            if (Long.class == valueClass) {
+                return LONG;
+            }
+            if (Double.class == valueClass) {
+                return DOUBLE;
+            }
+            if (BigDecimal.class == valueClass) {
+                return ((BigDecimal) value).unscaledValue().bitLength() < Long.SIZE ? DECIMAL : OBJECT;
+            }
+            if (String.class == valueClass) {
+                return STRING;
+            }
+            if (byte[].class == valueClass) {
+                return BYTES;
+            }
+            return OBJECT;
+        }
+    }
+}
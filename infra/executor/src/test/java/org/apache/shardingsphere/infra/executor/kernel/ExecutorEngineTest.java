@@ -17,22 +17,29 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -104,4 +111,118 @@ class ExecutorEngineTest {
         latch.countDown();
         assertTrue(actual.isEmpty());
     }
+    
+    @Test
+    void assertParallelExecuteWithFailedGroup() {
+        SQLException expected = new SQLException("failed");
+        CountDownLatch failedLatch = new CountDownLatch(1);
+        AtomicBoolean runningGroupFinished = new AtomicBoolean();
+        SQLException actual = assertThrows(SQLException.class,
+                () -> executorEngine.execute(createMockedExecutionGroups(3, 1), null, createRunningOrFailedCallback(failedLatch, runningGroupFinished, expected), false));
+        assertThat(actual, is(expected));
+        assertTrue(runningGroupFinished.get());
+    }
+    
+    @Test
+    void assertParallelExecuteWithFailedFirstGroup() {
+        SQLException expected = new SQLException("failed");
+        CountDownLatch failedLatch = new CountDownLatch(1);
+        CountDownLatch runningLatch = new CountDownLatch(1);
+        AtomicBoolean runningGroupFinished = new AtomicBoolean();
+        ExecutorCallback<Object, String> callback = (inputs, isTrunkThread) -> {
+            if (isTrunkThread) {
+                await(runningLatch);
+                failedLatch.countDown();
+                throw expected;
+            }
+            runningLatch.countDown();
+            return awaitFailure(failedLatch, runningGroupFinished);
+        };
+        SQLException actual = assertThrows(SQLException.class, () -> executorEngine.execute(createMockedExecutionGroups(2, 1), null, callback, false));
+        assertThat(actual, is(expected));
+        assertTrue(runningGroupFinished.get());
+    }
+    
+    private ExecutorCallback<Object, String> createRunningOrFailedCallback(final CountDownLatch failedLatch, final AtomicBoolean runningGroupFinished, final SQLException failure) {
+        AtomicInteger asyncCount = new AtomicInteger();
+        return (inputs, isTrunkThread) -> {
+            if (isTrunkThread) {
+                return Collections.emptyList();
+            }
+            if (1 == asyncCount.incrementAndGet()) {
+                return awaitFailure(failedLatch, runningGroupFinished);
+            }
+            failedLatch.countDown();
+            throw failure;
+        };
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrder() throws SQLException {
+        CountDownLatch fastGroupConsumedLatch = new CountDownLatch(1);
+        ExecutorCallback<String, String> callback = (inputs, isTrunkThread) -> {
+            if (inputs.contains("slow")) {
+                await(fastGroupConsumedLatch);
+            }
+            return inputs;
+        };
+        List<String> actual = new LinkedList<>();
+        executorEngine.executeInCompletionOrder(createExecutionGroups("first", "slow", "fast"), null, callback, false, groupResults -> {
+            actual.addAll(groupResults);
+            if (groupResults.contains("fast")) {
+                fastGroupConsumedLatch.countDown();
+            }
+        });
+        assertThat(actual, is(Arrays.asList("first", "fast", "slow")));
+    }
+    
+    @Test
+    void assertSerialExecuteInCompletionOrder() throws SQLException {
+        List<String> actual = new LinkedList<>();
+        executorEngine.executeInCompletionOrder(createExecutionGroups("first", "second"), null, (inputs, isTrunkThread) -> inputs, true, actual::addAll);
+        assertThat(actual, is(Arrays.asList("first", "second")));
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderWithFailedGroup() {
+        SQLException expected = new SQLException("failed");
+        CountDownLatch failedLatch = new CountDownLatch(1);
+        AtomicBoolean runningGroupFinished = new AtomicBoolean();
+        List<String> actual = new LinkedList<>();
+        SQLException actualException = assertThrows(SQLException.class, () -> executorEngine.executeInCompletionOrder(
+                createMockedExecutionGroups(3, 1), null, createRunningOrFailedCallback(failedLatch, runningGroupFinished, expected), false, actual::addAll));
+        assertThat(actualException, is(expected));
+        assertTrue(runningGroupFinished.get());
+        assertTrue(actual.isEmpty());
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderWithFailedConsumer() {
+        IllegalStateException expected = new IllegalStateException("failed");
+        IllegalStateException actual = assertThrows(IllegalStateException.class, () -> executorEngine.executeInCompletionOrder(createExecutionGroups("first", "second"), null,
+                (inputs, isTrunkThread) -> inputs, false, groupResults -> {
+                    throw expected;
+                }));
+        assertThat(actual, is(expected));
+    }
+    
+    private ExecutionGroupContext<String> createExecutionGroups(final String... inputs) {
+        Collection<ExecutionGroup<String>> result = new LinkedList<>();
+        for (String each : inputs) {
+            result.add(new ExecutionGroup<>(Collections.singletonList(each)));
+        }
+        return new ExecutionGroupContext<>(result, mock(ExecutionGroupReportContext.class));
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void await(final CountDownLatch latch) {
+        latch.await();
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private Collection<String> awaitFailure(final CountDownLatch failedLatch, final AtomicBoolean runningGroupFinished) {
+        failedLatch.await();
+        runningGroupFinished.set(true);
+        return Collections.emptyList();
+    }
 }
@@ -50,6 +50,14 @@ class ExecutorServiceManagerTest {
         assertTimeout(Duration.ofSeconds(1L), () -> assertFinished(finished));
     }
     
+    @Test
+    void assertExecuteWithVirtualThreadEnabled() {
+        AtomicBoolean finished = new AtomicBoolean(false);
+        ExecutorService executorService = new ExecutorServiceManager(1, "%d", true).getExecutorService();
+        executorService.submit(() -> finished.set(true));
+        assertTimeout(Duration.ofSeconds(1L), () -> assertFinished(finished));
+    }
+    
     private void assertFinished(final AtomicBoolean finished) {
         Awaitility.await().atMost(1L, TimeUnit.MINUTES).pollInterval(100L, TimeUnit.MILLISECONDS).until(finished::get);
     }
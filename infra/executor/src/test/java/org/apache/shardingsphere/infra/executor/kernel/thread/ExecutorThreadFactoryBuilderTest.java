@@ -19,10 +19,13 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 class ExecutorThreadFactoryBuilderTest {
     
@@ -33,4 +36,17 @@ class ExecutorThreadFactoryBuilderTest {
         });
         assertThat(thread.getName(), is("ShardingSphere-test"));
     }
+    
+    @Test
+    void assertBuildVirtualWithNameFormat() {
+        boolean expectedSupported = Arrays.stream(Thread.class.getMethods()).anyMatch(each -> "ofVirtual".equals(each.getName()));
+        Optional<ThreadFactory> threadFactory = ExecutorThreadFactoryBuilder.buildVirtual("test");
+        assertThat(ExecutorThreadFactoryBuilder.isVirtualThreadSupported(), is(threadFactory.isPresent()));
+        if (!expectedSupported) {
+            assertFalse(threadFactory.isPresent());
+            return;
+        }
+        threadFactory.ifPresent(optional -> assertThat(optional.newThread(() -> {
+        }).getName(), is("ShardingSphere-test")));
+    }
 }
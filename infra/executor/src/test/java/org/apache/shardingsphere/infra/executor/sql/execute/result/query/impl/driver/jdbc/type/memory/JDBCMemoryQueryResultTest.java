@@ -39,8 +39,10 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.Calendar;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -68,6 +70,17 @@ class JDBCMemoryQueryResultTest {
         assertFalse(queryResult.next());
     }
     
+    @Test
+    void assertGetCurrentRow() throws SQLException {
+        JDBCMemoryQueryResult queryResult = new JDBCMemoryQueryResult(mockResultSet(), databaseType);
+        assertNull(queryResult.getCurrentRow());
+        assertTrue(queryResult.next());
+        assertThat(queryResult.getCurrentRow().getValue(), is(Collections.singletonList(1)));
+        assertThat(queryResult.getCurrentRow(), sameInstance(queryResult.getCurrentRow()));
+        assertFalse(queryResult.next());
+        assertNull(queryResult.getCurrentRow());
+    }
+    
     @Test
     void assertGetValueByNull() throws SQLException {
         ResultSet resultSet = mock(ResultSet.class);
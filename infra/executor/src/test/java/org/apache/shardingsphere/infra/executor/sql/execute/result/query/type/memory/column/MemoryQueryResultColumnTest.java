@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MemoryQueryResultColumnTest {
+    
+    @Test
+    void assertAddAndGetIntValues() {
+        MemoryQueryResultColumn actual = new MemoryQueryResultColumn();
+        actual.add(null);
+        for (int i = 0; i < 100; i++) {
+            actual.add(i);
+        }
+        assertThat(actual.getSize(), is(101));
+        assertTrue(actual.isNull(0));
+        assertNull(actual.get(0));
+        assertThat(actual.get(100), is(99));
+    }
+    
+    @Test
+    void assertAddAndGetLongValues() {
+        MemoryQueryResultColumn actual = new MemoryQueryResultColumn();
+        actual.add(Long.MAX_VALUE);
+        actual.add(null);
+        assertThat(actual.get(0), is(Long.MAX_VALUE));
+        assertNull(actual.get(1));
+    }
+    
+    @Test
+    void assertAddAndGetDoubleValues() {
+        MemoryQueryResultColumn actual = new MemoryQueryResultColumn();
+        actual.add(1.5D);
+        assertThat(actual.get(0), is(1.5D));
+    }
+    
+    @Test
+    void assertAddTypedValues() {
+        MemoryQueryResultColumn actual = new MemoryQueryResultColumn();
+        actual.addNull();
+        actual.addLong(1L);
+        actual.addLong(Long.MIN_VALUE);
+        assertTrue(actual.isNull(0));
+        assertThat(actual.get(1), is(1L));
+        assertThat(actual.get(2), is(Long.MIN_VALUE));
+    }
+    
+    @Test
+    void assertAddTypedValuesWithMixedTypes() {
+        MemoryQueryResultColumn actual = new MemoryQueryResultColumn();
+        actual.addInt(1);
+        actual.addDouble(2.5D);
+        actual.add("foo");
+        assertThat(actual.get(0), is(1));
+        assertThat(actual.get(1), is(2.5D));
+        assertThat(actual.get(2), is("foo"));
+    }
+    
+    @Test
+    void assertAddAndGetDateValues() {
+        MemoryQueryResultColumn actual = new MemoryQueryResultColumn();
+        Date date = new Date(0L);
+        actual.add(date);
+        assertThat(actual.get(0), sameInstance(date));
+    }
+    
+    @Test
+    void assertAddAndGetObjectValues() {
+        MemoryQueryResultColumn actual = new MemoryQueryResultColumn();
+        actual.add("foo");
+        actual.add(null);
+        assertThat(actual.get(0), is("foo"));
+        assertNull(actual.get(1));
+    }
+    
+    @Test
+    void assertConvertToObjectStorageWithMixedValues() {
+        MemoryQueryResultColumn actual = new MemoryQueryResultColumn();
+        actual.add(1);
+        actual.add(null);
+        actual.add(new BigDecimal("2.5"));
+        assertThat(actual.get(0), is(1));
+        assertNull(actual.get(1));
+        assertThat(actual.get(2), is(new BigDecimal("2.5")));
+        assertFalse(actual.isNull(2));
+    }
+    
+    @Test
+    void assertGetTypedIntValues() {
+        MemoryQueryResultColumn actual = new MemoryQueryResultColumn();
+        actual.addInt(1);
+        actual.addNull();
+        assertThat(actual.getInt(0), is(1));
+        assertThat(actual.getLong(0), is(1L));
+        assertThat(actual.getDouble(0), is(1D));
+        assertThat(actual.getBigDecimal(0), is(BigDecimal.ONE));
+        assertThat(actual.getString(0), is("1"));
+        assertThat(actual.getInt(1), is(0));
+        assertThat(actual.getLong(1), is(0L));
+        assertThat(actual.getDouble(1), is(0D));
+        assertNull(actual.getBigDecimal(1));
+        assertNull(actual.getString(1));
+    }
+    
+    @Test
+    void assertGetTypedLongValues() {
+        MemoryQueryResultColumn actual = new MemoryQueryResultColumn();
+        actual.addNull();
+        actual.addLong(Long.MAX_VALUE);
+        assertThat(actual.getLong(0), is(0L));
+        assertNull(actual.getBigDecimal(0));
+        assertThat(actual.getLong(1), is(Long.MAX_VALUE));
+        assertThat(actual.getBigDecimal(1), is(BigDecimal.valueOf(Long.MAX_VALUE)));
+    }
+    
+    @Test
+    void assertGetTypedDoubleValues() {
+        MemoryQueryResultColumn actual = new MemoryQueryResultColumn();
+        actual.addDouble(2.5D);
+        actual.addNull();
+        assertThat(actual.getDouble(0), is(2.5D));
+        assertThat(actual.getInt(0), is(2));
+        assertThat(actual.getDouble(1), is(0D));
+        assertNull(actual.get(1));
+    }
+    
+    @Test
+    void assertGetTypedDecimalValues() {
+        MemoryQueryResultColumn actual = new MemoryQueryResultColumn();
+        actual.add(new BigDecimal("-12.345"));
+        actual.add(null);
+        actual.add(new BigDecimal("1E+3"));
+        assertThat(actual.get(0), is(new BigDecimal("-12.345")));
+        assertThat(actual.getBigDecimal(0), is(new BigDecimal("-12.345")));
+        assertThat(actual.getDouble(0), is(-12.345D));
+        assertNull(actual.getBigDecimal(1));
+        assertThat(actual.getInt(1), is(0));
+        assertThat(actual.getBigDecimal(2), is(new BigDecimal("1E+3")));
+        assertThat(actual.getLong(2), is(1000L));
+    }
+    
+    @Test
+    void assertGetDecimalValueBeyondLongRange() {
+        MemoryQueryResultColumn actual = new MemoryQueryResultColumn();
+        actual.add(new BigDecimal("1.5"));
+        BigDecimal value = new BigDecimal("123456789012345678901234567890.5");
+        actual.add(value);
+        assertThat(actual.getBigDecimal(0), is(new BigDecimal("1.5")));
+        assertThat(actual.getBigDecimal(1), is(value));
+    }
+    
+    @Test
+    void assertGetTypedStringValues() {
+        MemoryQueryResultColumn actual = new MemoryQueryResultColumn();
+        actual.add(null);
+        for (int i = 0; i < 100; i++) {
+            actual.add("value_" + i);
+        }
+        actual.add("");
+        actual.addNull();
+        assertNull(actual.getString(0));
+        assertNull(actual.get(0));
+        assertThat(actual.getString(1), is("value_0"));
+        assertThat(actual.get(100), is("value_99"));
+        assertThat(actual.getString(101), is(""));
+        assertFalse(actual.isNull(101));
+        assertNull(actual.getString(102));
+    }
+    
+    @Test
+    void assertGetTypedBytesValues() {
+        MemoryQueryResultColumn actual = new MemoryQueryResultColumn();
+        actual.add(new byte[]{1, 2});
+        actual.add(null);
+        actual.add(new byte[]{3});
+        assertThat(actual.getBytes(0), is(new byte[]{1, 2}));
+        assertNull(actual.getBytes(1));
+        assertThat(actual.get(2), is(new byte[]{3}));
+    }
+    
+    @Test
+    void assertConvertStringStorageToObjectStorage() {
+        MemoryQueryResultColumn actual = new MemoryQueryResultColumn();
+        actual.add("foo");
+        actual.add(null);
+        actual.add(1);
+        assertThat(actual.getString(0), is("foo"));
+        assertNull(actual.getString(1));
+        assertThat(actual.getInt(2), is(1));
+    }
+    
+    @Test
+    void assertGetWithOutOfRangeRowIndex() {
+        MemoryQueryResultColumn actual = new MemoryQueryResultColumn();
+        actual.add(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> actual.get(1));
+    }
+}
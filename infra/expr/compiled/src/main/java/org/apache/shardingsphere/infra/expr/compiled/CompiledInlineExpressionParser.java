@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.compiled;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import groovy.lang.Closure;
+import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compiled inline expression parser.
+ * 
+ * <p>Evaluates the common subset of inline expression with compiled expression tree instead of Groovy closure,
+ * and falls back to Groovy based inline expression parser for others.</p>
+ */
+public final class CompiledInlineExpressionParser implements InlineExpressionParser {
+    
+    private static final Cache<String, Optional<CompiledInlineExpression>> COMPILED_EXPRESSIONS = Caffeine.newBuilder().softValues().initialCapacity(128).maximumSize(1024L).build();
+    
+    @Override
+    public String handlePlaceHolder(final String inlineExpression) {
+        return InlineExpressionParserFactory.newInstance().handlePlaceHolder(inlineExpression);
+    }
+    
+    @Override
+    public List<String> splitAndEvaluate(final String inlineExpression) {
+        return InlineExpressionParserFactory.newInstance().splitAndEvaluate(inlineExpression);
+    }
+    
+    @Override
+    public Closure<?> evaluateClosure(final String inlineExpression) {
+        return InlineExpressionParserFactory.newInstance().evaluateClosure(inlineExpression);
+    }
+    
+    @Override
+    public String evaluateWithArgs(final String inlineExpression, final Map<String, Comparable<?>> args) {
+        Optional<CompiledInlineExpression> compiledExpression = getCompiledExpression(inlineExpression);
+        if (compiledExpression.isPresent()) {
+            Optional<String> result = compiledExpression.get().evaluate(args);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        return InlineExpressionParserFactory.newInstance().evaluateWithArgs(inlineExpression, args);
+    }
+    
+    private Optional<CompiledInlineExpression> getCompiledExpression(final String inlineExpression) {
+        Optional<CompiledInlineExpression> result = COMPILED_EXPRESSIONS.getIfPresent(inlineExpression);
+        return null == result ? COMPILED_EXPRESSIONS.get(inlineExpression, InlineExpressionCompiler::compile) : result;
+    }
+    
+    @Override
+    public String getType() {
+        return "COMPILED";
+    }
+}
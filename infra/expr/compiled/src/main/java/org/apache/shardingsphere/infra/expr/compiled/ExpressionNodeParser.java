@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.compiled;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.expr.compiled.node.AbsNode;
+import org.apache.shardingsphere.infra.expr.compiled.node.ArithmeticNode;
+import org.apache.shardingsphere.infra.expr.compiled.node.ExpressionNode;
+import org.apache.shardingsphere.infra.expr.compiled.node.HashCodeNode;
+import org.apache.shardingsphere.infra.expr.compiled.node.LiteralNode;
+import org.apache.shardingsphere.infra.expr.compiled.node.NegateNode;
+import org.apache.shardingsphere.infra.expr.compiled.node.SubstringNode;
+import org.apache.shardingsphere.infra.expr.compiled.node.VariableNode;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Expression node parser, parses the content of one {@code ${...}} placeholder.
+ */
+@RequiredArgsConstructor
+public final class ExpressionNodeParser {
+    
+    private static final int MAX_NUMBER_LENGTH = 18;
+    
+    private static final Collection<String> RESERVED_NAMES = new HashSet<>(Arrays.asList("it", "this", "super", "true", "false", "null", "new",
+            "delegate", "owner", "thisObject", "maximumNumberOfParameters", "parameterTypes", "metaClass", "class", "directive", "resolveStrategy"));
+    
+    private final String expression;
+    
+    private int position;
+    
+    /**
+     * Parse.
+     *
+     * @return parsed expression node
+     * @throws UnsupportedEvaluationException unsupported evaluation exception
+     */
+    public ExpressionNode parse() {
+        ExpressionNode result = parseAdditive();
+        skipWhitespaces();
+        checkSupported(position == expression.length());
+        return result;
+    }
+    
+    private ExpressionNode parseAdditive() {
+        ExpressionNode result = parseMultiplicative();
+        while (true) {
+            skipWhitespaces();
+            char operator = peek();
+            if ('+' != operator && '-' != operator) {
+                return result;
+            }
+            consumeOperator(operator);
+            result = new ArithmeticNode(operator, result, parseMultiplicative());
+        }
+    }
+    
+    private ExpressionNode parseMultiplicative() {
+        ExpressionNode result = parseUnary();
+        while (true) {
+            skipWhitespaces();
+            char operator = peek();
+            if ('*' != operator && '%' != operator) {
+                return result;
+            }
+            consumeOperator(operator);
+            result = new ArithmeticNode(operator, result, parseUnary());
+        }
+    }
+    
+    private ExpressionNode parseUnary() {
+        skipWhitespaces();
+        if ('-' == peek()) {
+            consumeOperator('-');
+            return new NegateNode(parseUnary());
+        }
+        return parsePostfix();
+    }
+    
+    private void consumeOperator(final char operator) {
+        position++;
+        char next = peek();
+        checkSupported('=' != next && operator != next && '>' != next);
+    }
+    
+    private ExpressionNode parsePostfix() {
+        ExpressionNode result = parsePrimary();
+        while (true) {
+            skipWhitespaces();
+            if ('.' != peek()) {
+                return result;
+            }
+            position++;
+            String methodName = parseIdentifier();
+            List<ExpressionNode> args = parseArguments();
+            if ("hashCode".equals(methodName) && args.isEmpty()) {
+                result = new HashCodeNode(result);
+            } else if ("substring".equals(methodName) && (1 == args.size() || 2 == args.size())) {
+                result = new SubstringNode(result, args.get(0), 2 == args.size() ? args.get(1) : null);
+            } else {
+                throw UnsupportedEvaluationException.INSTANCE;
+            }
+        }
+    }
+    
+    private ExpressionNode parsePrimary() {
+        skipWhitespaces();
+        char current = peek();
+        if (isDigit(current)) {
+            return new LiteralNode(parseNumber());
+        }
+        if ('\'' == current) {
+            return new LiteralNode(parseString());
+        }
+        if ('(' == current) {
+            position++;
+            ExpressionNode result = parseAdditive();
+            expect(')');
+            return result;
+        }
+        String identifier = parseIdentifier();
+        if ("Math".equals(identifier)) {
+            expect('.');
+            checkSupported("abs".equals(parseIdentifier()));
+            List<ExpressionNode> args = parseArguments();
+            checkSupported(1 == args.size());
+            return new AbsNode(args.get(0));
+        }
+        checkSupported(!RESERVED_NAMES.contains(identifier));
+        return new VariableNode(identifier);
+    }
+    
+    private Number parseNumber() {
+        int startIndex = position;
+        while (isDigit(peek())) {
+            position++;
+        }
+        String digits = expression.substring(startIndex, position);
+        checkSupported(digits.length() <= MAX_NUMBER_LENGTH && (1 == digits.length() || '0' != digits.charAt(0)));
+        long value = Long.parseLong(digits);
+        if ('L' == peek() || 'l' == peek()) {
+            position++;
+            checkSupported(!isNumberPart(peek()));
+            return value;
+        }
+        checkSupported(!isNumberPart(peek()) && !('.' == peek() && position + 1 < expression.length() && isDigit(expression.charAt(position + 1))));
+        return value <= Integer.MAX_VALUE ? (Number) (int) value : (Number) value;
+    }
+    
+    private boolean isDigit(final char value) {
+        return value >= '0' && value <= '9';
+    }
+    
+    private boolean isNumberPart(final char value) {
+        return Character.isLetterOrDigit(value) || '_' == value;
+    }
+    
+    private String parseString() {
+        int endIndex = expression.indexOf('\'', position + 1);
+        checkSupported(-1 != endIndex);
+        String result = expression.substring(position + 1, endIndex);
+        checkSupported(-1 == result.indexOf('\\'));
+        position = endIndex + 1;
+        return result;
+    }
+    
+    private String parseIdentifier() {
+        skipWhitespaces();
+        int startIndex = position;
+        checkSupported(Character.isLetter(peek()) || '_' == peek());
+        while (isNumberPart(peek())) {
+            position++;
+        }
+        return expression.substring(startIndex, position);
+    }
+    
+    private List<ExpressionNode> parseArguments() {
+        expect('(');
+        List<ExpressionNode> result = new LinkedList<>();
+        skipWhitespaces();
+        if (')' == peek()) {
+            position++;
+            return result;
+        }
+        while (true) {
+            result.add(parseAdditive());
+            skipWhitespaces();
+            char current = peek();
+            position++;
+            if (')' == current) {
+                return result;
+            }
+            checkSupported(',' == current);
+        }
+    }
+    
+    private void expect(final char expected) {
+        skipWhitespaces();
+        checkSupported(expected == peek());
+        position++;
+    }
+    
+    private void skipWhitespaces() {
+        while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+            position++;
+        }
+    }
+    
+    private char peek() {
+        return position < expression.length() ? expression.charAt(position) : 0;
+    }
+    
+    private void checkSupported(final boolean supported) {
+        if (!supported) {
+            throw UnsupportedEvaluationException.INSTANCE;
+        }
+    }
+}
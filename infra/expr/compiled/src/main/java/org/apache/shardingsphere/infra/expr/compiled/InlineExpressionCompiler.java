@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.compiled;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.expr.compiled.node.ExpressionNode;
+import org.apache.shardingsphere.infra.expr.compiled.node.LiteralNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Inline expression compiler.
+ * 
+ * <p>Compiles the common subset of Groovy string inline expression, which includes string concatenation, arithmetic, {@code hashCode()},
+ * {@code substring(...)} and {@code Math.abs(...)}. The compiled expression is evaluated without Groovy runtime.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class InlineExpressionCompiler {
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression
+     * @return compiled inline expression, empty if the expression is out of the supported subset
+     */
+    public static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        try {
+            return Optional.of(new CompiledInlineExpression(parseSegments(inlineExpression).toArray(new ExpressionNode[0])));
+        } catch (final UnsupportedEvaluationException ignore) {
+            return Optional.empty();
+        }
+    }
+    
+    private static List<ExpressionNode> parseSegments(final String inlineExpression) {
+        List<ExpressionNode> result = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int index = 0;
+        while (index < inlineExpression.length()) {
+            char each = inlineExpression.charAt(index);
+            if ('$' == each) {
+                checkSupported(index + 1 < inlineExpression.length() && '{' == inlineExpression.charAt(index + 1));
+                int endIndex = findPlaceholderEndIndex(inlineExpression, index + 2);
+                if (literal.length() > 0) {
+                    result.add(new LiteralNode(literal.toString()));
+                    literal.setLength(0);
+                }
+                result.add(new ExpressionNodeParser(inlineExpression.substring(index + 2, endIndex)).parse());
+                index = endIndex + 1;
+                continue;
+            }
+            checkSupported('"' != each && '\\' != each && '\n' != each && '\r' != each);
+            literal.append(each);
+            index++;
+        }
+        if (literal.length() > 0) {
+            result.add(new LiteralNode(literal.toString()));
+        }
+        return result;
+    }
+    
+    private static int findPlaceholderEndIndex(final String inlineExpression, final int startIndex) {
+        boolean inQuote = false;
+        for (int i = startIndex; i < inlineExpression.length(); i++) {
+            char each = inlineExpression.charAt(i);
+            if ('\'' == each) {
+                inQuote = !inQuote;
+            } else if (!inQuote && '}' == each) {
+                return i;
+            } else {
+                checkSupported(inQuote || '{' != each && '"' != each);
+            }
+        }
+        throw UnsupportedEvaluationException.INSTANCE;
+    }
+    
+    private static void checkSupported(final boolean supported) {
+        if (!supported) {
+            throw UnsupportedEvaluationException.INSTANCE;
+        }
+    }
+}
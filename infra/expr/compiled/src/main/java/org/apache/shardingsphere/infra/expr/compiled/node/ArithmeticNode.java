@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.compiled.node;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.expr.compiled.UnsupportedEvaluationException;
+
+import java.util.Map;
+
+/**
+ * Arithmetic node, supports {@code +}, {@code -}, {@code *} and {@code %}.
+ */
+@RequiredArgsConstructor
+public final class ArithmeticNode implements ExpressionNode {
+    
+    private final char operator;
+    
+    private final ExpressionNode left;
+    
+    private final ExpressionNode right;
+    
+    @Override
+    public Object evaluate(final Map<String, Comparable<?>> args) {
+        Object leftValue = left.evaluate(args);
+        Object rightValue = right.evaluate(args);
+        if ('+' == operator && (leftValue instanceof String || rightValue instanceof String)) {
+            return ExpressionValues.toText(leftValue) + ExpressionValues.toText(rightValue);
+        }
+        Number leftNumber = ExpressionValues.toIntegral(leftValue);
+        Number rightNumber = ExpressionValues.toIntegral(rightValue);
+        return leftNumber instanceof Integer && rightNumber instanceof Integer
+                ? (Object) calculate(leftNumber.intValue(), rightNumber.intValue())
+                : (Object) calculate(leftNumber.longValue(), rightNumber.longValue());
+    }
+    
+    private int calculate(final int leftValue, final int rightValue) {
+        switch (operator) {
+            case '+':
+                return leftValue + rightValue;
+            case '-':
+                return leftValue - rightValue;
+            case '*':
+                return leftValue * rightValue;
+            case '%':
+                return leftValue % rightValue;
+            default:
+                throw UnsupportedEvaluationException.INSTANCE;
+        }
+    }
+    
+    private long calculate(final long leftValue, final long rightValue) {
+        switch (operator) {
+            case '+':
+                return leftValue + rightValue;
+            case '-':
+                return leftValue - rightValue;
+            case '*':
+                return leftValue * rightValue;
+            case '%':
+                return leftValue % rightValue;
+            default:
+                throw UnsupportedEvaluationException.INSTANCE;
+        }
+    }
+}
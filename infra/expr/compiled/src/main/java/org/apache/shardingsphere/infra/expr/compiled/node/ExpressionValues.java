@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.compiled.node;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.expr.compiled.UnsupportedEvaluationException;
+
+import java.math.BigInteger;
+
+/**
+ * Expression values.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ExpressionValues {
+    
+    /**
+     * Convert value to integral number with the same promotion as Groovy, byte and short are promoted to integer.
+     *
+     * @param value value to be converted
+     * @return integer or long value
+     * @throws UnsupportedEvaluationException unsupported evaluation exception
+     */
+    public static Number toIntegral(final Object value) {
+        if (value instanceof Integer || value instanceof Long) {
+            return (Number) value;
+        }
+        if (value instanceof Short || value instanceof Byte) {
+            return ((Number) value).intValue();
+        }
+        throw UnsupportedEvaluationException.INSTANCE;
+    }
+    
+    /**
+     * Convert value to text with the same format as Groovy string.
+     *
+     * @param value value to be converted
+     * @return text
+     * @throws UnsupportedEvaluationException unsupported evaluation exception
+     */
+    public static String toText(final Object value) {
+        if (value instanceof String) {
+            return (String) value;
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte || value instanceof BigInteger) {
+            return value.toString();
+        }
+        throw UnsupportedEvaluationException.INSTANCE;
+    }
+}
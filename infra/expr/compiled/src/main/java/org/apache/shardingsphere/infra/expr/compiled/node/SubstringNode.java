@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.compiled.node;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.expr.compiled.UnsupportedEvaluationException;
+
+import java.util.Map;
+
+/**
+ * Substring node, represents {@code target.substring(beginIndex)} or {@code target.substring(beginIndex, endIndex)}.
+ */
+@RequiredArgsConstructor
+public final class SubstringNode implements ExpressionNode {
+    
+    private final ExpressionNode target;
+    
+    private final ExpressionNode beginIndex;
+    
+    private final ExpressionNode endIndex;
+    
+    @Override
+    public Object evaluate(final Map<String, Comparable<?>> args) {
+        Object value = target.evaluate(args);
+        if (!(value instanceof String)) {
+            throw UnsupportedEvaluationException.INSTANCE;
+        }
+        int begin = toIndex(beginIndex.evaluate(args));
+        return null == endIndex ? ((String) value).substring(begin) : ((String) value).substring(begin, toIndex(endIndex.evaluate(args)));
+    }
+    
+    private int toIndex(final Object value) {
+        Number result = ExpressionValues.toIntegral(value);
+        if (!(result instanceof Integer)) {
+            throw UnsupportedEvaluationException.INSTANCE;
+        }
+        return result.intValue();
+    }
+}
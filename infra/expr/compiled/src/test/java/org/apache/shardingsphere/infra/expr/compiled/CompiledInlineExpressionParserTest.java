@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.compiled;
+
+import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompiledInlineExpressionParserTest {
+    
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"t_order_${order_id % 4}", "t_order_${(order_id + user_id) % 2}", "ds_${user_id * 2 - 1}_${-order_id % 3}",
+            "t_order_${order_id.hashCode() % 4}", "t_order_${Math.abs(status.hashCode()) % 16}", "t_order_${status.substring(0, 2)}", "t_${status.substring(3) + '_' + user_id}",
+            "t_order_${2147483647 + order_id}", "t_order_${2147483648 + order_id}", "t_order_${1 + status}", "t_order", "t_order_${order_id / 2}", "t_order_${order_id ?: 0}"})
+    void assertEvaluateWithArgs(final String inlineExpression) {
+        Map<String, Comparable<?>> args = new HashMap<>(3, 1F);
+        args.put("order_id", 13);
+        args.put("user_id", 7L);
+        args.put("status", "FINISHED");
+        assertThat(new CompiledInlineExpressionParser().evaluateWithArgs(inlineExpression, args), is(InlineExpressionParserFactory.newInstance().evaluateWithArgs(inlineExpression, args)));
+    }
+    
+    @Test
+    void assertEvaluateWithUnsupportedArgs() {
+        Map<String, Comparable<?>> args = Collections.singletonMap("order_id", 13.5D);
+        assertThat(new CompiledInlineExpressionParser().evaluateWithArgs("t_order_${order_id % 4}", args), is("t_order_1.5"));
+    }
+    
+    @Test
+    void assertEvaluateWithMissingArgs() {
+        assertThrows(NullPointerException.class, () -> new CompiledInlineExpressionParser().evaluateWithArgs("t_order_${order_id % 4}", Collections.singletonMap("user_id", 1)));
+    }
+}
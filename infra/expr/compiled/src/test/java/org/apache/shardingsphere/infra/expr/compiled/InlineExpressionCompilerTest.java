@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.compiled;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InlineExpressionCompilerTest {
+    
+    @Test
+    void assertCompile() {
+        Optional<CompiledInlineExpression> actual = InlineExpressionCompiler.compile("t_order_${ Math.abs(order_id.hashCode()) % 4 }_${'x'}");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().evaluate(Collections.singletonMap("order_id", -5)), is(Optional.of("t_order_1_x")));
+    }
+    
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"t_order_${order_id / 2}", "t_order_${order_id ** 2}", "t_order_${order_id--}", "t_order_${it}", "t_order_${order_id.toString()}",
+            "t_order_${1.5}", "t_order_${010}", "t_order_${1G}", "t_order_${[0, 1]}", "t_order_$order_id", "t_order_${order_id", "t_order_${}", "t_\"order\"", "t_order_${foo(1)}"})
+    void assertCompileUnsupportedExpression(final String inlineExpression) {
+        assertFalse(InlineExpressionCompiler.compile(inlineExpression).isPresent());
+    }
+}
@@ -18,10 +18,12 @@
 package org.apache.shardingsphere.infra.expr.spi;
 
 import groovy.lang.Closure;
+import groovy.util.Expando;
 import org.apache.shardingsphere.infra.util.spi.annotation.SingletonSPI;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPI;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Inline expression parser.
@@ -52,4 +54,18 @@ public interface InlineExpressionParser extends TypedSPI {
      * @return closure
      */
     Closure<?> evaluateClosure(String inlineExpression);
+    
+    /**
+     * Evaluate inline expression with arguments.
+     *
+     * @param inlineExpression inline expression
+     * @param args arguments, key is variable name and value is variable value
+     * @return evaluated result
+     */
+    default String evaluateWithArgs(final String inlineExpression, final Map<String, Comparable<?>> args) {
+        Closure<?> closure = evaluateClosure(inlineExpression).rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        args.forEach(closure::setProperty);
+        return closure.call().toString();
+    }
 }
@@ -61,6 +61,13 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
         }
     }
     
+    protected MemoryMergedResult(final List<MemoryQueryResultRow> memoryQueryResultRows) {
+        memoryResultSetRows = memoryQueryResultRows.iterator();
+        if (!memoryQueryResultRows.isEmpty()) {
+            currentResultSetRow = memoryQueryResultRows.get(0);
+        }
+    }
+    
     protected abstract List<MemoryQueryResultRow> init(T rule, ShardingSphereSchema schema, SQLStatementContext sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
     
     @Override
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLStatementVisitorEngine;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.core.token.RebindableToken;
+import org.apache.shardingsphere.sql.parser.core.token.RebindableTokenFactory;
+import org.apache.shardingsphere.sql.parser.spi.SQLDialectParserFacade;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Literal normalized SQL statement parser.
+ * 
+ * <p>SQL is lexed first, and the token sequence with literal values replaced by placeholders is used as cache key of parse tree.
+ * SQL which only differs in literal values reuses the cached parse tree by rebinding its tokens, so that only the visitor is executed.</p>
+ */
+public final class LiteralNormalizedSQLStatementParser {
+    
+    private static final Collection<String> LITERAL_TOKEN_NAMES = new HashSet<>(
+            Arrays.asList("NUMBER_", "STRING_", "SINGLE_QUOTED_TEXT", "DOUBLE_QUOTED_TEXT", "NCHAR_TEXT", "HEX_DIGIT_", "BIT_NUM_"));
+    
+    private static final String LITERAL_PLACEHOLDER = "?";
+    
+    private final String databaseType;
+    
+    private final SQLParserExecutor sqlParserExecutor;
+    
+    private final SQLStatementVisitorEngine visitorEngine;
+    
+    private final Cache<String, ParseTreeTemplate> parseTreeTemplates;
+    
+    public LiteralNormalizedSQLStatementParser(final String databaseType, final CacheOption parseTreeCacheOption, final SQLStatementVisitorEngine visitorEngine) {
+        this.databaseType = databaseType;
+        sqlParserExecutor = new SQLParserExecutor(databaseType);
+        this.visitorEngine = visitorEngine;
+        parseTreeTemplates = Caffeine.newBuilder().softValues()
+                .initialCapacity(parseTreeCacheOption.getInitialCapacity()).maximumSize(parseTreeCacheOption.getMaximumSize()).build();
+    }
+    
+    /**
+     * Parse to SQL statement.
+     *
+     * @param sql SQL to be parsed
+     * @return SQL statement
+     */
+    public SQLStatement parse(final String sql) {
+        Class<? extends SQLLexer> lexerClass = TypedSPILoader.getService(SQLDialectParserFacade.class, databaseType).getLexerClass();
+        CommonTokenStream tokenStream = SQLParserFactory.newTokenStream(sql, lexerClass, RebindableTokenFactory.getInstance());
+        tokenStream.fill();
+        List<RebindableToken> tokens = getDefaultChannelTokens(tokenStream);
+        String normalizedSQL = getNormalizedSQL(tokens, ((Lexer) tokenStream.getTokenSource()).getVocabulary());
+        ParseTreeTemplate template = parseTreeTemplates.getIfPresent(normalizedSQL);
+        if (null != template) {
+            Optional<SQLStatement> result = template.visit(tokens, visitorEngine);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        ParseASTNode parseASTNode = sqlParserExecutor.parse(sql, tokenStream);
+        SQLStatement result = visitorEngine.visit(parseASTNode);
+        if (null == template) {
+            parseTreeTemplates.put(normalizedSQL, new ParseTreeTemplate(parseASTNode, tokens));
+        }
+        return result;
+    }
+    
+    private List<RebindableToken> getDefaultChannelTokens(final CommonTokenStream tokenStream) {
+        List<RebindableToken> result = new ArrayList<>(tokenStream.size());
+        for (Token each : tokenStream.getTokens()) {
+            if (Token.DEFAULT_CHANNEL == each.getChannel()) {
+                result.add((RebindableToken) each);
+            }
+        }
+        return result;
+    }
+    
+    private String getNormalizedSQL(final List<RebindableToken> tokens, final Vocabulary vocabulary) {
+        StringBuilder result = new StringBuilder();
+        for (RebindableToken each : tokens) {
+            result.append(each.getType()).append(':');
+            result.append(LITERAL_TOKEN_NAMES.contains(vocabulary.getSymbolicName(each.getType())) ? LITERAL_PLACEHOLDER : each.getText()).append(' ');
+        }
+        return result.toString();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ParseTreeTemplate {
+        
+        private final ParseASTNode parseASTNode;
+        
+        private final List<RebindableToken> tokens;
+        
+        private final Lock lock = new ReentrantLock();
+        
+        private Optional<SQLStatement> visit(final List<RebindableToken> actualTokens, final SQLStatementVisitorEngine visitorEngine) {
+            if (!lock.tryLock()) {
+                return Optional.empty();
+            }
+            try {
+                for (int i = 0; i < tokens.size(); i++) {
+                    tokens.get(i).rebind(actualTokens.get(i));
+                }
+                return Optional.of(visitorEngine.visit(parseASTNode));
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
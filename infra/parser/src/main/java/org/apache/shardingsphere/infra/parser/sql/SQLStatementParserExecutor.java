@@ -31,9 +31,12 @@ public final class SQLStatementParserExecutor {
     
     private final SQLStatementVisitorEngine visitorEngine;
     
+    private final LiteralNormalizedSQLStatementParser literalNormalizedParser;
+    
     public SQLStatementParserExecutor(final String databaseType, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
         parserEngine = new SQLParserEngine(databaseType, parseTreeCacheOption);
         visitorEngine = new SQLStatementVisitorEngine(databaseType, isParseComment);
+        literalNormalizedParser = isParseComment ? null : new LiteralNormalizedSQLStatementParser(databaseType, parseTreeCacheOption, visitorEngine);
     }
     
     /**
@@ -43,6 +46,6 @@ public final class SQLStatementParserExecutor {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql) {
-        return visitorEngine.visit(parserEngine.parse(sql, false));
+        return null == literalNormalizedParser ? visitorEngine.visit(parserEngine.parse(sql, false)) : literalNormalizedParser.parse(sql);
     }
 }
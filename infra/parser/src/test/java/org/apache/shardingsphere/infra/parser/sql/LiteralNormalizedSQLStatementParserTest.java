@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLStatementVisitorEngine;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class LiteralNormalizedSQLStatementParserTest {
+    
+    private final LiteralNormalizedSQLStatementParser parser = new LiteralNormalizedSQLStatementParser("MySQL", new CacheOption(128, 1024L), new SQLStatementVisitorEngine("MySQL", false));
+    
+    @Test
+    void assertParseWithSameNormalizedSQL() throws ReflectiveOperationException {
+        assertLiteralCondition(parser.parse("SELECT * FROM t_order WHERE order_id = 1"), 1, 28, 39);
+        assertLiteralCondition(parser.parse("SELECT  *  FROM t_order WHERE order_id = 12345"), 12345, 30, 45);
+        assertThat(getTemplateSize(), is(1L));
+    }
+    
+    @Test
+    void assertParseWithDifferentNormalizedSQL() throws ReflectiveOperationException {
+        parser.parse("SELECT * FROM t_order WHERE order_id = 1");
+        parser.parse("SELECT * FROM t_order_item WHERE order_id = 1");
+        parser.parse("SELECT * FROM t_order WHERE order_id = 2");
+        assertThat(getTemplateSize(), is(2L));
+    }
+    
+    @Test
+    void assertParseWithStringLiteral() {
+        parser.parse("SELECT * FROM t_order WHERE status = 'init'");
+        SQLStatement actual = parser.parse("SELECT * FROM t_order WHERE status = 'finished'");
+        BinaryOperationExpression expression = (BinaryOperationExpression) ((SelectStatement) actual).getWhere().get().getExpr();
+        assertThat(((LiteralExpressionSegment) expression.getRight()).getLiterals(), is("finished"));
+        assertThat(expression.getText(), is("status = 'finished'"));
+    }
+    
+    private void assertLiteralCondition(final SQLStatement actual, final Object expectedValue, final int expectedStartIndex, final int expectedStopIndex) {
+        BinaryOperationExpression expression = (BinaryOperationExpression) ((SelectStatement) actual).getWhere().get().getExpr();
+        assertThat(((LiteralExpressionSegment) expression.getRight()).getLiterals(), is(expectedValue));
+        assertThat(expression.getStartIndex(), is(expectedStartIndex));
+        assertThat(expression.getStopIndex(), is(expectedStopIndex));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private long getTemplateSize() throws ReflectiveOperationException {
+        Cache<String, ?> templates = (Cache<String, ?>) Plugins.getMemberAccessor().get(LiteralNormalizedSQLStatementParser.class.getDeclaredField("parseTreeTemplates"), parser);
+        templates.cleanUp();
+        return templates.estimatedSize();
+    }
+}
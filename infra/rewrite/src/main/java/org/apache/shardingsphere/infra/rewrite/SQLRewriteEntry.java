@@ -82,7 +82,8 @@ public final class SQLRewriteEntry {
     
     private SQLRewriteContext createSQLRewriteContext(final String sql, final List<Object> params, final SQLStatementContext sqlStatementContext,
                                                       final RouteContext routeContext, final ConnectionContext connectionContext) {
-        SQLRewriteContext result = new SQLRewriteContext(database.getName(), database.getSchemas(), sqlStatementContext, sql, params, connectionContext);
+        SQLRewriteContext result = new SQLRewriteContext(database.getName(), database.getSchemas(), sqlStatementContext, sql, params, connectionContext,
+                database.getResourceMetaData().getStorageTypes());
         decorate(decorators, result, routeContext);
         result.generateSQLTokens();
         return result;
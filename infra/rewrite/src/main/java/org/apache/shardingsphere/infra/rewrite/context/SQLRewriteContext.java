@@ -22,6 +22,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.statement.CommonSQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
@@ -33,6 +34,7 @@ import org.apache.shardingsphere.infra.rewrite.sql.token.generator.builder.Defau
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -62,14 +64,22 @@ public final class SQLRewriteContext {
     
     private final ConnectionContext connectionContext;
     
+    private final Map<String, DatabaseType> storageTypes;
+    
     public SQLRewriteContext(final String databaseName, final Map<String, ShardingSphereSchema> schemas,
                              final SQLStatementContext sqlStatementContext, final String sql, final List<Object> params, final ConnectionContext connectionContext) {
+        this(databaseName, schemas, sqlStatementContext, sql, params, connectionContext, Collections.emptyMap());
+    }
+    
+    public SQLRewriteContext(final String databaseName, final Map<String, ShardingSphereSchema> schemas, final SQLStatementContext sqlStatementContext,
+                             final String sql, final List<Object> params, final ConnectionContext connectionContext, final Map<String, DatabaseType> storageTypes) {
         this.databaseName = databaseName;
         this.schemas = schemas;
         this.sqlStatementContext = sqlStatementContext;
         this.sql = sql;
         parameters = params;
         this.connectionContext = connectionContext;
+        this.storageTypes = storageTypes;
         if (!((CommonSQLStatementContext) sqlStatementContext).isHintSkipSQLRewrite()) {
             addSQLTokenGenerators(new DefaultTokenGeneratorBuilder(sqlStatementContext).getSQLTokenGenerators());
         }
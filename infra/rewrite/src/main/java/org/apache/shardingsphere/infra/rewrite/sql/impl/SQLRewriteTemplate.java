@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.impl;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL rewrite template.
+ * 
+ * <p>Sorts SQL tokens and cuts the original SQL fragments between them once, so that SQL of every route unit only needs to fill token texts.</p>
+ */
+public final class SQLRewriteTemplate {
+    
+    @Getter
+    private final String sql;
+    
+    @Getter
+    private final List<SQLToken> sqlTokens;
+    
+    private final Map<SQLToken, Integer> sqlTokenIndexes;
+    
+    private final String[] fragments;
+    
+    private final Map<SQLToken, String> composedFragments;
+    
+    public SQLRewriteTemplate(final String sql, final Collection<SQLToken> sqlTokens) {
+        this.sql = sql;
+        this.sqlTokens = new ArrayList<>(sqlTokens);
+        Collections.sort(this.sqlTokens);
+        sqlTokenIndexes = createSQLTokenIndexes();
+        fragments = createFragments();
+        composedFragments = createComposedFragments();
+    }
+    
+    private Map<SQLToken, Integer> createSQLTokenIndexes() {
+        Map<SQLToken, Integer> result = new HashMap<>(sqlTokens.size(), 1F);
+        for (int i = 0; i < sqlTokens.size(); i++) {
+            result.putIfAbsent(sqlTokens.get(i), i);
+        }
+        return result;
+    }
+    
+    private String[] createFragments() {
+        String[] result = new String[sqlTokens.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = getFragment(sqlTokens.get(i), i);
+        }
+        return result;
+    }
+    
+    private Map<SQLToken, String> createComposedFragments() {
+        Map<SQLToken, String> result = new HashMap<>();
+        for (SQLToken each : sqlTokens) {
+            if (each instanceof ComposableSQLToken) {
+                for (SQLToken composed : ((ComposableSQLToken) each).getSqlTokens()) {
+                    result.putIfAbsent(composed, getFragment(composed, sqlTokenIndexes.getOrDefault(composed, -1)));
+                }
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get SQL fragment before the first SQL token.
+     *
+     * @return SQL fragment before the first SQL token
+     */
+    public String getHeadFragment() {
+        return sqlTokens.isEmpty() ? sql : sql.substring(0, sqlTokens.get(0).getStartIndex());
+    }
+    
+    /**
+     * Get SQL fragment between SQL token and the next SQL token.
+     *
+     * @param sqlTokenIndex index of SQL token in sorted SQL tokens
+     * @return SQL fragment
+     */
+    public String getFragment(final int sqlTokenIndex) {
+        return fragments[sqlTokenIndex];
+    }
+    
+    /**
+     * Get SQL fragment between SQL token and the next SQL token.
+     *
+     * @param sqlToken SQL token, which may be not in sorted SQL tokens
+     * @return SQL fragment
+     */
+    public String getFragment(final SQLToken sqlToken) {
+        Integer sqlTokenIndex = sqlTokenIndexes.get(sqlToken);
+        if (null != sqlTokenIndex) {
+            return fragments[sqlTokenIndex];
+        }
+        String result = composedFragments.get(sqlToken);
+        return null == result ? getFragment(sqlToken, -1) : result;
+    }
+    
+    private String getFragment(final SQLToken sqlToken, final int sqlTokenIndex) {
+        int startIndex = Math.min(sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex(), sql.length());
+        int stopIndex = sqlTokens.size() - 1 == sqlTokenIndex ? sql.length() : sqlTokens.get(sqlTokenIndex + 1).getStartIndex();
+        return sql.substring(startIndex, stopIndex);
+    }
+}
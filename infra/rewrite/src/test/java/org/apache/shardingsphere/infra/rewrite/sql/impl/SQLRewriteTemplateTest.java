@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.impl;
+
+import org.apache.shardingsphere.infra.rewrite.sql.fixture.SQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SQLRewriteTemplateTest {
+    
+    @Test
+    void assertGetFragmentsWithoutSQLTokens() {
+        SQLRewriteTemplate actual = new SQLRewriteTemplate("SELECT * FROM tbl_name", Collections.emptyList());
+        assertThat(actual.getHeadFragment(), is("SELECT * FROM tbl_name"));
+        assertThat(actual.getSqlTokens().size(), is(0));
+    }
+    
+    @Test
+    void assertGetFragmentsWithUnsortedSQLTokens() {
+        SQLTokenFixture whereToken = new SQLTokenFixture(29, 30);
+        SQLTokenFixture tableToken = new SQLTokenFixture(14, 21);
+        SQLRewriteTemplate actual = new SQLRewriteTemplate("SELECT * FROM tbl_name WHERE id=?", Arrays.asList(whereToken, tableToken));
+        assertThat(actual.getSqlTokens(), is(Arrays.asList(tableToken, whereToken)));
+        assertThat(actual.getHeadFragment(), is("SELECT * FROM "));
+        assertThat(actual.getFragment(0), is(" WHERE "));
+        assertThat(actual.getFragment(1), is("=?"));
+        assertThat(actual.getFragment(whereToken), is("=?"));
+    }
+    
+    @Test
+    void assertGetFragmentWithSQLTokenAtEnd() {
+        SQLRewriteTemplate actual = new SQLRewriteTemplate("SELECT * FROM tbl_name", Collections.singleton(new SQLTokenFixture(14, 21)));
+        assertThat(actual.getFragment(0), is(""));
+    }
+    
+    @Test
+    void assertGetFragmentOfComposedSQLToken() {
+        ComposableSQLToken composableToken = new ComposableSQLToken(15, 22);
+        SQLTokenFixture composedToken = new SQLTokenFixture(0, 5);
+        composableToken.addSQLToken(composedToken);
+        SQLRewriteTemplate actual = new SQLRewriteTemplate("SELECT c1 FROM tbl_name", Collections.singleton(composableToken));
+        assertThat(actual.getFragment(composableToken), is(""));
+        assertThat(actual.getFragment(composedToken), is(" c1 FROM "));
+    }
+}
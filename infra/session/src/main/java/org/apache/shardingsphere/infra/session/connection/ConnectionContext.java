@@ -23,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.apache.shardingsphere.infra.session.connection.cursor.CursorConnectionContext;
 import org.apache.shardingsphere.infra.session.connection.datasource.UsedDataSourceProvider;
+import org.apache.shardingsphere.infra.session.connection.pagination.PaginationConnectionContext;
 import org.apache.shardingsphere.infra.session.connection.transaction.TransactionConnectionContext;
 
 import java.util.Collection;
@@ -40,6 +41,8 @@ public final class ConnectionContext implements AutoCloseable {
     
     private final TransactionConnectionContext transactionContext = new TransactionConnectionContext();
     
+    private final PaginationConnectionContext paginationContext = new PaginationConnectionContext();
+    
     @Getter(AccessLevel.NONE)
     private final UsedDataSourceProvider usedDataSourceProvider;
     
@@ -87,5 +90,6 @@ public final class ConnectionContext implements AutoCloseable {
         trafficInstanceId = null;
         clearCursorConnectionContext();
         clearTransactionConnectionContext();
+        paginationContext.close();
     }
 }
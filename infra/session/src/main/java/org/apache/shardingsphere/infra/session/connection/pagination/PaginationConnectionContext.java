@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.session.connection.pagination;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Pagination connection context.
+ */
+public final class PaginationConnectionContext implements AutoCloseable {
+    
+    private static final int MAX_SEEK_POSITION_SIZE = 16;
+    
+    private final Map<String, PaginationSeekPosition> seekPositions = new LinkedHashMap<String, PaginationSeekPosition>(MAX_SEEK_POSITION_SIZE, 0.75F, true) {
+        
+        private static final long serialVersionUID = -2858712412245040391L;
+        
+        @Override
+        protected boolean removeEldestEntry(final Entry<String, PaginationSeekPosition> eldest) {
+            return size() > MAX_SEEK_POSITION_SIZE;
+        }
+    };
+    
+    /**
+     * Find order values of the last row before offset.
+     *
+     * @param key pagination key
+     * @param params parameters without pagination parameters
+     * @param offset offset
+     * @return found order values
+     */
+    public synchronized Optional<List<Object>> findSeekOrderValues(final String key, final List<Object> params, final long offset) {
+        PaginationSeekPosition position = seekPositions.get(key);
+        return null == position || !position.getParameters().equals(params) ? Optional.empty() : position.findOrderValues(offset);
+    }
+    
+    /**
+     * Create seek position.
+     *
+     * @param key pagination key
+     * @param params parameters without pagination parameters
+     * @param offset offset of the first row to be recorded
+     * @param orderValues order values of the last row before offset
+     * @return created seek position
+     */
+    public synchronized PaginationSeekPosition createSeekPosition(final String key, final List<Object> params, final long offset, final List<Object> orderValues) {
+        PaginationSeekPosition result = new PaginationSeekPosition(params, offset, orderValues);
+        seekPositions.put(key, result);
+        return result;
+    }
+    
+    @Override
+    public synchronized void close() {
+        seekPositions.clear();
+    }
+}
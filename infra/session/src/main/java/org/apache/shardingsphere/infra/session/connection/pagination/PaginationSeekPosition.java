@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.session.connection.pagination;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Pagination seek position.
+ */
+public final class PaginationSeekPosition {
+    
+    @Getter
+    private final List<Object> parameters;
+    
+    private long offset;
+    
+    private Object[] orderValues;
+    
+    PaginationSeekPosition(final List<Object> parameters, final long offset, final List<Object> orderValues) {
+        this.parameters = parameters;
+        this.offset = offset;
+        this.orderValues = null == orderValues ? null : orderValues.toArray();
+    }
+    
+    /**
+     * Move forward to next row.
+     * 
+     * <p>Order values are copied, so that caller can reuse the array for next row.</p>
+     *
+     * @param orderValues order values of next row
+     */
+    public synchronized void forward(final Object[] orderValues) {
+        offset++;
+        if (null == this.orderValues || this.orderValues.length != orderValues.length) {
+            this.orderValues = new Object[orderValues.length];
+        }
+        System.arraycopy(orderValues, 0, this.orderValues, 0, orderValues.length);
+    }
+    
+    /**
+     * Find order values of the last row before offset.
+     *
+     * @param offset offset
+     * @return found order values
+     */
+    public synchronized Optional<List<Object>> findOrderValues(final long offset) {
+        return this.offset == offset && null != orderValues ? Optional.of(Arrays.asList(orderValues.clone())) : Optional.empty();
+    }
+}
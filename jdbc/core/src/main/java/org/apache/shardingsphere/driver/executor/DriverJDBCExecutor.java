@@ -36,6 +36,7 @@ import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Driver JDBC executor.
@@ -94,8 +95,13 @@ public final class DriverJDBCExecutor {
         try {
             processEngine.executeSQL(executionGroupContext, queryContext);
             SQLStatementContext sqlStatementContext = queryContext.getSqlStatementContext();
-            List<Integer> results = doExecute(executionGroupContext, sqlStatementContext, routeUnits, callback);
-            return isNeedAccumulate(metaDataContexts.getMetaData().getDatabase(databaseName).getRuleMetaData().getRules(), sqlStatementContext) ? accumulate(results) : results.get(0);
+            if (!isNeedAccumulate(metaDataContexts.getMetaData().getDatabase(databaseName).getRuleMetaData().getRules(), sqlStatementContext)) {
+                return doExecute(executionGroupContext, sqlStatementContext, routeUnits, callback).get(0);
+            }
+            AtomicInteger result = new AtomicInteger();
+            jdbcExecutor.executeInCompletionOrder(executionGroupContext, callback, each -> result.addAndGet(accumulate(each)));
+            metaDataRefreshEngine.refresh(sqlStatementContext, routeUnits);
+            return result.get();
         } finally {
             processEngine.completeSQLExecution();
         }
@@ -110,7 +116,7 @@ public final class DriverJDBCExecutor {
         return false;
     }
     
-    private int accumulate(final List<Integer> updateResults) {
+    private int accumulate(final Collection<Integer> updateResults) {
         int result = 0;
         for (Integer each : updateResults) {
             result += null != each ? each : 0;
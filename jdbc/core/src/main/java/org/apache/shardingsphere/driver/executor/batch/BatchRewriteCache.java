@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import org.apache.shardingsphere.infra.binder.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Batch rewrite cache.
+ * 
+ * <p>
+ * For single row insert statement, rewritten SQL only depends on route unit if rewrite keeps parameters untouched.
+ * The cache records rewritten SQL of each route unit, so the following add batch calls only need to route.
+ * </p>
+ */
+public final class BatchRewriteCache {
+    
+    private final Map<RouteUnit, SQLUnit> rewrittenSQLUnits = new HashMap<>();
+    
+    private boolean available;
+    
+    public BatchRewriteCache(final SQLStatementContext sqlStatementContext) {
+        available = isSingleRowInsert(sqlStatementContext);
+    }
+    
+    private boolean isSingleRowInsert(final SQLStatementContext sqlStatementContext) {
+        if (!(sqlStatementContext instanceof InsertStatementContext)) {
+            return false;
+        }
+        InsertStatementContext insertStatementContext = (InsertStatementContext) sqlStatementContext;
+        return null == insertStatementContext.getInsertSelectContext() && null == insertStatementContext.getOnDuplicateKeyUpdateValueContext()
+                && 1 == insertStatementContext.getInsertValueContexts().size();
+    }
+    
+    /**
+     * Judge whether cache is available.
+     * 
+     * @return cache is available or not
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+    
+    /**
+     * Find execution units.
+     * 
+     * @param routeContext route context
+     * @param params parameters
+     * @return found execution units, empty if route unit is not cached yet
+     */
+    public Optional<Collection<ExecutionUnit>> findExecutionUnits(final RouteContext routeContext, final List<Object> params) {
+        if (!available || 1 != routeContext.getRouteUnits().size()) {
+            return Optional.empty();
+        }
+        RouteUnit routeUnit = routeContext.getRouteUnits().iterator().next();
+        SQLUnit sqlUnit = rewrittenSQLUnits.get(routeUnit);
+        if (null == sqlUnit) {
+            return Optional.empty();
+        }
+        ExecutionUnit executionUnit = new ExecutionUnit(routeUnit.getDataSourceMapper().getActualName(), new SQLUnit(sqlUnit.getSql(), new ArrayList<>(params), sqlUnit.getTableRouteMappers()));
+        return Optional.of(Collections.singletonList(executionUnit));
+    }
+    
+    /**
+     * Put rewritten SQL of execution context, or make cache unavailable if execution context is not eligible.
+     * 
+     * @param executionContext execution context created by full route and rewrite
+     */
+    public void put(final ExecutionContext executionContext) {
+        if (!available) {
+            return;
+        }
+        if (!isEligible(executionContext)) {
+            available = false;
+            rewrittenSQLUnits.clear();
+            return;
+        }
+        rewrittenSQLUnits.put(executionContext.getRouteContext().getRouteUnits().iterator().next(), executionContext.getExecutionUnits().iterator().next().getSqlUnit());
+    }
+    
+    private boolean isEligible(final ExecutionContext executionContext) {
+        Optional<GeneratedKeyContext> generatedKeyContext = ((InsertStatementContext) executionContext.getSqlStatementContext()).getGeneratedKeyContext();
+        if (generatedKeyContext.isPresent() && generatedKeyContext.get().isGenerated()) {
+            return false;
+        }
+        if (1 != executionContext.getRouteContext().getRouteUnits().size() || 1 != executionContext.getExecutionUnits().size()) {
+            return false;
+        }
+        ExecutionUnit executionUnit = executionContext.getExecutionUnits().iterator().next();
+        RouteUnit routeUnit = executionContext.getRouteContext().getRouteUnits().iterator().next();
+        if (!executionUnit.getDataSourceName().equals(routeUnit.getDataSourceMapper().getActualName())
+                || !executionUnit.getSqlUnit().getParameters().equals(executionContext.getQueryContext().getParameters())) {
+            return false;
+        }
+        SQLUnit cachedSQLUnit = rewrittenSQLUnits.get(routeUnit);
+        return null == cachedSQLUnit || cachedSQLUnit.getSql().equals(executionUnit.getSqlUnit().getSql());
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public void clear() {
+        rewrittenSQLUnits.clear();
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.dialect.SQLExceptionTransformEngine;
 import org.apache.shardingsphere.driver.executor.DriverExecutor;
 import org.apache.shardingsphere.driver.executor.batch.BatchExecutionUnit;
 import org.apache.shardingsphere.driver.executor.batch.BatchPreparedStatementExecutor;
+import org.apache.shardingsphere.driver.executor.batch.BatchRewriteCache;
 import org.apache.shardingsphere.driver.executor.callback.impl.PreparedStatementExecuteQueryCallback;
 import org.apache.shardingsphere.driver.jdbc.adapter.AbstractPreparedStatementAdapter;
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
@@ -61,6 +62,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
+import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
@@ -75,6 +77,7 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.parser.SQLParserEngine;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.RawExecutionRule;
@@ -135,6 +138,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private final BatchPreparedStatementExecutor batchPreparedStatementExecutor;
     
+    private final BatchRewriteCache batchRewriteCache;
+    
     private final Collection<Comparable<?>> generatedValues = new LinkedList<>();
     
     private final KernelProcessor kernelProcessor;
@@ -201,6 +206,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         executor = new DriverExecutor(connection);
         JDBCExecutor jdbcExecutor = new JDBCExecutor(connection.getContextManager().getExecutorEngine(), connection.getDatabaseConnectionManager().getConnectionContext());
         batchPreparedStatementExecutor = new BatchPreparedStatementExecutor(metaDataContexts, jdbcExecutor, connection.getDatabaseName());
+        batchRewriteCache = new BatchRewriteCache(sqlStatementContext);
         kernelProcessor = new KernelProcessor();
         statementsCacheable = isStatementsCacheable(metaDataContexts.getMetaData().getDatabase(connection.getDatabaseName()).getRuleMetaData());
         trafficRule = metaDataContexts.getMetaData().getGlobalRuleMetaData().getSingleRule(TrafficRule.class);
@@ -627,7 +633,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         try {
             QueryContext queryContext = createQueryContext();
             trafficInstanceId = getInstanceIdAndSet(queryContext).orElse(null);
-            executionContext = null != trafficInstanceId ? createExecutionContext(queryContext, trafficInstanceId) : createExecutionContext(queryContext);
+            executionContext = null != trafficInstanceId ? createExecutionContext(queryContext, trafficInstanceId) : createBatchExecutionContext(queryContext);
             batchPreparedStatementExecutor.addBatchForExecutionUnits(executionContext.getExecutionUnits());
         } finally {
             currentResultSet = null;
@@ -635,6 +641,27 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         }
     }
     
+    private ExecutionContext createBatchExecutionContext(final QueryContext queryContext) {
+        if (!batchRewriteCache.isAvailable()) {
+            return createExecutionContext(queryContext);
+        }
+        ShardingSphereDatabase currentDatabase = metaDataContexts.getMetaData().getDatabase(connection.getDatabaseName());
+        RouteContext routeContext = new SQLRouteEngine(currentDatabase.getRuleMetaData().getRules(), metaDataContexts.getMetaData().getProps()).route(
+                connection.getDatabaseConnectionManager().getConnectionContext(), queryContext, metaDataContexts.getMetaData().getGlobalRuleMetaData(), currentDatabase);
+        Optional<Collection<ExecutionUnit>> executionUnits = batchRewriteCache.findExecutionUnits(routeContext, queryContext.getParameters());
+        if (!executionUnits.isPresent()) {
+            ExecutionContext result = createExecutionContext(queryContext);
+            batchRewriteCache.put(result);
+            return result;
+        }
+        ExecutionContext result = new ExecutionContext(queryContext, executionUnits.get(), routeContext);
+        findGeneratedKey(result).ifPresent(optional -> generatedValues.addAll(optional.getGeneratedValues()));
+        if (metaDataContexts.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)) {
+            SQLLogger.logSQL(queryContext, metaDataContexts.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_SIMPLE), result);
+        }
+        return result;
+    }
+    
     @Override
     public int[] executeBatch() throws SQLException {
         if (null == executionContext) {
@@ -682,6 +709,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     public void clearBatch() {
         currentResultSet = null;
         batchPreparedStatementExecutor.clear();
+        batchRewriteCache.clear();
         clearParameters();
     }
     
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BatchRewriteCacheTest {
+    
+    private static final String SQL = "INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?)";
+    
+    @Test
+    void assertNotAvailableWithSelectStatement() {
+        assertFalse(new BatchRewriteCache(mock(SelectStatementContext.class)).isAvailable());
+    }
+    
+    @Test
+    void assertNotAvailableWithMultipleRowsInsert() {
+        InsertStatementContext insertStatementContext = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
+        when(insertStatementContext.getInsertValueContexts().size()).thenReturn(2);
+        assertFalse(new BatchRewriteCache(insertStatementContext).isAvailable());
+    }
+    
+    @Test
+    void assertFindExecutionUnits() {
+        InsertStatementContext insertStatementContext = createInsertStatementContext();
+        BatchRewriteCache actual = new BatchRewriteCache(insertStatementContext);
+        assertTrue(actual.isAvailable());
+        RouteContext routeContext = createRouteContext("t_order_0");
+        assertFalse(actual.findExecutionUnits(routeContext, Arrays.asList(1, 2)).isPresent());
+        actual.put(createExecutionContext(insertStatementContext, routeContext, Arrays.asList(1, 2), Arrays.asList(1, 2)));
+        assertTrue(actual.isAvailable());
+        Optional<Collection<ExecutionUnit>> executionUnits = actual.findExecutionUnits(createRouteContext("t_order_0"), Arrays.asList(3, 4));
+        assertTrue(executionUnits.isPresent());
+        assertThat(executionUnits.get().size(), is(1));
+        ExecutionUnit executionUnit = executionUnits.get().iterator().next();
+        assertThat(executionUnit.getDataSourceName(), is("ds_0"));
+        assertThat(executionUnit.getSqlUnit().getSql(), is(SQL));
+        assertThat(executionUnit.getSqlUnit().getParameters(), is(Arrays.<Object>asList(3, 4)));
+        assertFalse(actual.findExecutionUnits(createRouteContext("t_order_1"), Arrays.asList(3, 4)).isPresent());
+    }
+    
+    @Test
+    void assertPutWithRewrittenParameters() {
+        InsertStatementContext insertStatementContext = createInsertStatementContext();
+        BatchRewriteCache actual = new BatchRewriteCache(insertStatementContext);
+        RouteContext routeContext = createRouteContext("t_order_0");
+        actual.put(createExecutionContext(insertStatementContext, routeContext, Arrays.asList(1, 2), Arrays.asList(1, 2, "cipher")));
+        assertFalse(actual.isAvailable());
+        assertFalse(actual.findExecutionUnits(routeContext, Arrays.asList(1, 2)).isPresent());
+    }
+    
+    private InsertStatementContext createInsertStatementContext() {
+        InsertStatementContext result = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getInsertSelectContext()).thenReturn(null);
+        when(result.getOnDuplicateKeyUpdateValueContext()).thenReturn(null);
+        when(result.getInsertValueContexts().size()).thenReturn(1);
+        when(result.getGeneratedKeyContext()).thenReturn(Optional.empty());
+        return result;
+    }
+    
+    private RouteContext createRouteContext(final String actualTableName) {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t_order", actualTableName))));
+        return result;
+    }
+    
+    private ExecutionContext createExecutionContext(final InsertStatementContext insertStatementContext, final RouteContext routeContext,
+                                                    final List<Object> params, final List<Object> rewrittenParams) {
+        QueryContext queryContext = mock(QueryContext.class);
+        when(queryContext.getSqlStatementContext()).thenReturn(insertStatementContext);
+        when(queryContext.getParameters()).thenReturn(params);
+        ExecutionUnit executionUnit = new ExecutionUnit("ds_0", new SQLUnit(SQL, new ArrayList<>(rewrittenParams)));
+        return new ExecutionContext(queryContext, Collections.singletonList(executionUnit), routeContext);
+    }
+}
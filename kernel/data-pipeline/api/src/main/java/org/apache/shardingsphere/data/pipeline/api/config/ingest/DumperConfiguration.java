@@ -62,6 +62,9 @@ public class DumperConfiguration {
     
     private boolean decodeWithTX;
     
+    // Row events are converted on the dumping thread when it is less than 2
+    private int decodeConcurrency;
+    
     /**
      * Get logic table name.
      *
@@ -189,4 +189,17 @@ public interface PipelineSQLBuilder extends TypedSPI {
     default Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final String column) {
         return Optional.empty();
     }
+    
+    /**
+     * Build CRC32 SQL of columns in unique key range.
+     *
+     * @param schemaName schema name
+     * @param tableName table Name
+     * @param columnNames column names
+     * @param uniqueKey unique key, the lower bound and upper bound parameters of it are inclusive
+     * @return CRC32 SQL
+     */
+    default Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final List<String> columnNames, final String uniqueKey) {
+        return Optional.empty();
+    }
 }
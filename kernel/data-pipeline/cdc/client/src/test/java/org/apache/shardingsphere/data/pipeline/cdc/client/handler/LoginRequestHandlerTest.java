@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.client.handler;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.JdkZlibDecoder;
+import io.netty.handler.codec.compression.JdkZlibEncoder;
+import io.netty.handler.codec.compression.SnappyFrameDecoder;
+import io.netty.handler.codec.compression.SnappyFrameEncoder;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import io.netty.handler.codec.protobuf.ProtobufDecoder;
+import io.netty.handler.codec.protobuf.ProtobufEncoder;
+import io.netty.handler.codec.protobuf.ProtobufVarint32FrameDecoder;
+import io.netty.handler.codec.protobuf.ProtobufVarint32LengthFieldPrepender;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody.CompressionType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.Status;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.LoginResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ServerGreetingResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.StreamDataResult;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class LoginRequestHandlerTest {
+    
+    @Test
+    void assertLoginWithSnappyCompression() {
+        EmbeddedChannel clientChannel = createClientChannel(CompressionType.SNAPPY);
+        EmbeddedChannel serverChannel = createServerChannel();
+        assertThat(login(clientChannel, serverChannel, true).getCompressionType(), is(CompressionType.SNAPPY));
+        serverChannel.pipeline().addFirst(new SnappyFrameEncoder());
+        assertThat(clientChannel.pipeline().first(), instanceOf(SnappyFrameDecoder.class));
+        assertStreamDataResponse(clientChannel, serverChannel);
+    }
+    
+    @Test
+    void assertLoginWithZlibCompression() {
+        EmbeddedChannel clientChannel = createClientChannel(CompressionType.ZLIB);
+        EmbeddedChannel serverChannel = createServerChannel();
+        assertThat(login(clientChannel, serverChannel, true).getCompressionType(), is(CompressionType.ZLIB));
+        serverChannel.pipeline().addFirst(new JdkZlibEncoder(ZlibWrapper.ZLIB));
+        assertThat(clientChannel.pipeline().first(), instanceOf(JdkZlibDecoder.class));
+        assertStreamDataResponse(clientChannel, serverChannel);
+    }
+    
+    @Test
+    void assertLoginWithCompressionFallbackToNoneOnOldServer() {
+        EmbeddedChannel clientChannel = createClientChannel(CompressionType.SNAPPY);
+        EmbeddedChannel serverChannel = createServerChannel();
+        assertThat(login(clientChannel, serverChannel, false).getCompressionType(), is(CompressionType.SNAPPY));
+        assertThat(clientChannel.pipeline().first(), instanceOf(ProtobufVarint32FrameDecoder.class));
+        assertStreamDataResponse(clientChannel, serverChannel);
+    }
+    
+    private EmbeddedChannel createClientChannel(final CompressionType compressionType) {
+        return new EmbeddedChannel(new ProtobufVarint32FrameDecoder(), new ProtobufDecoder(CDCResponse.getDefaultInstance()), new ProtobufVarint32LengthFieldPrepender(), new ProtobufEncoder(),
+                new LoginRequestHandler("root", "root", compressionType));
+    }
+    
+    private EmbeddedChannel createServerChannel() {
+        return new EmbeddedChannel(new ProtobufVarint32FrameDecoder(), new ProtobufDecoder(CDCRequest.getDefaultInstance()), new ProtobufVarint32LengthFieldPrepender(), new ProtobufEncoder());
+    }
+    
+    private LoginRequestBody login(final EmbeddedChannel clientChannel, final EmbeddedChannel serverChannel, final boolean compressionSupported) {
+        ServerGreetingResult serverGreetingResult = ServerGreetingResult.newBuilder().setServerVersion("5.3.3").setProtocolVersion("1").build();
+        serverChannel.writeOutbound(CDCResponse.newBuilder().setStatus(Status.SUCCEED).setServerGreetingResult(serverGreetingResult).build());
+        transfer(serverChannel, clientChannel);
+        transfer(clientChannel, serverChannel);
+        CDCRequest loginRequest = serverChannel.readInbound();
+        CDCResponse.Builder loginResponse = CDCResponse.newBuilder().setRequestId(loginRequest.getRequestId()).setStatus(Status.SUCCEED);
+        if (compressionSupported) {
+            loginResponse.setLoginResult(LoginResult.newBuilder().setCompressionType(loginRequest.getLoginRequestBody().getCompressionType()));
+        }
+        serverChannel.writeOutbound(loginResponse.build());
+        transfer(serverChannel, clientChannel);
+        return loginRequest.getLoginRequestBody();
+    }
+    
+    private void assertStreamDataResponse(final EmbeddedChannel clientChannel, final EmbeddedChannel serverChannel) {
+        serverChannel.writeOutbound(CDCResponse.newBuilder().setRequestId("foo_request").setStatus(Status.SUCCEED).setStreamDataResult(StreamDataResult.newBuilder().setStreamingId("foo_id")).build());
+        transfer(serverChannel, clientChannel);
+        CDCResponse actual = clientChannel.readInbound();
+        assertThat(actual.getRequestId(), is("foo_request"));
+        assertThat(actual.getStreamDataResult().getStreamingId(), is("foo_id"));
+    }
+    
+    private void transfer(final EmbeddedChannel from, final EmbeddedChannel to) {
+        for (Object each = from.readOutbound(); null != each; each = from.readOutbound()) {
+            to.writeInbound(each);
+        }
+    }
+}
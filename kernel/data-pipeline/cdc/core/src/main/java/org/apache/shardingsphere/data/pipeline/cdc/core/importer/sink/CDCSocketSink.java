@@ -18,12 +18,15 @@
 package org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink;
 
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.api.job.progress.listener.PipelineJobProgressUpdatedParameter;
 import org.apache.shardingsphere.data.pipeline.cdc.generator.CDCResponseGenerator;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
 import org.apache.shardingsphere.data.pipeline.cdc.util.DataRecordResultConvertUtils;
 import org.apache.shardingsphere.data.pipeline.spi.importer.sink.PipelineSink;
@@ -36,6 +39,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -46,11 +51,11 @@ import java.util.concurrent.locks.ReentrantLock;
 @Slf4j
 public final class CDCSocketSink implements PipelineSink {
     
-    private static final long DEFAULT_TIMEOUT_MILLISECONDS = 200L;
+    private static final long FLUSH_THRESHOLD_BYTES = 1024L * 1024L;
     
-    private final Lock lock = new ReentrantLock();
+    private static final long FLUSH_DELAY_MILLISECONDS = 10L;
     
-    private final Condition condition = lock.newCondition();
+    private static final String WRITABILITY_HANDLER_NAME = "cdcSinkWritabilityHandler";
     
     private final ShardingSphereDatabase database;
     
@@ -58,6 +63,12 @@ public final class CDCSocketSink implements PipelineSink {
     
     private final Map<String, String> tableNameSchemaMap = new HashMap<>();
     
+    private final AtomicLong unflushedBytes = new AtomicLong();
+    
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    
+    private final ChannelWritabilityChangedHandler writabilityHandler;
+    
     public CDCSocketSink(final Channel channel, final ShardingSphereDatabase database, final Collection<String> schemaTableNames) {
         this.channel = channel;
         this.database = database;
@@ -65,6 +76,20 @@ public final class CDCSocketSink implements PipelineSink {
             String[] split = each.split("\\.");
             tableNameSchemaMap.put(split[1], split[0]);
         });
+        writabilityHandler = getWritabilityHandler(channel);
+    }
+    
+    private static ChannelWritabilityChangedHandler getWritabilityHandler(final Channel channel) {
+        synchronized (channel) {
+            ChannelWritabilityChangedHandler installed = (ChannelWritabilityChangedHandler) channel.pipeline().get(WRITABILITY_HANDLER_NAME);
+            if (null != installed) {
+                return installed;
+            }
+            ChannelWritabilityChangedHandler result = new ChannelWritabilityChangedHandler();
+            channel.pipeline().addLast(WRITABILITY_HANDLER_NAME, result);
+            channel.closeFuture().addListener(future -> result.doNotify());
+            return result;
+        }
     }
     
     @Override
@@ -77,9 +102,7 @@ public final class CDCSocketSink implements PipelineSink {
         if (records.isEmpty()) {
             return new PipelineJobProgressUpdatedParameter(0);
         }
-        while (!channel.isWritable() && channel.isActive()) {
-            doAwait();
-        }
+        doAwait();
         if (!channel.isActive()) {
             return new PipelineJobProgressUpdatedParameter(0);
         }
@@ -92,28 +115,74 @@ public final class CDCSocketSink implements PipelineSink {
             resultRecords.add(DataRecordResultConvertUtils.convertDataRecordToRecord(database.getName(), tableNameSchemaMap.get(dataRecord.getTableName()), dataRecord));
         }
         DataRecordResult dataRecordResult = DataRecordResult.newBuilder().addAllRecord(resultRecords).setAckId(ackId).build();
-        channel.writeAndFlush(CDCResponseGenerator.succeedBuilder("").setDataRecordResult(dataRecordResult).build());
+        CDCResponse response = CDCResponseGenerator.succeedBuilder("").setDataRecordResult(dataRecordResult).build();
+        channel.write(response);
+        if (unflushedBytes.addAndGet(response.getSerializedSize()) >= FLUSH_THRESHOLD_BYTES) {
+            flush();
+        } else if (flushScheduled.compareAndSet(false, true)) {
+            channel.eventLoop().schedule(this::delayedFlush, FLUSH_DELAY_MILLISECONDS, TimeUnit.MILLISECONDS);
+        }
         return new PipelineJobProgressUpdatedParameter(resultRecords.size());
     }
     
-    @SneakyThrows(InterruptedException.class)
+    private void flush() {
+        unflushedBytes.set(0L);
+        channel.flush();
+    }
+    
+    private void delayedFlush() {
+        flushScheduled.set(false);
+        unflushedBytes.set(0L);
+        // Flush in a new task, so writes submitted before the flag is reset are flushed too
+        channel.eventLoop().execute(channel::flush);
+    }
+    
     private void doAwait() {
-        lock.lock();
-        long startMillis = System.currentTimeMillis();
-        long endMillis = startMillis;
-        boolean awaitResult;
-        try {
-            do {
-                awaitResult = condition.await(DEFAULT_TIMEOUT_MILLISECONDS - (endMillis - startMillis), TimeUnit.MILLISECONDS);
-                endMillis = System.currentTimeMillis();
-            } while (!awaitResult && DEFAULT_TIMEOUT_MILLISECONDS > endMillis - startMillis);
-        } finally {
-            lock.unlock();
+        if (channel.isWritable()) {
+            return;
         }
+        flush();
+        writabilityHandler.awaitWritable(channel);
     }
     
     @Override
     public void close() throws IOException {
         channel.close();
     }
+    
+    private static final class ChannelWritabilityChangedHandler extends ChannelInboundHandlerAdapter {
+        
+        private final Lock lock = new ReentrantLock();
+        
+        private final Condition condition = lock.newCondition();
+        
+        @SneakyThrows(InterruptedException.class)
+        private void awaitWritable(final Channel channel) {
+            lock.lock();
+            try {
+                while (!channel.isWritable() && channel.isActive()) {
+                    condition.await();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        
+        private void doNotify() {
+            lock.lock();
+            try {
+                condition.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+        
+        @Override
+        public void channelWritabilityChanged(final ChannelHandlerContext ctx) {
+            if (ctx.channel().isWritable()) {
+                doNotify();
+            }
+            ctx.fireChannelWritabilityChanged();
+        }
+    }
 }
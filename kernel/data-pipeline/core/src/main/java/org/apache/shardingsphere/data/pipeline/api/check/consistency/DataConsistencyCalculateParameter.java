@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSource
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -58,6 +59,14 @@ public final class DataConsistencyCalculateParameter {
     
     private final AtomicReference<AutoCloseable> calculationContext = new AtomicReference<>();
     
+    /**
+     * Parameter of the other side.
+     * Calculation of both sides could share context by it, e.g. unique key ranges.
+     */
+    private volatile DataConsistencyCalculateParameter peerParameter;
+    
+    private volatile AtomicReference<Object> sharedCalculationContext = new AtomicReference<>();
+    
     /**
      * Get calculation context.
      *
@@ -75,4 +84,24 @@ public final class DataConsistencyCalculateParameter {
     public void setCalculationContext(final AutoCloseable calculationContext) {
         this.calculationContext.set(calculationContext);
     }
+    
+    /**
+     * Get peer parameter.
+     *
+     * @return peer parameter
+     */
+    public Optional<DataConsistencyCalculateParameter> getPeerParameter() {
+        return Optional.ofNullable(peerParameter);
+    }
+    
+    /**
+     * Bind peer parameter of the other side, both sides will use the same shared calculation context.
+     *
+     * @param peerParameter peer parameter
+     */
+    public void bindPeerParameter(final DataConsistencyCalculateParameter peerParameter) {
+        this.peerParameter = peerParameter;
+        peerParameter.peerParameter = this;
+        peerParameter.sharedCalculationContext = sharedCalculationContext;
+    }
 }
@@ -101,6 +101,7 @@ public final class SingleTableInventoryDataConsistencyChecker {
         String targetTableName = targetTable.getTableName().getOriginal();
         DataConsistencyCalculateParameter targetParam = new DataConsistencyCalculateParameter(targetDataSource,
                 targetTable.getSchemaName().getOriginal(), targetTableName, columnNames, targetDatabaseType, sourceDatabaseType, uniqueKey, tableCheckPositions.get(targetTableName));
+        sourceParam.bindPeerParameter(targetParam);
         Iterator<DataConsistencyCalculatedResult> sourceCalculatedResults = waitFuture(executor.submit(() -> calculateAlgorithm.calculate(sourceParam))).iterator();
         Iterator<DataConsistencyCalculatedResult> targetCalculatedResults = waitFuture(executor.submit(() -> calculateAlgorithm.calculate(targetParam))).iterator();
         try {
@@ -137,6 +138,10 @@ public final class SingleTableInventoryDataConsistencyChecker {
             }
             progressContext.onProgressUpdated(new PipelineJobProgressUpdatedParameter(sourceCalculatedResult.getRecordsCount()));
         }
+        if (contentMatched && (sourceCalculatedResults.hasNext() || targetCalculatedResults.hasNext())) {
+            log.info("content matched false, calculated results count not match, jobId={}, sourceTable={}, targetTable={}", jobId, sourceTable, targetTable);
+            contentMatched = false;
+        }
         return new DataConsistencyCheckResult(new DataConsistencyCountCheckResult(sourceRecordsCount, targetRecordsCount), new DataConsistencyContentCheckResult(contentMatched));
     }
     
@@ -23,6 +23,9 @@ import org.apache.shardingsphere.data.pipeline.spi.check.consistency.DataConsist
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Statement;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -36,16 +39,35 @@ public abstract class AbstractDataConsistencyCalculateAlgorithm implements DataC
     
     private final AtomicReference<Statement> currentStatement = new AtomicReference<>();
     
+    private final Collection<Statement> runningStatements = ConcurrentHashMap.newKeySet();
+    
     protected final void setCurrentStatement(final Statement statement) {
         currentStatement.set(statement);
     }
     
+    protected final void addRunningStatement(final Statement statement) {
+        runningStatements.add(statement);
+    }
+    
+    protected final void removeRunningStatement(final Statement statement) {
+        runningStatements.remove(statement);
+    }
+    
     @Override
     public void cancel() throws SQLException {
         canceling.set(true);
-        Statement statement = currentStatement.get();
-        if (null == statement || statement.isClosed()) {
-            log.info("cancel, statement is null or closed");
+        Collection<Statement> statements = new LinkedList<>(runningStatements);
+        if (null != currentStatement.get()) {
+            statements.add(currentStatement.get());
+        }
+        for (Statement each : statements) {
+            cancel(each);
+        }
+    }
+    
+    private void cancel(final Statement statement) throws SQLException {
+        if (statement.isClosed()) {
+            log.info("cancel, statement is closed");
             return;
         }
         long startTimeMillis = System.currentTimeMillis();
@@ -20,14 +20,19 @@ package org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.Range;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculatedResult;
 import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
 import org.apache.shardingsphere.data.pipeline.core.exception.data.UnsupportedCRC32DataConsistencyCalculateAlgorithmException;
+import org.apache.shardingsphere.data.pipeline.core.prepare.InventoryRecordsCountCalculator;
 import org.apache.shardingsphere.data.pipeline.core.util.DatabaseTypeUtils;
+import org.apache.shardingsphere.data.pipeline.core.util.IntervalToRangeIterator;
+import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
 import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
 import org.apache.shardingsphere.data.pipeline.util.spi.PipelineTypedSPILoader;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.util.spi.annotation.SPIDescription;
 
@@ -35,14 +40,32 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
  * CRC32 match data consistency calculate algorithm.
+ * 
+ * <p>Table with integer unique key is split into unique key ranges of about chunk size records,
+ * which are calculated concurrently and returned in order, so check could be resumed from the last matched range.
+ * Ranges are planned once from unique key values range and records count of both sides, so source and target are split by the same boundaries.</p>
  */
 @SPIDescription("Match CRC32 of records.")
 @Slf4j
@@ -50,11 +73,180 @@ public final class CRC32MatchDataConsistencyCalculateAlgorithm extends AbstractD
     
     private static final Collection<String> SUPPORTED_DATABASE_TYPES = DatabaseTypeUtils.getTrunkAndBranchDatabaseTypes(Collections.singleton(new MySQLDatabaseType().getType()));
     
+    private static final String CHUNK_SIZE_KEY = "chunk-size";
+    
+    private static final long DEFAULT_CHUNK_SIZE = 1000000L;
+    
+    private static final String CONCURRENCY_KEY = "concurrency";
+    
+    private static final int DEFAULT_CONCURRENCY = 1;
+    
+    private long chunkSize = DEFAULT_CHUNK_SIZE;
+    
+    private int concurrency = DEFAULT_CONCURRENCY;
+    
+    private ThreadPoolExecutor executor;
+    
+    @Override
+    public void init(final Properties props) {
+        chunkSize = getPositiveValue(props, CHUNK_SIZE_KEY, DEFAULT_CHUNK_SIZE);
+        concurrency = (int) getPositiveValue(props, CONCURRENCY_KEY, DEFAULT_CONCURRENCY);
+    }
+    
+    private long getPositiveValue(final Properties props, final String key, final long defaultValue) {
+        long result;
+        try {
+            result = Long.parseLong(props.getProperty(key, Long.toString(defaultValue)));
+        } catch (final NumberFormatException ignore) {
+            log.warn("'{}' is not a valid number, use default value {}", key, defaultValue);
+            return defaultValue;
+        }
+        if (result <= 0L || result > Integer.MAX_VALUE && CONCURRENCY_KEY.equals(key)) {
+            log.warn("Invalid '{}': {}, use default value {}", key, result, defaultValue);
+            return defaultValue;
+        }
+        return result;
+    }
+    
     @Override
     public Iterable<DataConsistencyCalculatedResult> calculate(final DataConsistencyCalculateParameter param) {
         PipelineSQLBuilder sqlBuilder = PipelineTypedSPILoader.getDatabaseTypedService(PipelineSQLBuilder.class, param.getDatabaseType());
+        if (null != param.getUniqueKey() && PipelineJdbcUtils.isIntegerColumn(param.getUniqueKey().getDataType())) {
+            Optional<String> rangeSQL = sqlBuilder.buildCRC32SQL(param.getSchemaName(), param.getLogicTableName(), param.getColumnNames(), param.getUniqueKey().getName());
+            if (rangeSQL.isPresent()) {
+                return calculateByRanges(param, rangeSQL.get());
+            }
+        }
         List<CalculatedItem> calculatedItems = param.getColumnNames().stream().map(each -> calculateCRC32(sqlBuilder, param, each)).collect(Collectors.toList());
-        return Collections.singletonList(new CalculatedResult(calculatedItems.get(0).getRecordsCount(), calculatedItems.stream().map(CalculatedItem::getCrc32).collect(Collectors.toList())));
+        return Collections.singletonList(new CalculatedResult(calculatedItems.get(0).getRecordsCount(), calculatedItems.stream().map(CalculatedItem::getCrc32).collect(Collectors.toList()), null));
+    }
+    
+    private Iterable<DataConsistencyCalculatedResult> calculateByRanges(final DataConsistencyCalculateParameter param, final String rangeSQL) {
+        UniqueKeyRangesPlan rangesPlan = getUniqueKeyRangesPlan(param);
+        if (rangesPlan.isEmptyTable()) {
+            return Collections.singletonList(new CalculatedResult(0, Collections.emptyList(), null));
+        }
+        if (rangesPlan.getMinimum() > rangesPlan.getMaximum()) {
+            return Collections.emptyList();
+        }
+        return () -> new RangeCalculatedResultIterator(getExecutor(), param, rangeSQL, rangesPlan);
+    }
+    
+    private UniqueKeyRangesPlan getUniqueKeyRangesPlan(final DataConsistencyCalculateParameter param) {
+        AtomicReference<Object> sharedCalculationContext = param.getSharedCalculationContext();
+        synchronized (sharedCalculationContext) {
+            if (!(sharedCalculationContext.get() instanceof UniqueKeyRangesPlan)) {
+                sharedCalculationContext.set(createUniqueKeyRangesPlan(param));
+            }
+            return (UniqueKeyRangesPlan) sharedCalculationContext.get();
+        }
+    }
+    
+    private UniqueKeyRangesPlan createUniqueKeyRangesPlan(final DataConsistencyCalculateParameter param) {
+        Optional<long[]> uniqueKeyValuesRange = getUniqueKeyValuesRange(param);
+        long recordsCount = getRecordsCount(param);
+        Optional<Long> checkedPosition = getCheckedPosition(param.getTableCheckPosition());
+        Optional<DataConsistencyCalculateParameter> peerParam = param.getPeerParameter();
+        if (peerParam.isPresent()) {
+            uniqueKeyValuesRange = mergeUniqueKeyValuesRange(uniqueKeyValuesRange, getUniqueKeyValuesRange(peerParam.get()));
+            recordsCount = Math.max(recordsCount, getRecordsCount(peerParam.get()));
+            Optional<Long> peerCheckedPosition = getCheckedPosition(peerParam.get().getTableCheckPosition());
+            checkedPosition = checkedPosition.isPresent() && peerCheckedPosition.isPresent() ? Optional.of(Math.min(checkedPosition.get(), peerCheckedPosition.get())) : Optional.empty();
+        }
+        if (!uniqueKeyValuesRange.isPresent()) {
+            return new UniqueKeyRangesPlan(true, 0L, 0L, 0L);
+        }
+        long minimum = uniqueKeyValuesRange.get()[0];
+        long maximum = uniqueKeyValuesRange.get()[1];
+        long splitCount = Math.max(1L, recordsCount / chunkSize + (recordsCount % chunkSize > 0L ? 1L : 0L));
+        long interval = (maximum - minimum) / splitCount;
+        return new UniqueKeyRangesPlan(false, checkedPosition.isPresent() ? Math.max(minimum, checkedPosition.get() + 1L) : minimum, maximum, interval);
+    }
+    
+    private Optional<long[]> mergeUniqueKeyValuesRange(final Optional<long[]> uniqueKeyValuesRange, final Optional<long[]> peerUniqueKeyValuesRange) {
+        if (!uniqueKeyValuesRange.isPresent() || !peerUniqueKeyValuesRange.isPresent()) {
+            return uniqueKeyValuesRange.isPresent() ? uniqueKeyValuesRange : peerUniqueKeyValuesRange;
+        }
+        return Optional.of(new long[]{Math.min(uniqueKeyValuesRange.get()[0], peerUniqueKeyValuesRange.get()[0]), Math.max(uniqueKeyValuesRange.get()[1], peerUniqueKeyValuesRange.get()[1])});
+    }
+    
+    private long getRecordsCount(final DataConsistencyCalculateParameter param) {
+        try {
+            return InventoryRecordsCountCalculator.getTableRecordsCount(param.getSchemaName(), param.getLogicTableName(), param.getDataSource());
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName(), ex);
+        }
+    }
+    
+    private synchronized ExecutorService getExecutor() {
+        if (null == executor) {
+            executor = new ThreadPoolExecutor(concurrency, concurrency, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), ExecutorThreadFactoryBuilder.build("crc32-check-%d"));
+            executor.allowCoreThreadTimeOut(true);
+        }
+        return executor;
+    }
+    
+    @Override
+    public void cancel() throws SQLException {
+        super.cancel();
+        shutdownExecutor();
+    }
+    
+    private synchronized void shutdownExecutor() {
+        if (null != executor) {
+            executor.shutdownNow();
+        }
+    }
+    
+    private Optional<Long> getCheckedPosition(final Object tableCheckPosition) {
+        if (tableCheckPosition instanceof Number) {
+            return Optional.of(((Number) tableCheckPosition).longValue());
+        }
+        if (tableCheckPosition instanceof String) {
+            try {
+                return Optional.of(Long.parseLong((String) tableCheckPosition));
+            } catch (final NumberFormatException ignore) {
+                log.warn("Invalid table check position: {}, check from beginning", tableCheckPosition);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private Optional<long[]> getUniqueKeyValuesRange(final DataConsistencyCalculateParameter param) {
+        PipelineSQLBuilder sqlBuilder = PipelineTypedSPILoader.getDatabaseTypedService(PipelineSQLBuilder.class, param.getDatabaseType());
+        String sql = sqlBuilder.buildUniqueKeyMinMaxValuesSQL(param.getSchemaName(), param.getLogicTableName(), param.getUniqueKey().getName());
+        try (
+                Connection connection = param.getDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql);
+                ResultSet resultSet = executeQuery(preparedStatement)) {
+            if (!resultSet.next() || null == resultSet.getObject(1)) {
+                return Optional.empty();
+            }
+            return Optional.of(new long[]{resultSet.getLong(1), resultSet.getLong(2)});
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName(), ex);
+        }
+    }
+    
+    private CalculatedResult calculateRange(final DataConsistencyCalculateParameter param, final String sql, final long lowerBound, final long upperBound) {
+        ShardingSpherePreconditions.checkState(!isCanceling(), () -> new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName()));
+        try (
+                Connection connection = param.getDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            preparedStatement.setLong(1, lowerBound);
+            preparedStatement.setLong(2, upperBound);
+            try (ResultSet resultSet = executeQuery(preparedStatement)) {
+                resultSet.next();
+                int columnCount = param.getColumnNames().size();
+                List<Long> columnsCrc32 = new ArrayList<>(columnCount);
+                for (int i = 1; i <= columnCount; i++) {
+                    columnsCrc32.add(resultSet.getLong(i));
+                }
+                return new CalculatedResult(resultSet.getInt(columnCount + 1), columnsCrc32, upperBound);
+            }
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName(), ex);
+        }
     }
     
     private CalculatedItem calculateCRC32(final PipelineSQLBuilder sqlBuilder, final DataConsistencyCalculateParameter param, final String columnName) {
@@ -63,8 +255,7 @@ public final class CRC32MatchDataConsistencyCalculateAlgorithm extends AbstractD
         try (
                 Connection connection = param.getDataSource().getConnection();
                 PreparedStatement preparedStatement = connection.prepareStatement(sql.get());
-                ResultSet resultSet = preparedStatement.executeQuery()) {
-            setCurrentStatement(preparedStatement);
+                ResultSet resultSet = executeQuery(preparedStatement)) {
             resultSet.next();
             long crc32 = resultSet.getLong(1);
             int recordsCount = resultSet.getInt(2);
@@ -74,6 +265,15 @@ public final class CRC32MatchDataConsistencyCalculateAlgorithm extends AbstractD
         }
     }
     
+    private ResultSet executeQuery(final PreparedStatement preparedStatement) throws SQLException {
+        addRunningStatement(preparedStatement);
+        try {
+            return preparedStatement.executeQuery();
+        } finally {
+            removeRunningStatement(preparedStatement);
+        }
+    }
+    
     @Override
     public String getType() {
         return "CRC32_MATCH";
@@ -84,6 +284,80 @@ public final class CRC32MatchDataConsistencyCalculateAlgorithm extends AbstractD
         return SUPPORTED_DATABASE_TYPES;
     }
     
+    private final class RangeCalculatedResultIterator implements Iterator<DataConsistencyCalculatedResult> {
+        
+        private final ExecutorService executor;
+        
+        private final DataConsistencyCalculateParameter param;
+        
+        private final String sql;
+        
+        private final Iterator<Range<Long>> ranges;
+        
+        private final Queue<Future<CalculatedResult>> futures = new ConcurrentLinkedQueue<>();
+        
+        RangeCalculatedResultIterator(final ExecutorService executor, final DataConsistencyCalculateParameter param, final String sql, final UniqueKeyRangesPlan rangesPlan) {
+            this.executor = executor;
+            this.param = param;
+            this.sql = sql;
+            ranges = new IntervalToRangeIterator(rangesPlan.getMinimum(), rangesPlan.getMaximum(), rangesPlan.getInterval());
+            param.setCalculationContext(this::cancelFutures);
+            submitRanges();
+        }
+        
+        private void submitRanges() {
+            while (futures.size() < concurrency && ranges.hasNext()) {
+                Range<Long> range = ranges.next();
+                futures.add(executor.submit(() -> calculateRange(param, sql, range.getMinimum(), range.getMaximum())));
+            }
+        }
+        
+        private void cancelFutures() {
+            for (Future<CalculatedResult> each : futures) {
+                each.cancel(true);
+            }
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return !futures.isEmpty();
+        }
+        
+        @Override
+        public DataConsistencyCalculatedResult next() {
+            Future<CalculatedResult> future = futures.poll();
+            if (null == future) {
+                throw new NoSuchElementException();
+            }
+            try {
+                return future.get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName(), ex);
+            } catch (final ExecutionException ex) {
+                if (ex.getCause() instanceof PipelineTableDataConsistencyCheckLoadingFailedException) {
+                    throw (PipelineTableDataConsistencyCheckLoadingFailedException) ex.getCause();
+                }
+                throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName(), ex);
+            } finally {
+                submitRanges();
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class UniqueKeyRangesPlan {
+        
+        private final boolean emptyTable;
+        
+        private final long minimum;
+        
+        private final long maximum;
+        
+        private final long interval;
+    }
+    
     @RequiredArgsConstructor
     @Getter
     private static final class CalculatedItem {
@@ -101,6 +375,8 @@ public final class CRC32MatchDataConsistencyCalculateAlgorithm extends AbstractD
         
         private final Collection<Long> columnsCrc32;
         
+        private final Object maxUniqueKeyValue;
+        
         @Override
         public boolean equals(final Object o) {
             if (null == o) {
@@ -122,6 +398,10 @@ public final class CRC32MatchDataConsistencyCalculateAlgorithm extends AbstractD
                 log.info("columnsCrc32 not match, columnsCrc32={}, that.columnsCrc32={}", columnsCrc32, that.columnsCrc32);
                 return false;
             }
+            if (!Objects.equals(maxUniqueKeyValue, that.maxUniqueKeyValue)) {
+                log.info("maxUniqueKeyValue not match, maxUniqueKeyValue={}, that.maxUniqueKeyValue={}", maxUniqueKeyValue, that.maxUniqueKeyValue);
+                return false;
+            }
             return true;
         }
         
@@ -129,13 +409,13 @@ public final class CRC32MatchDataConsistencyCalculateAlgorithm extends AbstractD
         public int hashCode() {
             int result = recordsCount;
             result = 31 * result + columnsCrc32.hashCode();
+            result = 31 * result + Objects.hashCode(maxUniqueKeyValue);
             return result;
         }
         
-        // TODO not support now
         @Override
         public Optional<Object> getMaxUniqueKeyValue() {
-            return Optional.empty();
+            return Optional.ofNullable(maxUniqueKeyValue);
         }
     }
 }
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord.Key;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Data record partitioner.
+ * 
+ * <p>Records of the same unique key are always put into the same partition and keep their order, so partitions could be applied concurrently.</p>
+ */
+@RequiredArgsConstructor
+public final class DataRecordPartitioner {
+    
+    private final int maxPartitionCount;
+    
+    private final int minPartitionSize;
+    
+    /**
+     * Partition data records by unique key.
+     *
+     * @param dataRecords data records
+     * @return partitioned data records
+     */
+    public List<List<DataRecord>> partition(final List<DataRecord> dataRecords) {
+        if (dataRecords.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int partitionCount = Math.min(maxPartitionCount, (dataRecords.size() + minPartitionSize - 1) / minPartitionSize);
+        if (partitionCount <= 1 || dataRecords.stream().anyMatch(this::isUniqueKeyUpdated)) {
+            return Collections.singletonList(dataRecords);
+        }
+        List<List<DataRecord>> result = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            result.add(new LinkedList<>());
+        }
+        for (DataRecord each : dataRecords) {
+            result.get(Math.floorMod(getKeyFromDataRecord(each).hashCode(), partitionCount)).add(each);
+        }
+        return result.stream().filter(each -> !each.isEmpty()).collect(Collectors.toList());
+    }
+    
+    private boolean isUniqueKeyUpdated(final DataRecord dataRecord) {
+        return IngestDataChangeType.UPDATE.equals(dataRecord.getType()) && dataRecord.getOldUniqueKeyValues().stream().anyMatch(Objects::nonNull)
+                && !dataRecord.getOldUniqueKeyValues().equals(dataRecord.getUniqueKeyValue());
+    }
+    
+    private Key getKeyFromDataRecord(final DataRecord dataRecord) {
+        return IngestDataChangeType.DELETE.equals(dataRecord.getType()) ? dataRecord.getOldKey() : dataRecord.getKey();
+    }
+}
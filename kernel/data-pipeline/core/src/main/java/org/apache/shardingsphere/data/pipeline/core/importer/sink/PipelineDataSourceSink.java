@@ -32,6 +32,7 @@ import org.apache.shardingsphere.data.pipeline.api.job.progress.listener.Pipelin
 import org.apache.shardingsphere.data.pipeline.api.metadata.LogicTableName;
 import org.apache.shardingsphere.data.pipeline.core.exception.job.PipelineImporterJobWriteException;
 import org.apache.shardingsphere.data.pipeline.core.importer.DataRecordMerger;
+import org.apache.shardingsphere.data.pipeline.core.importer.DataRecordPartitioner;
 import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
 import org.apache.shardingsphere.data.pipeline.core.record.RecordUtils;
 import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
@@ -39,6 +40,7 @@ import org.apache.shardingsphere.data.pipeline.spi.importer.sink.PipelineSink;
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
 import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
 import org.apache.shardingsphere.data.pipeline.util.spi.PipelineTypedSPILoader;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -46,10 +48,19 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -61,6 +72,8 @@ public final class PipelineDataSourceSink implements PipelineSink {
     
     private static final DataRecordMerger MERGER = new DataRecordMerger();
     
+    private static final int MIN_PARTITION_SIZE = 64;
+    
     @Getter(AccessLevel.PROTECTED)
     private final ImporterConfiguration importerConfig;
     
@@ -70,17 +83,25 @@ public final class PipelineDataSourceSink implements PipelineSink {
     
     private final JobRateLimitAlgorithm rateLimitAlgorithm;
     
-    private final AtomicReference<Statement> batchInsertStatement = new AtomicReference<>();
+    private final Collection<Statement> runningStatements = ConcurrentHashMap.newKeySet();
     
-    private final AtomicReference<Statement> updateStatement = new AtomicReference<>();
+    private final DataRecordPartitioner partitioner;
     
-    private final AtomicReference<Statement> batchDeleteStatement = new AtomicReference<>();
+    private final ThreadPoolExecutor applyExecutor;
     
     public PipelineDataSourceSink(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager) {
         this.importerConfig = importerConfig;
         rateLimitAlgorithm = importerConfig.getRateLimitAlgorithm();
         this.dataSourceManager = dataSourceManager;
         pipelineSqlBuilder = PipelineTypedSPILoader.getDatabaseTypedService(PipelineSQLBuilder.class, importerConfig.getDataSourceConfig().getDatabaseType().getType());
+        partitioner = new DataRecordPartitioner(importerConfig.getConcurrency(), MIN_PARTITION_SIZE);
+        applyExecutor = importerConfig.getConcurrency() > 1 ? createApplyExecutor(importerConfig.getConcurrency()) : null;
+    }
+    
+    private ThreadPoolExecutor createApplyExecutor(final int concurrency) {
+        ThreadPoolExecutor result = new ThreadPoolExecutor(concurrency, concurrency, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), ExecutorThreadFactoryBuilder.build("pipeline-apply-%d"));
+        result.allowCoreThreadTimeOut(true);
+        return result;
     }
     
     @Override
@@ -105,15 +126,53 @@ public final class PipelineDataSourceSink implements PipelineSink {
             }
         }
         List<GroupedDataRecord> result = MERGER.group(dataRecords);
-        for (GroupedDataRecord each : result) {
-            flushInternal(dataSource, each.getBatchDeleteDataRecords());
-            flushInternal(dataSource, each.getBatchInsertDataRecords());
-            flushInternal(dataSource, each.getBatchUpdateDataRecords());
-            sequentialFlush(dataSource, each.getNonBatchRecords());
+        if (null == applyExecutor) {
+            for (GroupedDataRecord each : result) {
+                flushInternal(dataSource, each.getBatchDeleteDataRecords());
+                flushInternal(dataSource, each.getBatchInsertDataRecords());
+                flushInternal(dataSource, each.getBatchUpdateDataRecords());
+                sequentialFlush(dataSource, each.getNonBatchRecords());
+            }
+        } else {
+            parallelFlush(dataSource, result);
         }
         return new PipelineJobProgressUpdatedParameter(insertRecordNumber);
     }
     
+    private void parallelFlush(final DataSource dataSource, final List<GroupedDataRecord> groupedDataRecords) {
+        parallelFlush(groupedDataRecords, GroupedDataRecord::getBatchDeleteDataRecords, each -> flushInternal(dataSource, each));
+        parallelFlush(groupedDataRecords, GroupedDataRecord::getBatchInsertDataRecords, each -> flushInternal(dataSource, each));
+        parallelFlush(groupedDataRecords, GroupedDataRecord::getBatchUpdateDataRecords, each -> flushInternal(dataSource, each));
+        parallelFlush(groupedDataRecords, GroupedDataRecord::getNonBatchRecords, each -> sequentialFlush(dataSource, each));
+    }
+    
+    private void parallelFlush(final List<GroupedDataRecord> groupedDataRecords, final Function<GroupedDataRecord, List<DataRecord>> recordsGetter, final Consumer<List<DataRecord>> flusher) {
+        Collection<Future<?>> futures = new LinkedList<>();
+        for (GroupedDataRecord each : groupedDataRecords) {
+            for (List<DataRecord> partition : partitioner.partition(recordsGetter.apply(each))) {
+                futures.add(applyExecutor.submit(() -> flusher.accept(partition)));
+            }
+        }
+        waitFutures(futures);
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void waitFutures(final Collection<Future<?>> futures) {
+        PipelineImporterJobWriteException failure = null;
+        for (Future<?> each : futures) {
+            try {
+                each.get();
+            } catch (final ExecutionException ex) {
+                if (null == failure) {
+                    failure = ex.getCause() instanceof PipelineImporterJobWriteException ? (PipelineImporterJobWriteException) ex.getCause() : new PipelineImporterJobWriteException(ex);
+                }
+            }
+        }
+        if (null != failure) {
+            throw failure;
+        }
+    }
+    
     private void flushInternal(final DataSource dataSource, final List<DataRecord> buffer) {
         if (null == buffer || buffer.isEmpty()) {
             return;
@@ -205,7 +264,6 @@ public final class PipelineDataSourceSink implements PipelineSink {
         DataRecord dataRecord = dataRecords.get(0);
         String insertSql = pipelineSqlBuilder.buildInsertSQL(getSchemaName(dataRecord.getTableName()), dataRecord);
         try (PreparedStatement preparedStatement = connection.prepareStatement(insertSql)) {
-            batchInsertStatement.set(preparedStatement);
             preparedStatement.setQueryTimeout(30);
             for (DataRecord each : dataRecords) {
                 for (int i = 0; i < each.getColumnCount(); i++) {
@@ -213,9 +271,7 @@ public final class PipelineDataSourceSink implements PipelineSink {
                 }
                 preparedStatement.addBatch();
             }
-            preparedStatement.executeBatch();
-        } finally {
-            batchInsertStatement.set(null);
+            doExecuteBatch(preparedStatement);
         }
     }
     
@@ -235,7 +291,6 @@ public final class PipelineDataSourceSink implements PipelineSink {
         List<Column> updatedColumns = pipelineSqlBuilder.extractUpdatedColumns(dataRecord);
         String updateSql = pipelineSqlBuilder.buildUpdateSQL(getSchemaName(dataRecord.getTableName()), dataRecord, conditionColumns);
         try (PreparedStatement preparedStatement = connection.prepareStatement(updateSql)) {
-            updateStatement.set(preparedStatement);
             for (int i = 0; i < updatedColumns.size(); i++) {
                 preparedStatement.setObject(i + 1, updatedColumns.get(i).getValue());
             }
@@ -249,12 +304,10 @@ public final class PipelineDataSourceSink implements PipelineSink {
                 preparedStatement.setObject(updatedColumns.size() + i + 1, keyColumn.getOldValue());
             }
             // TODO if table without unique key the conditionColumns before values is null, so update will fail at PostgreSQL
-            int updateCount = preparedStatement.executeUpdate();
+            int updateCount = doExecuteUpdate(preparedStatement);
             if (1 != updateCount) {
                 log.warn("executeUpdate failed, updateCount={}, updateSql={}, updatedColumns={}, conditionColumns={}", updateCount, updateSql, updatedColumns, conditionColumns);
             }
-        } finally {
-            updateStatement.set(null);
         }
     }
     
@@ -263,7 +316,6 @@ public final class PipelineDataSourceSink implements PipelineSink {
         String deleteSQL = pipelineSqlBuilder.buildDeleteSQL(getSchemaName(dataRecord.getTableName()), dataRecord,
                 RecordUtils.extractConditionColumns(dataRecord, importerConfig.getShardingColumns(dataRecord.getTableName())));
         try (PreparedStatement preparedStatement = connection.prepareStatement(deleteSQL)) {
-            batchDeleteStatement.set(preparedStatement);
             preparedStatement.setQueryTimeout(30);
             for (DataRecord each : dataRecords) {
                 List<Column> conditionColumns = RecordUtils.extractConditionColumns(each, importerConfig.getShardingColumns(dataRecord.getTableName()));
@@ -276,12 +328,28 @@ public final class PipelineDataSourceSink implements PipelineSink {
                 }
                 preparedStatement.addBatch();
             }
-            int[] counts = preparedStatement.executeBatch();
+            int[] counts = doExecuteBatch(preparedStatement);
             if (IntStream.of(counts).anyMatch(value -> 1 != value)) {
                 log.warn("batchDelete failed, counts={}, sql={}, dataRecords={}", Arrays.toString(counts), deleteSQL, dataRecords);
             }
+        }
+    }
+    
+    private int[] doExecuteBatch(final PreparedStatement preparedStatement) throws SQLException {
+        runningStatements.add(preparedStatement);
+        try {
+            return preparedStatement.executeBatch();
         } finally {
-            batchDeleteStatement.set(null);
+            runningStatements.remove(preparedStatement);
+        }
+    }
+    
+    private int doExecuteUpdate(final PreparedStatement preparedStatement) throws SQLException {
+        runningStatements.add(preparedStatement);
+        try {
+            return preparedStatement.executeUpdate();
+        } finally {
+            runningStatements.remove(preparedStatement);
         }
     }
     
@@ -298,8 +366,11 @@ public final class PipelineDataSourceSink implements PipelineSink {
     
     @Override
     public void close() {
-        PipelineJdbcUtils.cancelStatement(batchInsertStatement.get());
-        PipelineJdbcUtils.cancelStatement(updateStatement.get());
-        PipelineJdbcUtils.cancelStatement(batchDeleteStatement.get());
+        for (Statement each : runningStatements) {
+            PipelineJdbcUtils.cancelStatement(each);
+        }
+        if (null != applyExecutor) {
+            applyExecutor.shutdownNow();
+        }
     }
 }
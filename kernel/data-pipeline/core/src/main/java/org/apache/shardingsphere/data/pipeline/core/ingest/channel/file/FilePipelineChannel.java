@@ -0,0 +1,314 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.file;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * File pipeline channel.
+ * 
+ * <p>Records are appended to memory-mapped segment files on local disk, so producer would not be blocked by slow consumer.
+ * Segments are deleted after all their records are read and acknowledged.
+ * Acknowledging records also acknowledges all records fetched before them, and fetched records without data to acknowledge,
+ * such as placeholder records, are acknowledged with their predecessors.</p>
+ */
+@Slf4j
+public final class FilePipelineChannel implements PipelineChannel {
+    
+    private final Path directory;
+    
+    private final int segmentSize;
+    
+    private final AckCallback ackCallback;
+    
+    private final PipelineRecordCodec codec;
+    
+    private final Lock lock = new ReentrantLock();
+    
+    private final Condition notEmpty = lock.newCondition();
+    
+    private final Lock fetchLock = new ReentrantLock();
+    
+    private final Deque<RecordSegment> unreadSegments = new LinkedList<>();
+    
+    private final Deque<RecordSegment> readSegments = new LinkedList<>();
+    
+    private final Deque<FetchedRecords> unackedRecords = new LinkedList<>();
+    
+    private long nextSegmentId;
+    
+    private List<Record> peekedRecords;
+    
+    private volatile boolean closed;
+    
+    public FilePipelineChannel(final Path directory, final int segmentSize, final AckCallback ackCallback) throws IOException {
+        this(directory, segmentSize, ackCallback, new PipelineRecordCodec());
+    }
+    
+    public FilePipelineChannel(final Path directory, final int segmentSize, final AckCallback ackCallback, final PipelineRecordCodec codec) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        this.ackCallback = ackCallback;
+        this.codec = codec;
+    }
+    
+    @SneakyThrows(IOException.class)
+    @Override
+    public void pushRecords(final List<Record> records) {
+        byte[] entry = codec.encode(records);
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            if (unreadSegments.isEmpty() || !unreadSegments.getLast().append(entry)) {
+                RecordSegment segment = createSegment(Math.max(segmentSize, Integer.BYTES + entry.length));
+                segment.append(entry);
+                unreadSegments.addLast(segment);
+            }
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private RecordSegment createSegment(final int capacity) throws IOException {
+        long id = nextSegmentId++;
+        return new RecordSegment(id, directory.resolve(String.format("%020d.segment", id)), capacity);
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final long timeout, final TimeUnit timeUnit) {
+        long deadlineNanos = System.nanoTime() + timeUnit.toNanos(timeout);
+        if (!fetchLock.tryLock(timeout, timeUnit)) {
+            return Collections.emptyList();
+        }
+        try {
+            List<Record> result = new ArrayList<>();
+            while (result.size() < batchSize) {
+                List<Record> records = null == peekedRecords ? read(deadlineNanos - System.nanoTime()) : peekedRecords;
+                peekedRecords = null;
+                if (null == records) {
+                    break;
+                }
+                result.addAll(records);
+            }
+            if (!result.isEmpty()) {
+                markFetched(result);
+            }
+            return result;
+        } finally {
+            fetchLock.unlock();
+        }
+    }
+    
+    @Override
+    public List<Record> peekRecords() {
+        fetchLock.lock();
+        try {
+            if (null == peekedRecords) {
+                peekedRecords = read(0L);
+            }
+            return null == peekedRecords ? Collections.emptyList() : peekedRecords;
+        } finally {
+            fetchLock.unlock();
+        }
+    }
+    
+    @Override
+    public List<Record> pollRecords() {
+        fetchLock.lock();
+        try {
+            List<Record> result = null == peekedRecords ? read(0L) : peekedRecords;
+            peekedRecords = null;
+            if (null == result) {
+                return Collections.emptyList();
+            }
+            markFetched(result);
+            return result;
+        } finally {
+            fetchLock.unlock();
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private List<Record> read(final long timeoutNanos) {
+        byte[] entry;
+        lock.lock();
+        try {
+            long remainingNanos = timeoutNanos;
+            while (!closed && !hasUnread()) {
+                if (remainingNanos <= 0L) {
+                    return null;
+                }
+                remainingNanos = notEmpty.awaitNanos(remainingNanos);
+            }
+            if (closed) {
+                return null;
+            }
+            entry = unreadSegments.getFirst().read();
+        } finally {
+            lock.unlock();
+        }
+        return codec.decode(entry);
+    }
+    
+    private boolean hasUnread() {
+        while (!unreadSegments.isEmpty()) {
+            RecordSegment first = unreadSegments.getFirst();
+            if (first.hasUnread()) {
+                return true;
+            }
+            if (1 == unreadSegments.size()) {
+                return false;
+            }
+            readSegments.addLast(unreadSegments.removeFirst());
+        }
+        return false;
+    }
+    
+    private void markFetched(final List<Record> records) {
+        lock.lock();
+        try {
+            Record lastRecord = records.get(records.size() - 1);
+            Record lastAckableRecord = findLastAckableRecord(records);
+            long segmentId = unreadSegments.isEmpty() ? nextSegmentId : unreadSegments.getFirst().getId();
+            unackedRecords.addLast(new FetchedRecords(lastRecord, lastAckableRecord, segmentId));
+            truncateUnackable();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private Record findLastAckableRecord(final List<Record> records) {
+        for (int i = records.size() - 1; i >= 0; i--) {
+            if (!(records.get(i) instanceof PlaceholderRecord)) {
+                return records.get(i);
+            }
+        }
+        return null;
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        if (!records.isEmpty()) {
+            truncate(records.get(records.size() - 1));
+        }
+        ackCallback.onAck(records);
+    }
+    
+    private void truncate(final Record lastAckedRecord) {
+        lock.lock();
+        try {
+            int ackedCount = 0;
+            int index = 0;
+            for (FetchedRecords each : unackedRecords) {
+                index++;
+                if (each.lastRecord == lastAckedRecord || each.lastAckableRecord == lastAckedRecord) {
+                    ackedCount = index;
+                }
+            }
+            if (0 == ackedCount) {
+                return;
+            }
+            long ackedSegmentId = 0L;
+            for (int i = 0; i < ackedCount; i++) {
+                ackedSegmentId = unackedRecords.removeFirst().segmentId;
+            }
+            truncateSegments(ackedSegmentId);
+            truncateUnackable();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void truncateUnackable() {
+        Long ackedSegmentId = null;
+        while (!unackedRecords.isEmpty() && null == unackedRecords.getFirst().lastAckableRecord) {
+            ackedSegmentId = unackedRecords.removeFirst().segmentId;
+        }
+        if (null != ackedSegmentId) {
+            truncateSegments(ackedSegmentId);
+        }
+    }
+    
+    private void truncateSegments(final long ackedSegmentId) {
+        while (!readSegments.isEmpty() && readSegments.getFirst().getId() < ackedSegmentId) {
+            closeSegment(readSegments.removeFirst());
+        }
+    }
+    
+    private void closeSegment(final RecordSegment segment) {
+        try {
+            segment.close();
+        } catch (final IOException ex) {
+            log.warn("Close segment failed, directory={}, segment id={}", directory, segment.getId(), ex);
+        }
+    }
+    
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            readSegments.forEach(this::closeSegment);
+            readSegments.clear();
+            unreadSegments.forEach(this::closeSegment);
+            unreadSegments.clear();
+            unackedRecords.clear();
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            Files.deleteIfExists(directory);
+        } catch (final IOException ex) {
+            log.warn("Delete channel directory failed, directory={}", directory, ex);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class FetchedRecords {
+        
+        private final Record lastRecord;
+        
+        private final Record lastAckableRecord;
+        
+        private final long segmentId;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.file;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory.MultiplexMemoryPipelineChannel;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelCreator;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * File implementation of pipeline channel creator.
+ * 
+ * <p>Channel directories are created under a process directory locked by current process,
+ * process directories left behind by crashed processes are deleted when the first channel of the path is created.</p>
+ */
+@Slf4j
+public final class FilePipelineChannelCreator implements PipelineChannelCreator {
+    
+    private static final String PATH_KEY = "path";
+    
+    private static final String SEGMENT_SIZE_KEY = "segment-size";
+    
+    private static final String SEGMENT_SIZE_DEFAULT_VALUE = "67108864";
+    
+    private static final String PROCESS_DIRECTORY_PREFIX = "process-";
+    
+    private static final String LOCK_FILE_NAME = ".lock";
+    
+    private static final Map<Path, Path> PROCESS_DIRECTORIES = new ConcurrentHashMap<>();
+    
+    private static final Collection<FileLock> PROCESS_LOCKS = new CopyOnWriteArrayList<>();
+    
+    private Path path;
+    
+    private int segmentSize;
+    
+    @Override
+    public void init(final Properties props) {
+        path = Paths.get(props.getProperty(PATH_KEY, Paths.get(System.getProperty("java.io.tmpdir"), "shardingsphere-pipeline-channel").toString()));
+        segmentSize = Integer.parseInt(props.getProperty(SEGMENT_SIZE_KEY, SEGMENT_SIZE_DEFAULT_VALUE));
+    }
+    
+    @Override
+    public PipelineChannel createPipelineChannel(final int outputConcurrency, final int averageElementSize, final AckCallback ackCallback) {
+        return createPipelineChannel(outputConcurrency, averageElementSize, ackCallback, null);
+    }
+    
+    @SneakyThrows(IOException.class)
+    @Override
+    public PipelineChannel createPipelineChannel(final int outputConcurrency, final int averageElementSize, final AckCallback ackCallback, final String databaseType) {
+        if (1 == outputConcurrency) {
+            return createFilePipelineChannel(ackCallback, databaseType);
+        }
+        List<PipelineChannel> channels = new ArrayList<>(outputConcurrency);
+        for (int i = 0; i < outputConcurrency; i++) {
+            channels.add(createFilePipelineChannel(ackCallback, databaseType));
+        }
+        return new MultiplexMemoryPipelineChannel(channels);
+    }
+    
+    private FilePipelineChannel createFilePipelineChannel(final AckCallback ackCallback, final String databaseType) throws IOException {
+        return new FilePipelineChannel(Files.createTempDirectory(getProcessDirectory(), "channel-"), segmentSize, ackCallback, new PipelineRecordCodec(databaseType));
+    }
+    
+    private Path getProcessDirectory() throws IOException {
+        Path result = PROCESS_DIRECTORIES.get(path);
+        if (null != result) {
+            return result;
+        }
+        synchronized (PROCESS_DIRECTORIES) {
+            result = PROCESS_DIRECTORIES.get(path);
+            if (null == result) {
+                result = createProcessDirectory(Files.createDirectories(path));
+                PROCESS_DIRECTORIES.put(path, result);
+            }
+            return result;
+        }
+    }
+    
+    private Path createProcessDirectory(final Path parent) throws IOException {
+        deleteStaleProcessDirectories(parent);
+        Path result = Files.createTempDirectory(parent, PROCESS_DIRECTORY_PREFIX);
+        result.toFile().deleteOnExit();
+        Path lockFile = result.resolve(LOCK_FILE_NAME);
+        FileChannel lockChannel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        lockFile.toFile().deleteOnExit();
+        PROCESS_LOCKS.add(lockChannel.lock());
+        return result;
+    }
+    
+    private void deleteStaleProcessDirectories(final Path parent) throws IOException {
+        try (DirectoryStream<Path> directories = Files.newDirectoryStream(parent, PROCESS_DIRECTORY_PREFIX + "*")) {
+            for (Path each : directories) {
+                if (isStale(each)) {
+                    log.info("Delete stale pipeline channel directory {}", each);
+                    deleteRecursively(each);
+                }
+            }
+        }
+    }
+    
+    private boolean isStale(final Path processDirectory) {
+        try (FileChannel lockChannel = FileChannel.open(processDirectory.resolve(LOCK_FILE_NAME), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            FileLock lock = lockChannel.tryLock();
+            if (null == lock) {
+                return false;
+            }
+            lock.release();
+            return true;
+        } catch (final IOException | OverlappingFileLockException ex) {
+            log.warn("Check pipeline channel directory failed, directory={}", processDirectory, ex);
+            return false;
+        }
+    }
+    
+    private void deleteRecursively(final Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path each : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.deleteIfExists(each);
+            }
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "FILE";
+    }
+}
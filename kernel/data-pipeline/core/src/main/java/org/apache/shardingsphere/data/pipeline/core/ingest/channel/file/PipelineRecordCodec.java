@@ -0,0 +1,415 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.file;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.FinishedPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPositionFactory;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.position.PositionInitializer;
+import org.apache.shardingsphere.data.pipeline.util.spi.PipelineTypedSPILoader;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pipeline record codec.
+ * 
+ * <p>Records are encoded into compact binary with type tags.
+ * Dialect positions are encoded by their string form and decoded by position initializer of the database type.</p>
+ */
+@RequiredArgsConstructor
+public final class PipelineRecordCodec {
+    
+    private static final byte DATA_RECORD = 1;
+    
+    private static final byte PLACEHOLDER_RECORD = 2;
+    
+    private static final byte FINISHED_RECORD = 3;
+    
+    private static final byte NULL_VALUE = 0;
+    
+    private static final byte BOOLEAN_VALUE = 1;
+    
+    private static final byte BYTE_VALUE = 2;
+    
+    private static final byte SHORT_VALUE = 3;
+    
+    private static final byte INT_VALUE = 4;
+    
+    private static final byte LONG_VALUE = 5;
+    
+    private static final byte FLOAT_VALUE = 6;
+    
+    private static final byte DOUBLE_VALUE = 7;
+    
+    private static final byte BIG_DECIMAL_VALUE = 8;
+    
+    private static final byte BIG_INTEGER_VALUE = 9;
+    
+    private static final byte STRING_VALUE = 10;
+    
+    private static final byte BYTES_VALUE = 11;
+    
+    private static final byte DATE_VALUE = 12;
+    
+    private static final byte TIME_VALUE = 13;
+    
+    private static final byte TIMESTAMP_VALUE = 14;
+    
+    private static final byte LOCAL_DATE_VALUE = 15;
+    
+    private static final byte LOCAL_TIME_VALUE = 16;
+    
+    private static final byte LOCAL_DATE_TIME_VALUE = 17;
+    
+    private static final byte PLACEHOLDER_POSITION_VALUE = 18;
+    
+    private static final byte FINISHED_POSITION_VALUE = 19;
+    
+    private static final byte PRIMARY_KEY_POSITION_VALUE = 20;
+    
+    private static final byte SERIALIZABLE_VALUE = 21;
+    
+    private static final byte DIALECT_POSITION_VALUE = 22;
+    
+    /**
+     * Database type of dialect positions, nullable if there is no dialect position.
+     */
+    private final String databaseType;
+    
+    public PipelineRecordCodec() {
+        this(null);
+    }
+    
+    /**
+     * Encode records.
+     *
+     * @param records records
+     * @return encoded bytes
+     */
+    @SneakyThrows(IOException.class)
+    public byte[] encode(final List<Record> records) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream(256 * records.size());
+        DataOutputStream output = new DataOutputStream(result);
+        writeVarInt(output, records.size());
+        for (Record each : records) {
+            encodeRecord(output, each);
+        }
+        output.flush();
+        return result.toByteArray();
+    }
+    
+    private void encodeRecord(final DataOutputStream output, final Record record) throws IOException {
+        if (record instanceof DataRecord) {
+            output.writeByte(DATA_RECORD);
+        } else if (record instanceof PlaceholderRecord) {
+            output.writeByte(PLACEHOLDER_RECORD);
+        } else if (record instanceof FinishedRecord) {
+            output.writeByte(FINISHED_RECORD);
+        } else {
+            throw new UnsupportedOperationException("Unsupported record type: " + record.getClass().getName());
+        }
+        encodeValue(output, record.getPosition());
+        output.writeLong(record.getCommitTime());
+        if (record instanceof DataRecord) {
+            encodeDataRecord(output, (DataRecord) record);
+        }
+    }
+    
+    private void encodeDataRecord(final DataOutputStream output, final DataRecord dataRecord) throws IOException {
+        writeString(output, dataRecord.getType());
+        writeString(output, dataRecord.getTableName());
+        encodeValue(output, dataRecord.getCsn());
+        writeVarInt(output, dataRecord.getColumnCount());
+        for (Column each : dataRecord.getColumns()) {
+            writeString(output, each.getName());
+            output.writeByte((each.isUpdated() ? 1 : 0) | (each.isUniqueKey() ? 2 : 0));
+            encodeValue(output, each.getOldValue());
+            encodeValue(output, each.getValue());
+        }
+    }
+    
+    private void encodeValue(final DataOutputStream output, final Object value) throws IOException {
+        if (null == value) {
+            output.writeByte(NULL_VALUE);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN_VALUE);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof Byte) {
+            output.writeByte(BYTE_VALUE);
+            output.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            output.writeByte(SHORT_VALUE);
+            output.writeShort((Short) value);
+        } else if (value instanceof Integer) {
+            output.writeByte(INT_VALUE);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG_VALUE);
+            output.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT_VALUE);
+            output.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE_VALUE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof BigDecimal) {
+            output.writeByte(BIG_DECIMAL_VALUE);
+            writeVarInt(output, ((BigDecimal) value).scale());
+            writeBytes(output, ((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (value instanceof BigInteger) {
+            output.writeByte(BIG_INTEGER_VALUE);
+            writeBytes(output, ((BigInteger) value).toByteArray());
+        } else if (value instanceof String) {
+            output.writeByte(STRING_VALUE);
+            writeString(output, (String) value);
+        } else if (value instanceof byte[]) {
+            output.writeByte(BYTES_VALUE);
+            writeBytes(output, (byte[]) value);
+        } else if (Date.class == value.getClass()) {
+            output.writeByte(DATE_VALUE);
+            output.writeLong(((Date) value).getTime());
+        } else if (Time.class == value.getClass()) {
+            output.writeByte(TIME_VALUE);
+            output.writeLong(((Time) value).getTime());
+        } else if (Timestamp.class == value.getClass()) {
+            output.writeByte(TIMESTAMP_VALUE);
+            output.writeLong(((Timestamp) value).getTime());
+            output.writeInt(((Timestamp) value).getNanos());
+        } else if (value instanceof LocalDate) {
+            output.writeByte(LOCAL_DATE_VALUE);
+            output.writeLong(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalTime) {
+            output.writeByte(LOCAL_TIME_VALUE);
+            output.writeLong(((LocalTime) value).toNanoOfDay());
+        } else if (value instanceof LocalDateTime) {
+            output.writeByte(LOCAL_DATE_TIME_VALUE);
+            output.writeLong(((LocalDateTime) value).toLocalDate().toEpochDay());
+            output.writeLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+        } else if (value instanceof PlaceholderPosition) {
+            output.writeByte(PLACEHOLDER_POSITION_VALUE);
+        } else if (value instanceof FinishedPosition) {
+            output.writeByte(FINISHED_POSITION_VALUE);
+        } else if (value instanceof PrimaryKeyPosition) {
+            output.writeByte(PRIMARY_KEY_POSITION_VALUE);
+            writeString(output, value.toString());
+        } else if (value instanceof Serializable) {
+            output.writeByte(SERIALIZABLE_VALUE);
+            writeBytes(output, serialize(value));
+        } else if (value instanceof IngestPosition && null != databaseType) {
+            output.writeByte(DIALECT_POSITION_VALUE);
+            writeString(output, value.toString());
+        } else {
+            throw new UnsupportedOperationException("Unsupported value type: " + value.getClass().getName());
+        }
+    }
+    
+    private byte[] serialize(final Object value) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutput = new ObjectOutputStream(result)) {
+            objectOutput.writeObject(value);
+        }
+        return result.toByteArray();
+    }
+    
+    /**
+     * Decode records.
+     *
+     * @param bytes encoded bytes
+     * @return decoded records
+     */
+    @SneakyThrows(IOException.class)
+    public List<Record> decode(final byte[] bytes) {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+        int count = readVarInt(input);
+        List<Record> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(decodeRecord(input));
+        }
+        return result;
+    }
+    
+    private Record decodeRecord(final DataInputStream input) throws IOException {
+        byte recordType = input.readByte();
+        IngestPosition position = (IngestPosition) decodeValue(input);
+        long commitTime = input.readLong();
+        Record result;
+        switch (recordType) {
+            case DATA_RECORD:
+                result = decodeDataRecord(input, position);
+                break;
+            case PLACEHOLDER_RECORD:
+                result = new PlaceholderRecord(position);
+                break;
+            case FINISHED_RECORD:
+                result = new FinishedRecord(position);
+                break;
+            default:
+                throw new IllegalStateException("Unknown record type: " + recordType);
+        }
+        result.setCommitTime(commitTime);
+        return result;
+    }
+    
+    private DataRecord decodeDataRecord(final DataInputStream input, final IngestPosition position) throws IOException {
+        String type = readString(input);
+        String tableName = readString(input);
+        Long csn = (Long) decodeValue(input);
+        int columnCount = readVarInt(input);
+        DataRecord result = new DataRecord(type, tableName, position, columnCount);
+        result.setCsn(csn);
+        for (int i = 0; i < columnCount; i++) {
+            String name = readString(input);
+            byte flags = input.readByte();
+            Object oldValue = decodeValue(input);
+            result.addColumn(new Column(name, oldValue, decodeValue(input), 0 != (flags & 1), 0 != (flags & 2)));
+        }
+        return result;
+    }
+    
+    private Object decodeValue(final DataInputStream input) throws IOException {
+        byte valueType = input.readByte();
+        switch (valueType) {
+            case NULL_VALUE:
+                return null;
+            case BOOLEAN_VALUE:
+                return input.readBoolean();
+            case BYTE_VALUE:
+                return input.readByte();
+            case SHORT_VALUE:
+                return input.readShort();
+            case INT_VALUE:
+                return input.readInt();
+            case LONG_VALUE:
+                return input.readLong();
+            case FLOAT_VALUE:
+                return input.readFloat();
+            case DOUBLE_VALUE:
+                return input.readDouble();
+            case BIG_DECIMAL_VALUE:
+                int scale = readVarInt(input);
+                return new BigDecimal(new BigInteger(readBytes(input)), scale);
+            case BIG_INTEGER_VALUE:
+                return new BigInteger(readBytes(input));
+            case STRING_VALUE:
+                return readString(input);
+            case BYTES_VALUE:
+                return readBytes(input);
+            case DATE_VALUE:
+                return new Date(input.readLong());
+            case TIME_VALUE:
+                return new Time(input.readLong());
+            case TIMESTAMP_VALUE:
+                Timestamp timestamp = new Timestamp(input.readLong());
+                timestamp.setNanos(input.readInt());
+                return timestamp;
+            case LOCAL_DATE_VALUE:
+                return LocalDate.ofEpochDay(input.readLong());
+            case LOCAL_TIME_VALUE:
+                return LocalTime.ofNanoOfDay(input.readLong());
+            case LOCAL_DATE_TIME_VALUE:
+                LocalDate localDate = LocalDate.ofEpochDay(input.readLong());
+                return LocalDateTime.of(localDate, LocalTime.ofNanoOfDay(input.readLong()));
+            case PLACEHOLDER_POSITION_VALUE:
+                return new PlaceholderPosition();
+            case FINISHED_POSITION_VALUE:
+                return new FinishedPosition();
+            case PRIMARY_KEY_POSITION_VALUE:
+                return PrimaryKeyPositionFactory.newInstance(readString(input));
+            case SERIALIZABLE_VALUE:
+                return deserialize(readBytes(input));
+            case DIALECT_POSITION_VALUE:
+                return PipelineTypedSPILoader.getDatabaseTypedService(PositionInitializer.class, databaseType).init(readString(input));
+            default:
+                throw new IllegalStateException("Unknown value type: " + valueType);
+        }
+    }
+    
+    @SneakyThrows(ClassNotFoundException.class)
+    private Object deserialize(final byte[] bytes) throws IOException {
+        try (ObjectInputStream objectInput = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return objectInput.readObject();
+        }
+    }
+    
+    private void writeString(final DataOutputStream output, final String value) throws IOException {
+        writeBytes(output, value.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private String readString(final DataInputStream input) throws IOException {
+        return new String(readBytes(input), StandardCharsets.UTF_8);
+    }
+    
+    private void writeBytes(final DataOutputStream output, final byte[] value) throws IOException {
+        writeVarInt(output, value.length);
+        output.write(value);
+    }
+    
+    private byte[] readBytes(final DataInputStream input) throws IOException {
+        byte[] result = new byte[readVarInt(input)];
+        input.readFully(result);
+        return result;
+    }
+    
+    private void writeVarInt(final DataOutputStream output, final int value) throws IOException {
+        int remaining = value;
+        while (0 != (remaining & ~0x7F)) {
+            output.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        output.writeByte(remaining);
+    }
+    
+    private int readVarInt(final DataInputStream input) throws IOException {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte each = input.readByte();
+            result |= (each & 0x7F) << shift;
+            if (0 == (each & 0x80)) {
+                return result;
+            }
+        }
+        throw new IllegalStateException("Malformed variable length integer");
+    }
+}
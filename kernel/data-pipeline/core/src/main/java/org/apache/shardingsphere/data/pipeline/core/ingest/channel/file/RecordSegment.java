@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.file;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Record segment, an append-only memory-mapped file of length-prefixed entries.
+ * 
+ * <p>Mapped buffer is unmapped on close, so it must not be accessed after closed.</p>
+ */
+@Slf4j
+final class RecordSegment implements AutoCloseable {
+    
+    @Getter
+    private final long id;
+    
+    private final Path file;
+    
+    private final FileChannel fileChannel;
+    
+    private final MappedByteBuffer buffer;
+    
+    private int writePosition;
+    
+    private int readPosition;
+    
+    RecordSegment(final long id, final Path file, final int capacity) throws IOException {
+        this.id = id;
+        this.file = file;
+        fileChannel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = fileChannel.map(MapMode.READ_WRITE, 0, capacity);
+    }
+    
+    /**
+     * Append entry.
+     *
+     * @param entry entry
+     * @return appended or not, false if there is no enough space left
+     */
+    boolean append(final byte[] entry) {
+        if (Integer.BYTES + entry.length > buffer.capacity() - writePosition) {
+            return false;
+        }
+        ByteBuffer writeBuffer = buffer.duplicate();
+        writeBuffer.position(writePosition);
+        writeBuffer.putInt(entry.length);
+        writeBuffer.put(entry);
+        writePosition = writeBuffer.position();
+        return true;
+    }
+    
+    /**
+     * Whether has unread entry.
+     *
+     * @return has unread entry or not
+     */
+    boolean hasUnread() {
+        return readPosition < writePosition;
+    }
+    
+    /**
+     * Read next entry.
+     *
+     * @return entry
+     */
+    byte[] read() {
+        ByteBuffer readBuffer = buffer.duplicate();
+        readBuffer.position(readPosition);
+        byte[] result = new byte[readBuffer.getInt()];
+        readBuffer.get(result);
+        readPosition = readBuffer.position();
+        return result;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        unmap(buffer);
+        fileChannel.close();
+        Files.deleteIfExists(file);
+    }
+    
+    private static void unmap(final MappedByteBuffer buffer) {
+        try {
+            invokeCleaner(buffer);
+            // CHECKSTYLE:OFF
+        } catch (final ReflectiveOperationException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.warn("Unmap segment buffer failed, it will be released by GC", ex);
+        }
+    }
+    
+    private static void invokeCleaner(final MappedByteBuffer buffer) throws ReflectiveOperationException {
+        Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+        Method invokeCleaner;
+        try {
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (final NoSuchMethodException ignored) {
+            Method cleaner = buffer.getClass().getMethod("cleaner");
+            cleaner.setAccessible(true);
+            Object bufferCleaner = cleaner.invoke(buffer);
+            bufferCleaner.getClass().getMethod("clean").invoke(bufferCleaner);
+            return;
+        }
+        Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+        theUnsafe.setAccessible(true);
+        invokeCleaner.invoke(theUnsafe.get(null), buffer);
+    }
+}
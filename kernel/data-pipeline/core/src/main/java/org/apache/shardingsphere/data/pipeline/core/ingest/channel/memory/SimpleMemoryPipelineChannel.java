@@ -22,12 +22,14 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Simple memory pipeline channel.
@@ -38,6 +40,8 @@ public final class SimpleMemoryPipelineChannel implements PipelineChannel {
     
     private final AckCallback ackCallback;
     
+    private final Lock fetchLock = new ReentrantLock();
+    
     public SimpleMemoryPipelineChannel(final int blockQueueSize, final AckCallback ackCallback) {
         this.queue = new ArrayBlockingQueue<>(blockQueueSize);
         this.ackCallback = ackCallback;
@@ -50,26 +54,26 @@ public final class SimpleMemoryPipelineChannel implements PipelineChannel {
     }
     
     @SneakyThrows(InterruptedException.class)
-    // TODO thread-safe?
     @Override
     public List<Record> fetchRecords(final int batchSize, final long timeout, final TimeUnit timeUnit) {
-        List<Record> result = new LinkedList<>();
-        long startMillis = System.currentTimeMillis();
-        long timeoutMillis = timeUnit.toMillis(timeout);
-        int recordsCount = 0;
-        do {
-            List<Record> records = queue.poll();
-            if (null == records || records.isEmpty()) {
-                TimeUnit.MILLISECONDS.sleep(Math.min(100, timeoutMillis));
-            } else {
-                recordsCount += records.size();
+        long deadlineNanos = System.nanoTime() + timeUnit.toNanos(timeout);
+        if (!fetchLock.tryLock(timeout, timeUnit)) {
+            return Collections.emptyList();
+        }
+        try {
+            List<Record> result = new ArrayList<>();
+            while (result.size() < batchSize) {
+                long remainingNanos = deadlineNanos - System.nanoTime();
+                List<Record> records = remainingNanos > 0L ? queue.poll(remainingNanos, TimeUnit.NANOSECONDS) : queue.poll();
+                if (null == records) {
+                    break;
+                }
                 result.addAll(records);
             }
-            if (recordsCount >= batchSize) {
-                break;
-            }
-        } while (System.currentTimeMillis() - startMillis < timeoutMillis);
-        return result;
+            return result;
+        } finally {
+            fetchLock.unlock();
+        }
     }
     
     @Override
@@ -81,9 +81,11 @@ public final class PipelineTaskUtils {
      * @param concurrency output concurrency
      * @param pipelineChannelCreator channel creator
      * @param progress incremental task progress
+     * @param databaseType database type of incremental positions
      * @return channel
      */
-    public static PipelineChannel createIncrementalChannel(final int concurrency, final PipelineChannelCreator pipelineChannelCreator, final IncrementalTaskProgress progress) {
-        return pipelineChannelCreator.createPipelineChannel(concurrency, 5, records -> AckCallbacks.incrementalCallback(records, progress));
+    public static PipelineChannel createIncrementalChannel(final int concurrency, final PipelineChannelCreator pipelineChannelCreator,
+                                                           final IncrementalTaskProgress progress, final String databaseType) {
+        return pipelineChannelCreator.createPipelineChannel(concurrency, 5, records -> AckCallbacks.incrementalCallback(records, progress), databaseType);
     }
 }
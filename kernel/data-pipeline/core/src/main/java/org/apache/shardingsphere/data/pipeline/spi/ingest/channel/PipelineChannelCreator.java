@@ -35,4 +35,17 @@ public interface PipelineChannelCreator extends TypedSPI {
      * @return {@link PipelineChannel}
      */
     PipelineChannel createPipelineChannel(int outputConcurrency, int averageElementSize, AckCallback ackCallback);
+    
+    /**
+     * Create pipeline channel for records with positions of specified database type.
+     *
+     * @param outputConcurrency output concurrency
+     * @param averageElementSize average element size, affect the size of the queue
+     * @param ackCallback ack callback
+     * @param databaseType database type of record positions
+     * @return {@link PipelineChannel}
+     */
+    default PipelineChannel createPipelineChannel(int outputConcurrency, int averageElementSize, AckCallback ackCallback, String databaseType) {
+        return createPipelineChannel(outputConcurrency, averageElementSize, ackCallback);
+    }
 }
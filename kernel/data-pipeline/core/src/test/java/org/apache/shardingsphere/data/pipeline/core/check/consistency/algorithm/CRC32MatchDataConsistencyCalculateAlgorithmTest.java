@@ -22,6 +22,9 @@ import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsist
 import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
 import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -37,6 +40,7 @@ import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -68,6 +72,9 @@ class CRC32MatchDataConsistencyCalculateAlgorithmTest {
     
     @Test
     void assertCalculateSuccess() throws SQLException {
+        PipelineColumnMetaData uniqueKey = new PipelineColumnMetaData(1, "name", Types.VARCHAR, "varchar", false, true, true);
+        parameter = new DataConsistencyCalculateParameter(pipelineDataSource, null,
+                "foo_tbl", Arrays.asList("foo_col", "bar_col"), "FIXTURE", "FIXTURE", uniqueKey, Collections.emptyMap());
         PreparedStatement preparedStatement0 = mockPreparedStatement(123L, 10);
         when(connection.prepareStatement("SELECT CRC32(foo_col) FROM foo_tbl")).thenReturn(preparedStatement0);
         PreparedStatement preparedStatement1 = mockPreparedStatement(456L, 10);
@@ -77,6 +84,72 @@ class CRC32MatchDataConsistencyCalculateAlgorithmTest {
         assertFalse(actual.hasNext());
     }
     
+    @Test
+    void assertCalculateByUniqueKeyRanges() throws Exception {
+        mockRangeQueries(pipelineDataSource, connection, 5L, 25L, 30L);
+        CRC32MatchDataConsistencyCalculateAlgorithm algorithm = new CRC32MatchDataConsistencyCalculateAlgorithm();
+        algorithm.init(PropertiesBuilder.build(new Property("chunk-size", "10"), new Property("concurrency", "2")));
+        Iterator<DataConsistencyCalculatedResult> actual = algorithm.calculate(parameter).iterator();
+        try {
+            assertThat(actual.next().getMaxUniqueKeyValue(), is(Optional.of(11L)));
+            assertThat(actual.next().getMaxUniqueKeyValue(), is(Optional.of(18L)));
+            DataConsistencyCalculatedResult last = actual.next();
+            assertThat(last.getRecordsCount(), is(10));
+            assertThat(last.getMaxUniqueKeyValue(), is(Optional.of(25L)));
+            assertFalse(actual.hasNext());
+        } finally {
+            parameter.getCalculationContext().close();
+            algorithm.cancel();
+        }
+    }
+    
+    @Test
+    void assertCalculateByUniqueKeyRangesSharedWithPeer() throws Exception {
+        mockRangeQueries(pipelineDataSource, connection, 5L, 25L, 30L);
+        PipelineDataSourceWrapper peerDataSource = mock(PipelineDataSourceWrapper.class);
+        Connection peerConnection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(peerDataSource.getConnection()).thenReturn(peerConnection);
+        mockRangeQueries(peerDataSource, peerConnection, 1L, 30L, 20L);
+        DataConsistencyCalculateParameter peerParameter = new DataConsistencyCalculateParameter(peerDataSource, null,
+                "foo_tbl", Arrays.asList("foo_col", "bar_col"), "FIXTURE", "FIXTURE", parameter.getUniqueKey(), Collections.emptyMap());
+        parameter.bindPeerParameter(peerParameter);
+        CRC32MatchDataConsistencyCalculateAlgorithm algorithm = new CRC32MatchDataConsistencyCalculateAlgorithm();
+        algorithm.init(PropertiesBuilder.build(new Property("chunk-size", "10")));
+        Iterator<DataConsistencyCalculatedResult> actual = algorithm.calculate(parameter).iterator();
+        Iterator<DataConsistencyCalculatedResult> actualPeer = algorithm.calculate(peerParameter).iterator();
+        try {
+            for (long each : new long[]{10L, 20L, 30L}) {
+                assertThat(actual.next().getMaxUniqueKeyValue(), is(Optional.of(each)));
+                assertThat(actualPeer.next().getMaxUniqueKeyValue(), is(Optional.of(each)));
+            }
+            assertFalse(actual.hasNext());
+            assertFalse(actualPeer.hasNext());
+        } finally {
+            parameter.getCalculationContext().close();
+            peerParameter.getCalculationContext().close();
+            algorithm.cancel();
+        }
+    }
+    
+    private void mockRangeQueries(final PipelineDataSourceWrapper dataSource, final Connection connection, final long minimum, final long maximum, final long recordsCount) throws SQLException {
+        DatabaseType databaseType = mock(DatabaseType.class);
+        when(databaseType.getType()).thenReturn("FIXTURE");
+        when(dataSource.getDatabaseType()).thenReturn(databaseType);
+        ResultSet minMaxResultSet = mock(ResultSet.class);
+        when(minMaxResultSet.next()).thenReturn(true);
+        when(minMaxResultSet.getObject(1)).thenReturn(minimum);
+        when(minMaxResultSet.getLong(1)).thenReturn(minimum);
+        when(minMaxResultSet.getLong(2)).thenReturn(maximum);
+        ResultSet countResultSet = mock(ResultSet.class);
+        when(countResultSet.getLong(1)).thenReturn(recordsCount);
+        when(connection.prepareStatement("").executeQuery()).thenReturn(minMaxResultSet, countResultSet);
+        ResultSet rangeResultSet = mock(ResultSet.class);
+        when(rangeResultSet.getLong(1)).thenReturn(123L);
+        when(rangeResultSet.getLong(2)).thenReturn(456L);
+        when(rangeResultSet.getInt(3)).thenReturn(10);
+        when(connection.prepareStatement("SELECT CRC32(foo_col,bar_col) FROM foo_tbl WHERE id>=? AND id<=?").executeQuery()).thenReturn(rangeResultSet);
+    }
+    
     private PreparedStatement mockPreparedStatement(final long expectedCRC32Result, final int expectedRecordsCount) throws SQLException {
         ResultSet resultSet = mock(ResultSet.class);
         PreparedStatement result = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class DataRecordPartitionerTest {
+    
+    @Test
+    void assertPartitionEmptyRecords() {
+        assertThat(new DataRecordPartitioner(4, 1).partition(Collections.emptyList()).size(), is(0));
+    }
+    
+    @Test
+    void assertPartitionLessThanMinPartitionSize() {
+        List<DataRecord> dataRecords = Arrays.asList(mockDataRecord(IngestDataChangeType.INSERT, null, 1), mockDataRecord(IngestDataChangeType.INSERT, null, 2));
+        List<List<DataRecord>> actual = new DataRecordPartitioner(4, 64).partition(dataRecords);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0), is(dataRecords));
+    }
+    
+    @Test
+    void assertPartitionKeepOrderOfSameKey() {
+        List<DataRecord> dataRecords = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            dataRecords.add(mockDataRecord(IngestDataChangeType.INSERT, null, i));
+            dataRecords.add(mockDataRecord(IngestDataChangeType.UPDATE, null, i));
+            dataRecords.add(mockDataRecord(IngestDataChangeType.DELETE, i, i));
+        }
+        List<List<DataRecord>> actual = new DataRecordPartitioner(4, 1).partition(dataRecords);
+        assertThat(actual.size(), is(4));
+        assertThat(actual.stream().mapToInt(List::size).sum(), is(300));
+        for (List<DataRecord> each : actual) {
+            for (int i = 0; i < each.size(); i += 3) {
+                assertThat(each.get(i).getType(), is(IngestDataChangeType.INSERT));
+                assertThat(each.get(i + 1).getType(), is(IngestDataChangeType.UPDATE));
+                assertThat(each.get(i + 2).getType(), is(IngestDataChangeType.DELETE));
+                assertThat(each.get(i + 2).getOldKey(), is(each.get(i).getKey()));
+            }
+        }
+    }
+    
+    @Test
+    void assertPartitionWithUniqueKeyUpdated() {
+        List<DataRecord> dataRecords = Arrays.asList(mockDataRecord(IngestDataChangeType.UPDATE, 1, 2), mockDataRecord(IngestDataChangeType.UPDATE, null, 1));
+        List<List<DataRecord>> actual = new DataRecordPartitioner(4, 1).partition(dataRecords);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0), is(dataRecords));
+    }
+    
+    private DataRecord mockDataRecord(final String type, final Integer oldId, final int id) {
+        DataRecord result = new DataRecord(type, "order", new PlaceholderPosition(), 2);
+        result.addColumn(new Column("id", oldId, id, null != oldId, true));
+        result.addColumn(new Column("user_id", id, true, false));
+        return result;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.file;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory.MultiplexMemoryPipelineChannel;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelCreator;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+
+class FilePipelineChannelCreatorTest {
+    
+    @TempDir
+    private Path tempDir;
+    
+    @Test
+    void assertCreateFilePipelineChannel() {
+        PipelineChannel actual = createPipelineChannelCreator().createPipelineChannel(1, 1, mock(AckCallback.class));
+        assertThat(actual, instanceOf(FilePipelineChannel.class));
+        actual.close();
+    }
+    
+    @Test
+    void assertCreateMultiplexPipelineChannel() {
+        PipelineChannel actual = createPipelineChannelCreator().createPipelineChannel(2, 1, mock(AckCallback.class));
+        assertThat(actual, instanceOf(MultiplexMemoryPipelineChannel.class));
+        actual.close();
+    }
+    
+    @Test
+    void assertDeleteStaleProcessDirectories() throws IOException {
+        Path staleDirectory = Files.createDirectories(tempDir.resolve("process-stale"));
+        Files.createFile(staleDirectory.resolve(".lock"));
+        Files.createDirectories(staleDirectory.resolve("channel-stale"));
+        PipelineChannel actual = createPipelineChannelCreator().createPipelineChannel(1, 1, mock(AckCallback.class));
+        assertFalse(Files.exists(staleDirectory));
+        actual.close();
+    }
+    
+    private PipelineChannelCreator createPipelineChannelCreator() {
+        return TypedSPILoader.getService(PipelineChannelCreator.class, "FILE", PropertiesBuilder.build(new Property("path", tempDir.toString()), new Property("segment-size", "1024")));
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.file;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class FilePipelineChannelTest {
+    
+    @TempDir
+    private Path tempDir;
+    
+    @Test
+    void assertFetchRecordsWakeUpWhenBatchSizeReached() throws IOException {
+        FilePipelineChannel channel = new FilePipelineChannel(tempDir.resolve("channel"), 1024, new EmptyAckCallback());
+        Record record = new PlaceholderRecord(new PlaceholderPosition());
+        CompletableFuture.runAsync(() -> {
+            channel.pushRecords(Collections.singletonList(record));
+            channel.pushRecords(Arrays.asList(record, record));
+        });
+        long startMills = System.currentTimeMillis();
+        List<Record> actual = channel.fetchRecords(3, 10, TimeUnit.SECONDS);
+        assertTrue(System.currentTimeMillis() - startMills < 5000L);
+        assertThat(actual.size(), is(3));
+        channel.close();
+    }
+    
+    @Test
+    void assertFetchRecordsTimeout() throws IOException {
+        FilePipelineChannel channel = new FilePipelineChannel(tempDir.resolve("channel"), 1024, new EmptyAckCallback());
+        assertTrue(channel.fetchRecords(1, 10, TimeUnit.MILLISECONDS).isEmpty());
+        channel.close();
+    }
+    
+    @Test
+    void assertPeekAndPollRecords() throws IOException {
+        FilePipelineChannel channel = new FilePipelineChannel(tempDir.resolve("channel"), 1024, new EmptyAckCallback());
+        channel.pushRecords(Collections.singletonList(createDataRecord(1)));
+        channel.pushRecords(Collections.singletonList(createDataRecord(2)));
+        List<Record> peeked = channel.peekRecords();
+        assertThat(peeked, sameInstance(channel.peekRecords()));
+        assertThat(channel.pollRecords(), sameInstance(peeked));
+        assertThat(((DataRecord) channel.pollRecords().get(0)).getColumn(0).getValue(), is(2));
+        assertTrue(channel.pollRecords().isEmpty());
+        channel.close();
+    }
+    
+    @Test
+    void assertSegmentsTruncatedAfterAck() throws IOException {
+        AckCallback ackCallback = mock(AckCallback.class);
+        Path directory = tempDir.resolve("channel");
+        FilePipelineChannel channel = new FilePipelineChannel(directory, 256, ackCallback);
+        for (int i = 0; i < 20; i++) {
+            channel.pushRecords(Collections.singletonList(createDataRecord(i)));
+        }
+        assertTrue(countSegments(directory) > 1L);
+        List<Record> actual = channel.fetchRecords(20, 0, TimeUnit.MILLISECONDS);
+        assertThat(actual.size(), is(20));
+        for (int i = 0; i < 20; i++) {
+            assertThat(((DataRecord) actual.get(i)).getColumn(0).getValue(), is(i));
+        }
+        channel.ack(actual);
+        verify(ackCallback).onAck(actual);
+        assertThat(countSegments(directory), is(1L));
+        channel.close();
+        assertFalse(Files.exists(directory));
+    }
+    
+    @Test
+    void assertSegmentsTruncatedAfterAckWithoutPlaceholderRecords() throws IOException {
+        Path directory = tempDir.resolve("channel");
+        FilePipelineChannel channel = new FilePipelineChannel(directory, 256, new EmptyAckCallback());
+        for (int i = 0; i < 20; i++) {
+            channel.pushRecords(Arrays.asList(createDataRecord(i), new PlaceholderRecord(new PlaceholderPosition())));
+        }
+        assertTrue(countSegments(directory) > 1L);
+        List<Record> actual = channel.fetchRecords(40, 0, TimeUnit.MILLISECONDS);
+        assertThat(actual.size(), is(40));
+        channel.ack(actual.stream().filter(each -> !(each instanceof PlaceholderRecord)).collect(Collectors.toList()));
+        assertThat(countSegments(directory), is(1L));
+        channel.close();
+    }
+    
+    @Test
+    void assertSegmentsTruncatedForPlaceholderOnlyFetches() throws IOException {
+        Path directory = tempDir.resolve("channel");
+        FilePipelineChannel channel = new FilePipelineChannel(directory, 256, new EmptyAckCallback());
+        for (int i = 0; i < 20; i++) {
+            channel.pushRecords(Collections.singletonList(new PlaceholderRecord(new PlaceholderPosition())));
+        }
+        assertTrue(countSegments(directory) > 1L);
+        assertThat(channel.fetchRecords(20, 0, TimeUnit.MILLISECONDS).size(), is(20));
+        assertThat(countSegments(directory), is(1L));
+        channel.close();
+    }
+    
+    private DataRecord createDataRecord(final int id) {
+        DataRecord result = new DataRecord(IngestDataChangeType.INSERT, "t_order", new PlaceholderPosition(), 2);
+        result.addColumn(new Column("order_id", id, true, true));
+        result.addColumn(new Column("status", "OK", true, false));
+        return result;
+    }
+    
+    private long countSegments(final Path directory) throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.count();
+        }
+    }
+}
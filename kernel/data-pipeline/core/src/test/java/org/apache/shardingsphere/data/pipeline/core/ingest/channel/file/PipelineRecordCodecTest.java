@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.file;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.FinishedPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IntegerPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PipelineRecordCodecTest {
+    
+    private final PipelineRecordCodec codec = new PipelineRecordCodec();
+    
+    @Test
+    void assertEncodeAndDecode() {
+        DataRecord dataRecord = new DataRecord(IngestDataChangeType.UPDATE, "t_order", new IntegerPrimaryKeyPosition(1L, 100L), 4);
+        dataRecord.setCsn(10L);
+        dataRecord.setCommitTime(123L);
+        dataRecord.addColumn(new Column("order_id", 1L, 2L, true, true));
+        dataRecord.addColumn(new Column("amount", new BigDecimal("12.340"), true, false));
+        dataRecord.addColumn(new Column("created_time", Timestamp.valueOf("2023-01-01 10:00:00.123456789"), false, false));
+        dataRecord.addColumn(new Column("remark", null, false, false));
+        List<Record> actual = codec.decode(codec.encode(Arrays.asList(dataRecord, new FinishedRecord(new FinishedPosition()))));
+        assertThat(actual.size(), is(2));
+        DataRecord actualDataRecord = (DataRecord) actual.get(0);
+        assertThat(actualDataRecord.getType(), is(IngestDataChangeType.UPDATE));
+        assertThat(actualDataRecord.getTableName(), is("t_order"));
+        assertThat(actualDataRecord.getPosition().toString(), is("i,1,100"));
+        assertThat(actualDataRecord.getCsn(), is(10L));
+        assertThat(actualDataRecord.getCommitTime(), is(123L));
+        assertThat(actualDataRecord.getColumnCount(), is(4));
+        assertThat(actualDataRecord.getColumn(0).getOldValue(), is(1L));
+        assertThat(actualDataRecord.getColumn(0).getValue(), is(2L));
+        assertThat(actualDataRecord.getColumn(0).isUpdated(), is(true));
+        assertThat(actualDataRecord.getColumn(0).isUniqueKey(), is(true));
+        assertThat(actualDataRecord.getColumn(1).getValue(), is(new BigDecimal("12.340")));
+        assertThat(actualDataRecord.getColumn(2).getValue(), is(Timestamp.valueOf("2023-01-01 10:00:00.123456789")));
+        assertThat(actualDataRecord.getColumn(3).getValue(), nullValue());
+        assertThat(actualDataRecord.getKey(), is(dataRecord.getKey()));
+        assertThat(actual.get(1), instanceOf(FinishedRecord.class));
+        assertThat(actual.get(1).getPosition(), instanceOf(FinishedPosition.class));
+    }
+    
+    @Test
+    void assertEncodeAndDecodeSerializableValue() {
+        DataRecord dataRecord = new DataRecord(IngestDataChangeType.INSERT, "t_order", new PlaceholderPosition(), 1);
+        dataRecord.addColumn(new Column("created_time", LocalDateTime.of(2023, 1, 1, 10, 0), true, false));
+        DataRecord actual = (DataRecord) codec.decode(codec.encode(Collections.singletonList(dataRecord))).get(0);
+        assertThat(actual.getColumn(0).getValue(), is(LocalDateTime.of(2023, 1, 1, 10, 0)));
+    }
+    
+    @Test
+    void assertEncodeAndDecodeDialectPosition() {
+        PipelineRecordCodec dialectCodec = new PipelineRecordCodec("H2");
+        Record actual = dialectCodec.decode(dialectCodec.encode(Collections.singletonList(new PlaceholderRecord(new DialectPosition())))).get(0);
+        assertThat(actual.getPosition(), instanceOf(PlaceholderPosition.class));
+    }
+    
+    @Test
+    void assertEncodeDialectPositionWithoutDatabaseType() {
+        assertThrows(UnsupportedOperationException.class, () -> codec.encode(Collections.singletonList(new PlaceholderRecord(new DialectPosition()))));
+    }
+    
+    private static final class DialectPosition implements IngestPosition {
+    }
+}
@@ -17,11 +17,20 @@
 
 package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
 
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SimpleMemoryPipelineChannelTest {
@@ -38,4 +47,28 @@ class SimpleMemoryPipelineChannelTest {
         endMills = System.currentTimeMillis();
         assertTrue(endMills - startMills >= 500 && endMills - startMills < 600);
     }
+    
+    @Test
+    void assertFetchRecordsWakeUpWhenBatchSizeReached() {
+        SimpleMemoryPipelineChannel simpleMemoryPipelineChannel = new SimpleMemoryPipelineChannel(10, new EmptyAckCallback());
+        Record record = new PlaceholderRecord(new PlaceholderPosition());
+        CompletableFuture.runAsync(() -> {
+            simpleMemoryPipelineChannel.pushRecords(Collections.singletonList(record));
+            simpleMemoryPipelineChannel.pushRecords(Arrays.asList(record, record));
+        });
+        long startMills = System.currentTimeMillis();
+        List<Record> actual = simpleMemoryPipelineChannel.fetchRecords(3, 10, TimeUnit.SECONDS);
+        assertTrue(System.currentTimeMillis() - startMills < 5000L);
+        assertThat(actual.size(), is(3));
+    }
+    
+    @Test
+    void assertFetchRecordsWithAvailableRecordsAfterTimeout() {
+        SimpleMemoryPipelineChannel simpleMemoryPipelineChannel = new SimpleMemoryPipelineChannel(10, new EmptyAckCallback());
+        Record record = new PlaceholderRecord(new PlaceholderPosition());
+        simpleMemoryPipelineChannel.pushRecords(Collections.singletonList(record));
+        simpleMemoryPipelineChannel.pushRecords(Collections.singletonList(record));
+        assertThat(simpleMemoryPipelineChannel.fetchRecords(10, 0, TimeUnit.MILLISECONDS).size(), is(2));
+        assertTrue(simpleMemoryPipelineChannel.pollRecords().isEmpty());
+    }
 }
@@ -98,6 +98,11 @@ public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
         return Optional.of(String.format("SELECT CRC32(%s) FROM %s", column, tableName));
     }
     
+    @Override
+    public Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final List<String> columnNames, final String uniqueKey) {
+        return Optional.of(String.format("SELECT CRC32(%s) FROM %s WHERE %s>=? AND %s<=?", String.join(",", columnNames), tableName, uniqueKey, uniqueKey));
+    }
+    
     @Override
     public String buildNoUniqueKeyInventoryDumpSQL(final String schemaName, final String tableName) {
         return "";
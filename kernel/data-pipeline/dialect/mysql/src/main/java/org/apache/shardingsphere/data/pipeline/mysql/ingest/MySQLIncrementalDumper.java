@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.data.pipeline.mysql.ingest;
 
 import com.google.common.base.Preconditions;
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.StandardPipelineDataSourceConfiguration;
@@ -35,6 +36,7 @@ import org.apache.shardingsphere.data.pipeline.api.metadata.ColumnName;
 import org.apache.shardingsphere.data.pipeline.api.metadata.loader.PipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineTableMetaData;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalException;
 import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
 import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogPosition;
@@ -49,16 +51,24 @@ import org.apache.shardingsphere.data.pipeline.mysql.ingest.column.value.MySQLDa
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.value.string.MySQLBinaryString;
 import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
 
 import java.io.Serializable;
 import java.nio.charset.Charset;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * MySQL incremental dumper.
@@ -66,6 +76,8 @@ import java.util.Set;
 @Slf4j
 public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor implements IncrementalDumper {
     
+    private static final Map<String, Optional<MySQLDataTypeHandler>> DATA_TYPE_HANDLERS = new ConcurrentHashMap<>();
+    
     private final DumperConfiguration dumperConfig;
     
     private final BinlogPosition binlogPosition;
@@ -78,6 +90,10 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
     
     private final String catalog;
     
+    private final Deque<Future<List<Record>>> pendingRecords = new LinkedList<>();
+    
+    private ExecutorService decodeExecutor;
+    
     public MySQLIncrementalDumper(final DumperConfiguration dumperConfig, final IngestPosition binlogPosition,
                                   final PipelineChannel channel, final PipelineTableMetaDataLoader metaDataLoader) {
         Preconditions.checkArgument(dumperConfig.getDataSourceConfig() instanceof StandardPipelineDataSourceConfiguration, "MySQLBinlogDumper only support StandardPipelineDataSourceConfiguration");
@@ -102,28 +118,65 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
     protected void runBlocking() {
         client.connect();
         client.subscribe(binlogPosition.getFilename(), binlogPosition.getPosition());
-        while (isRunning()) {
-            List<AbstractBinlogEvent> events = client.poll();
-            if (events.isEmpty()) {
-                continue;
+        if (dumperConfig.getDecodeConcurrency() > 1) {
+            decodeExecutor = Executors.newFixedThreadPool(dumperConfig.getDecodeConcurrency(), ExecutorThreadFactoryBuilder.build("binlog-decode-%d"));
+        }
+        try {
+            while (isRunning()) {
+                List<AbstractBinlogEvent> events = client.poll();
+                if (events.isEmpty()) {
+                    pushPendingRecords(0);
+                    continue;
+                }
+                handleEvents(events);
+            }
+        } finally {
+            if (null != decodeExecutor) {
+                decodeExecutor.shutdownNow();
             }
-            handleEvents(events);
         }
     }
     
     private void handleEvents(final List<AbstractBinlogEvent> events) {
-        List<Record> dataRecords = new LinkedList<>();
+        if (null == decodeExecutor) {
+            pushRecords(convertEvents(events));
+            return;
+        }
+        pendingRecords.addLast(decodeExecutor.submit(() -> convertEvents(events)));
+        pushPendingRecords(dumperConfig.getDecodeConcurrency() * 2);
+    }
+    
+    private void pushPendingRecords(final int maxPendingCount) {
+        while (!pendingRecords.isEmpty() && (pendingRecords.size() > maxPendingCount || pendingRecords.peekFirst().isDone())) {
+            pushRecords(getRecords(pendingRecords.pollFirst()));
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private List<Record> getRecords(final Future<List<Record>> future) {
+        try {
+            return future.get();
+        } catch (final ExecutionException ex) {
+            throw new PipelineInternalException(ex.getCause());
+        }
+    }
+    
+    private void pushRecords(final List<Record> records) {
+        if (!records.isEmpty()) {
+            channel.pushRecords(records);
+        }
+    }
+    
+    private List<Record> convertEvents(final List<AbstractBinlogEvent> events) {
+        List<Record> result = new LinkedList<>();
         for (AbstractBinlogEvent each : events) {
             if (!(each instanceof AbstractRowsEvent)) {
-                dataRecords.add(createPlaceholderRecord(each));
+                result.add(createPlaceholderRecord(each));
                 continue;
             }
-            dataRecords.addAll(handleEvent(each));
-        }
-        if (dataRecords.isEmpty()) {
-            return;
+            result.addAll(handleEvent(each));
         }
-        channel.pushRecords(dataRecords);
+        return result;
     }
     
     private List<? extends Record> handleEvent(final AbstractBinlogEvent event) {
@@ -226,10 +279,16 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
             }
             return new String(((MySQLBinaryString) value).getBytes(), Charset.defaultCharset());
         }
-        Optional<MySQLDataTypeHandler> dataTypeHandler = TypedSPILoader.findService(MySQLDataTypeHandler.class, columnMetaData.getDataTypeName());
+        Optional<MySQLDataTypeHandler> dataTypeHandler = findDataTypeHandler(columnMetaData.getDataTypeName());
         return dataTypeHandler.isPresent() ? dataTypeHandler.get().handle(value) : value;
     }
     
+    private Optional<MySQLDataTypeHandler> findDataTypeHandler(final String dataTypeName) {
+        return null == dataTypeName
+                ? TypedSPILoader.findService(MySQLDataTypeHandler.class, null)
+                : DATA_TYPE_HANDLERS.computeIfAbsent(dataTypeName, key -> TypedSPILoader.findService(MySQLDataTypeHandler.class, key));
+    }
+    
     private DataRecord createDataRecord(final String type, final AbstractRowsEvent rowsEvent, final int columnCount) {
         String tableName = dumperConfig.getLogicTableName(rowsEvent.getTableName()).getOriginal();
         IngestPosition position = new BinlogPosition(rowsEvent.getFileName(), rowsEvent.getPosition(), rowsEvent.getServerId());
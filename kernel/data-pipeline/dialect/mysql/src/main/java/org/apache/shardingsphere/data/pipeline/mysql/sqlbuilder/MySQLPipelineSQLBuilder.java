@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineS
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -91,6 +92,16 @@ public final class MySQLPipelineSQLBuilder extends AbstractPipelineSQLBuilder {
         return Optional.of(String.format("SELECT BIT_XOR(CAST(CRC32(%s) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM %s", quote(column), quote(tableName)));
     }
     
+    @Override
+    public Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final List<String> columnNames, final String uniqueKey) {
+        StringBuilder checksums = new StringBuilder();
+        for (String each : columnNames) {
+            checksums.append(String.format("BIT_XOR(CAST(CRC32(%s) AS UNSIGNED)),", quote(each)));
+        }
+        String quotedUniqueKey = quote(uniqueKey);
+        return Optional.of(String.format("SELECT %s COUNT(1) AS cnt FROM %s WHERE %s>=? AND %s<=?", checksums, quote(tableName), quotedUniqueKey, quotedUniqueKey));
+    }
+    
     @Override
     public Optional<String> buildEstimatedCountSQL(final String schemaName, final String tableName) {
         return Optional.of(String.format("SELECT TABLE_ROWS FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_NAME = '%s'",
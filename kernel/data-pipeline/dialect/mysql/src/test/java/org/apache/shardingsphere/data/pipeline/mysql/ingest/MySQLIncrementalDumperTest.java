@@ -61,6 +61,9 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -84,13 +87,15 @@ class MySQLIncrementalDumperTest {
     
     private PipelineTableMetaData pipelineTableMetaData;
     
+    private SimpleMemoryPipelineChannel channel;
+    
     @BeforeEach
     void setUp() {
         dumperConfig = mockDumperConfiguration();
         initTableData(dumperConfig);
         dumperConfig.setDataSourceConfig(new StandardPipelineDataSourceConfiguration("mock:mysql://127.0.0.1:3306/test", "root", "root"));
         PipelineTableMetaDataLoader metaDataLoader = mock(PipelineTableMetaDataLoader.class);
-        SimpleMemoryPipelineChannel channel = new SimpleMemoryPipelineChannel(10000, new EmptyAckCallback());
+        channel = new SimpleMemoryPipelineChannel(10000, new EmptyAckCallback());
         incrementalDumper = new MySQLIncrementalDumper(dumperConfig, new BinlogPosition("binlog-000001", 4L, 0L), channel, metaDataLoader);
         pipelineTableMetaData = new PipelineTableMetaData("t_order", mockOrderColumnsMetaDataMap(), Collections.emptyList());
         when(metaDataLoader.getTableMetaData(any(), any())).thenReturn(pipelineTableMetaData);
@@ -229,4 +234,35 @@ class MySQLIncrementalDumperTest {
         assertThat(actual.size(), is(1));
         assertThat(actual.get(0), instanceOf(DataRecord.class));
     }
+    
+    @Test
+    void assertHandleEventsInParallel() throws ReflectiveOperationException {
+        dumperConfig.setDecodeConcurrency(4);
+        ExecutorService decodeExecutor = Executors.newFixedThreadPool(4);
+        Plugins.getMemberAccessor().set(MySQLIncrementalDumper.class.getDeclaredField("decodeExecutor"), incrementalDumper, decodeExecutor);
+        Method handleEventsMethod = MySQLIncrementalDumper.class.getDeclaredMethod("handleEvents", List.class);
+        try {
+            for (int i = 0; i < 100; i++) {
+                Plugins.getMemberAccessor().invoke(handleEventsMethod, incrementalDumper, Collections.singletonList(mockWriteRowsEvent(i)));
+            }
+            Plugins.getMemberAccessor().invoke(MySQLIncrementalDumper.class.getDeclaredMethod("pushPendingRecords", int.class), incrementalDumper, 0);
+        } finally {
+            decodeExecutor.shutdownNow();
+        }
+        List<Record> actual = channel.fetchRecords(100, 0L, TimeUnit.SECONDS);
+        assertThat(actual.size(), is(100));
+        for (int i = 0; i < actual.size(); i++) {
+            assertThat(((BinlogPosition) actual.get(i).getPosition()).getPosition(), is((long) i));
+        }
+    }
+    
+    private WriteRowsEvent mockWriteRowsEvent(final long position) {
+        WriteRowsEvent result = new WriteRowsEvent();
+        result.setFileName("binlog-000001");
+        result.setPosition(position);
+        result.setDatabaseName("test");
+        result.setTableName("t_order");
+        result.setAfterRows(Collections.singletonList(new Serializable[]{101, 1, "OK"}));
+        return result;
+    }
 }
@@ -92,6 +92,14 @@ public final class MigrationJobItemContext implements InventoryIncrementalJobIte
         }
     };
     
+    private final LazyInitializer<PipelineSink> sinkLazyInitializer = new LazyInitializer<PipelineSink>() {
+        
+        @Override
+        protected PipelineSink initialize() {
+            return new PipelineDataSourceSink(taskConfig.getImporterConfig(), dataSourceManager);
+        }
+    };
+    
     public MigrationJobItemContext(final MigrationJobConfiguration jobConfig, final int shardingItem, final InventoryIncrementalJobItemProgress initProgress,
                                    final MigrationProcessContext jobProcessContext, final MigrationTaskConfiguration taskConfig, final PipelineDataSourceManager dataSourceManager) {
         this.jobConfig = jobConfig;
@@ -125,8 +133,9 @@ public final class MigrationJobItemContext implements InventoryIncrementalJobIte
     }
     
     @Override
+    @SneakyThrows(ConcurrentException.class)
     public PipelineSink getSink() {
-        return new PipelineDataSourceSink(taskConfig.getImporterConfig(), dataSourceManager);
+        return sinkLazyInitializer.get();
     }
     
     /**
@@ -23,4 +23,15 @@ import org.apache.shardingsphere.globalclock.core.provider.GlobalClockProvider;
  * Hybrid logical clock provider.
  */
 public interface HLCProvider extends GlobalClockProvider {
+    
+    /**
+     * Merge timestamp received from peer or storage node into local clock.
+     * 
+     * <p>Global clock transaction hook only sends timestamps to storage nodes and never receives them, so nothing calls this yet.
+     * Callers which receive timestamps from other clocks must merge them here before issuing local timestamps.</p>
+     *
+     * @param receivedTimestamp received timestamp
+     * @return local timestamp after merged, which is greater than both received timestamp and previous local timestamp
+     */
+    long updateTimestamp(long receivedTimestamp);
 }
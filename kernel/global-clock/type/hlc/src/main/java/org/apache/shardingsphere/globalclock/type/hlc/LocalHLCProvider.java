@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.hlc;
+
+import com.google.common.base.Preconditions;
+
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Local hybrid logical clock provider.
+ * 
+ * <p>Timestamp is packed into one long: high 48 bits are physical milliseconds and low 16 bits are logical counter.
+ * Logical counter overflow carries into physical part, so packed timestamps can be compared and increased directly.</p>
+ * 
+ * <p>Without received timestamps merged by {@link #updateTimestamp(long)}, this clock only orders timestamps issued by local compute node.</p>
+ */
+public final class LocalHLCProvider implements HLCProvider {
+    
+    private static final int LOGICAL_BITS = 16;
+    
+    private final AtomicLong lastTimestamp = new AtomicLong();
+    
+    private final LongSupplier physicalClock;
+    
+    private long maxOffsetMilliseconds;
+    
+    public LocalHLCProvider() {
+        this(System::currentTimeMillis);
+    }
+    
+    LocalHLCProvider(final LongSupplier physicalClock) {
+        this.physicalClock = physicalClock;
+        maxOffsetMilliseconds = Long.parseLong(HLCPropertyKey.MAX_OFFSET_MILLISECONDS.getDefaultValue());
+    }
+    
+    @Override
+    public void init(final Properties props) {
+        String key = HLCPropertyKey.MAX_OFFSET_MILLISECONDS.getKey();
+        maxOffsetMilliseconds = Long.parseLong(props.containsKey(key) ? props.getProperty(key) : HLCPropertyKey.MAX_OFFSET_MILLISECONDS.getDefaultValue());
+    }
+    
+    @Override
+    public long getCurrentTimestamp() {
+        long physicalTimestamp = physicalClock.getAsLong() << LOGICAL_BITS;
+        return lastTimestamp.accumulateAndGet(physicalTimestamp, Math::max);
+    }
+    
+    @Override
+    public long getNextTimestamp() {
+        long physicalTimestamp = physicalClock.getAsLong() << LOGICAL_BITS;
+        return lastTimestamp.accumulateAndGet(physicalTimestamp, (last, physical) -> Math.max(last + 1L, physical));
+    }
+    
+    @Override
+    public long updateTimestamp(final long receivedTimestamp) {
+        long physicalMilliseconds = physicalClock.getAsLong();
+        Preconditions.checkState(getPhysicalMilliseconds(receivedTimestamp) - physicalMilliseconds <= maxOffsetMilliseconds,
+                "Received timestamp `%s` is ahead of local physical clock `%s` by more than %s milliseconds.", receivedTimestamp, physicalMilliseconds, maxOffsetMilliseconds);
+        long physicalTimestamp = physicalMilliseconds << LOGICAL_BITS;
+        return lastTimestamp.accumulateAndGet(physicalTimestamp, (last, physical) -> Math.max(Math.max(last, receivedTimestamp) + 1L, physical));
+    }
+    
+    /**
+     * Get physical milliseconds of hybrid logical timestamp.
+     *
+     * @param timestamp hybrid logical timestamp
+     * @return physical milliseconds
+     */
+    public static long getPhysicalMilliseconds(final long timestamp) {
+        return timestamp >>> LOGICAL_BITS;
+    }
+    
+    /**
+     * Get logical counter of hybrid logical timestamp.
+     *
+     * @param timestamp hybrid logical timestamp
+     * @return logical counter
+     */
+    public static long getLogicalCounter(final long timestamp) {
+        return timestamp & ((1L << LOGICAL_BITS) - 1L);
+    }
+    
+    @Override
+    public String getType() {
+        return "HLC.local";
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.hlc;
+
+import org.apache.shardingsphere.globalclock.core.provider.GlobalClockProvider;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalHLCProviderTest {
+    
+    @Test
+    void assertLoadService() {
+        assertThat(TypedSPILoader.getService(GlobalClockProvider.class, "HLC.local"), instanceOf(LocalHLCProvider.class));
+    }
+    
+    @Test
+    void assertGetNextTimestampWithinSameMillisecond() {
+        LocalHLCProvider provider = new LocalHLCProvider(() -> 1000L);
+        long actual = provider.getNextTimestamp();
+        assertThat(LocalHLCProvider.getPhysicalMilliseconds(actual), is(1000L));
+        assertThat(LocalHLCProvider.getLogicalCounter(actual), is(0L));
+        actual = provider.getNextTimestamp();
+        assertThat(LocalHLCProvider.getPhysicalMilliseconds(actual), is(1000L));
+        assertThat(LocalHLCProvider.getLogicalCounter(actual), is(1L));
+        assertThat(provider.getCurrentTimestamp(), is(actual));
+    }
+    
+    @Test
+    void assertGetNextTimestampWhenPhysicalClockGoesBack() {
+        AtomicLong physicalClock = new AtomicLong(1000L);
+        LocalHLCProvider provider = new LocalHLCProvider(physicalClock::get);
+        long lastTimestamp = provider.getNextTimestamp();
+        physicalClock.set(900L);
+        long actual = provider.getNextTimestamp();
+        assertTrue(actual > lastTimestamp);
+        assertThat(LocalHLCProvider.getPhysicalMilliseconds(actual), is(1000L));
+        physicalClock.set(1001L);
+        actual = provider.getNextTimestamp();
+        assertThat(LocalHLCProvider.getPhysicalMilliseconds(actual), is(1001L));
+        assertThat(LocalHLCProvider.getLogicalCounter(actual), is(0L));
+    }
+    
+    @Test
+    void assertUpdateTimestamp() {
+        LocalHLCProvider provider = new LocalHLCProvider(() -> 1000L);
+        long receivedTimestamp = (1100L << 16) + 5L;
+        long actual = provider.updateTimestamp(receivedTimestamp);
+        assertThat(LocalHLCProvider.getPhysicalMilliseconds(actual), is(1100L));
+        assertThat(LocalHLCProvider.getLogicalCounter(actual), is(6L));
+        assertTrue(provider.getNextTimestamp() > actual);
+    }
+    
+    @Test
+    void assertUpdateTimestampAheadOfLocalTimeMovesClockPastIt() {
+        AtomicLong physicalClock = new AtomicLong(1000L);
+        LocalHLCProvider provider = new LocalHLCProvider(physicalClock::get);
+        long receivedTimestamp = provider.getNextTimestamp() + (200L << 16);
+        provider.updateTimestamp(receivedTimestamp);
+        assertTrue(provider.getCurrentTimestamp() > receivedTimestamp);
+        physicalClock.set(1100L);
+        assertTrue(provider.getCurrentTimestamp() > receivedTimestamp);
+        assertTrue(provider.getNextTimestamp() > receivedTimestamp);
+    }
+    
+    @Test
+    void assertUpdateTimestampWithStaleReceivedTimestamp() {
+        LocalHLCProvider provider = new LocalHLCProvider(() -> 1000L);
+        long lastTimestamp = provider.getNextTimestamp();
+        assertThat(provider.updateTimestamp(1L), is(lastTimestamp + 1L));
+    }
+    
+    @Test
+    void assertUpdateTimestampWithClockSkewExceeded() {
+        LocalHLCProvider provider = new LocalHLCProvider(() -> 1000L);
+        Properties props = new Properties();
+        props.setProperty("maxOffsetMilliseconds", "10");
+        provider.init(props);
+        assertThrows(IllegalStateException.class, () -> provider.updateTimestamp(1011L << 16));
+        assertThat(LocalHLCProvider.getPhysicalMilliseconds(provider.updateTimestamp(1010L << 16)), is(1010L));
+    }
+    
+    @Test
+    void assertGetNextTimestampConcurrently() throws Exception {
+        LocalHLCProvider provider = new LocalHLCProvider();
+        Set<Long> actual = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            Collection<Future<?>> futures = new LinkedList<>();
+            for (int i = 0; i < 8; i++) {
+                boolean merge = 0 == i % 2;
+                futures.add(executorService.submit(() -> {
+                    long lastTimestamp = 0L;
+                    for (int j = 0; j < 10000; j++) {
+                        long timestamp = merge ? provider.updateTimestamp(lastTimestamp) : provider.getNextTimestamp();
+                        assertTrue(timestamp > lastTimestamp);
+                        assertTrue(actual.add(timestamp));
+                        lastTimestamp = timestamp;
+                    }
+                }));
+            }
+            for (Future<?> each : futures) {
+                each.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        assertThat(actual.size(), is(80000));
+    }
+}
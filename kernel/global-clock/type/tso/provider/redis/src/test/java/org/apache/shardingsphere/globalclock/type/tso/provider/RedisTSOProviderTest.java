@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.when;
+
+class RedisTSOProviderTest {
+    
+    private final AtomicReference<String> csn = new AtomicReference<>();
+    
+    private MockedConstruction<JedisPool> mockedJedisPool;
+    
+    @BeforeEach
+    void setUp() {
+        Jedis jedis = mock(Jedis.class);
+        when(jedis.get("csn")).thenAnswer(invocation -> csn.get());
+        when(jedis.set(anyString(), anyString())).thenAnswer(invocation -> {
+            csn.set(invocation.getArgument(1));
+            return "OK";
+        });
+        when(jedis.incr("csn")).thenAnswer(invocation -> {
+            long result = Long.parseLong(csn.get()) + 1L;
+            csn.set(String.valueOf(result));
+            return result;
+        });
+        mockedJedisPool = mockConstruction(JedisPool.class, (mock, context) -> when(mock.getResource()).thenReturn(jedis));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        mockedJedisPool.close();
+    }
+    
+    @Test
+    void assertInitCSN() {
+        RedisTSOProvider provider = new RedisTSOProvider();
+        provider.init(new Properties());
+        assertThat(provider.getCurrentTimestamp(), is((long) Integer.MAX_VALUE));
+    }
+    
+    @Test
+    void assertInitWithExistedCSN() {
+        csn.set("100");
+        RedisTSOProvider provider = new RedisTSOProvider();
+        provider.init(new Properties());
+        assertThat(provider.getCurrentTimestamp(), is(100L));
+    }
+    
+    @Test
+    void assertSnapshotAfterCommitSeesCommitCSN() {
+        RedisTSOProvider committer = new RedisTSOProvider();
+        committer.init(new Properties());
+        RedisTSOProvider reader = new RedisTSOProvider();
+        reader.init(new Properties());
+        for (int i = 0; i < 3; i++) {
+            long commitCSN = committer.getCurrentTimestamp();
+            committer.getNextTimestamp();
+            assertThat(reader.getCurrentTimestamp(), greaterThan(commitCSN));
+            assertThat(committer.getCurrentTimestamp(), greaterThan(commitCSN));
+        }
+    }
+}
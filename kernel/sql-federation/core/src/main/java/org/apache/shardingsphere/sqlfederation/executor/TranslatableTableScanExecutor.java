@@ -54,9 +54,6 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.JDBCMemoryQueryResult;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
@@ -76,6 +73,7 @@ import org.apache.shardingsphere.infra.util.exception.external.sql.type.wrapper.
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sqlfederation.executor.row.EmptyRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.executor.row.MemoryEnumerator;
+import org.apache.shardingsphere.sqlfederation.executor.row.SQLFederationRowEnumerable;
 import org.apache.shardingsphere.sqlfederation.executor.row.SQLFederationRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.executor.ScanNodeExecutorContext;
@@ -92,10 +90,12 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -126,6 +126,8 @@ public final class TranslatableTableScanExecutor implements TableScanExecutor {
     
     private final ProcessEngine processEngine = new ProcessEngine();
     
+    private final Map<Connection, SQLFederationRowEnumerator<?>> streamingEnumerators = new HashMap<>();
+    
     @Override
     public Enumerable<Object> executeScalar(final ShardingSphereTable table, final ScanNodeExecutorContext scanContext) {
         String databaseName = executorContext.getDatabaseName().toLowerCase();
@@ -143,7 +145,7 @@ public final class TranslatableTableScanExecutor implements TableScanExecutor {
             federationContext.getExecutionUnits().addAll(context.getExecutionUnits());
             return createEmptyScalarEnumerable();
         }
-        return executeScalarEnumerable(databaseType, queryContext, database, context);
+        return createScalarEnumerable(queryContext, database, context);
     }
     
     private AbstractEnumerable<Object> createEmptyScalarEnumerable() {
@@ -172,44 +174,9 @@ public final class TranslatableTableScanExecutor implements TableScanExecutor {
         };
     }
     
-    private AbstractEnumerable<Object> executeScalarEnumerable(final DatabaseType databaseType, final QueryContext queryContext,
-                                                               final ShardingSphereDatabase database, final ExecutionContext context) {
-        try {
-            ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext =
-                    prepareEngine.prepare(context.getRouteContext(), context.getExecutionUnits(), new ExecutionGroupReportContext(database.getName()));
-            setParameters(executionGroupContext.getInputGroups());
-            processEngine.executeSQL(executionGroupContext, context.getQueryContext());
-            List<QueryResult> queryResults = execute(executionGroupContext, databaseType);
-            MergeEngine mergeEngine = new MergeEngine(database, executorContext.getProps(), new ConnectionContext());
-            MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext.getSqlStatementContext());
-            Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
-            return createScalarEnumerable(mergedResult, statements);
-        } catch (final SQLException ex) {
-            throw new SQLWrapperException(ex);
-        } finally {
-            processEngine.completeSQLExecution();
-        }
-    }
-    
-    private AbstractEnumerable<Object> createScalarEnumerable(final MergedResult mergedResult, final Collection<Statement> statements) throws SQLException {
-        // TODO remove getRows when mergedResult support JDBC first method
-        Collection<Object> rows = getScalarRows(mergedResult);
-        return new AbstractEnumerable<Object>() {
-            
-            @Override
-            public Enumerator<Object> enumerator() {
-                return new SQLFederationRowEnumerator<>(rows, statements);
-            }
-        };
-    }
-    
-    private Collection<Object> getScalarRows(final MergedResult mergedResult) throws SQLException {
-        Collection<Object> result = new LinkedList<>();
-        while (mergedResult.next()) {
-            Object currentRow = mergedResult.getValue(1, Object.class);
-            result.add(currentRow);
-        }
-        return result;
+    private Enumerable<Object> createScalarEnumerable(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context) {
+        return new SQLFederationRowEnumerable<>(() -> executeEnumerator(queryContext, database, context,
+                (mergedResult, queryResults, statements, releaseListener) -> SQLFederationRowEnumerator.newScalarInstance(mergedResult, statements, releaseListener)));
     }
     
     @Override
@@ -229,20 +196,32 @@ public final class TranslatableTableScanExecutor implements TableScanExecutor {
             federationContext.getExecutionUnits().addAll(context.getExecutionUnits());
             return createEmptyEnumerable();
         }
-        return execute(databaseType, queryContext, database, context);
+        return createEnumerable(queryContext, database, context);
+    }
+    
+    private Enumerable<Object[]> createEnumerable(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context) {
+        return new SQLFederationRowEnumerable<>(() -> executeEnumerator(queryContext, database, context, (mergedResult, queryResults, statements, releaseListener) -> new SQLFederationRowEnumerator<>(
+                mergedResult, queryResults.get(0).getMetaData().getColumnCount(), statements, releaseListener)));
     }
     
-    private AbstractEnumerable<Object[]> execute(final DatabaseType databaseType, final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context) {
+    private <T> SQLFederationRowEnumerator<T> executeEnumerator(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context,
+                                                                final RowEnumeratorCreator<T> enumeratorCreator) {
         try {
             ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext =
                     prepareEngine.prepare(context.getRouteContext(), context.getExecutionUnits(), new ExecutionGroupReportContext(database.getName()));
             setParameters(executionGroupContext.getInputGroups());
+            Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
+            Collection<Connection> connections = getConnections(statements);
+            materializeStreamingEnumerators(connections);
             processEngine.executeSQL(executionGroupContext, context.getQueryContext());
-            List<QueryResult> queryResults = execute(executionGroupContext, databaseType);
+            List<QueryResult> queryResults = executeQuery(executionGroupContext);
             MergeEngine mergeEngine = new MergeEngine(database, executorContext.getProps(), new ConnectionContext());
             MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext.getSqlStatementContext());
-            Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
-            return createEnumerable(mergedResult, queryResults.get(0).getMetaData(), statements);
+            SQLFederationRowEnumerator<T> result = enumeratorCreator.create(mergedResult, queryResults, statements, enumerator -> removeStreamingEnumerator(connections, enumerator));
+            for (Connection each : connections) {
+                streamingEnumerators.put(each, result);
+            }
+            return result;
         } catch (final SQLException ex) {
             throw new SQLWrapperException(ex);
         } finally {
@@ -250,18 +229,33 @@ public final class TranslatableTableScanExecutor implements TableScanExecutor {
         }
     }
     
-    private List<QueryResult> execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final DatabaseType databaseType) throws SQLException {
-        Collection<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(QueryResult.class::cast).collect(Collectors.toList());
-        List<QueryResult> result = new LinkedList<>();
-        for (QueryResult each : queryResults) {
-            QueryResult queryResult = each instanceof JDBCStreamQueryResult
-                    ? new JDBCMemoryQueryResult(((JDBCStreamQueryResult) each).getResultSet(), databaseType)
-                    : each;
-            result.add(queryResult);
+    private Collection<Connection> getConnections(final Collection<Statement> statements) throws SQLException {
+        Collection<Connection> result = new LinkedList<>();
+        for (Statement each : statements) {
+            result.add(each.getConnection());
         }
         return result;
     }
     
+    private void removeStreamingEnumerator(final Collection<Connection> connections, final SQLFederationRowEnumerator<?> enumerator) {
+        for (Connection each : connections) {
+            streamingEnumerators.remove(each, enumerator);
+        }
+    }
+    
+    private void materializeStreamingEnumerators(final Collection<Connection> connections) {
+        for (Connection each : connections) {
+            SQLFederationRowEnumerator<?> enumerator = streamingEnumerators.remove(each);
+            if (null != enumerator) {
+                enumerator.materialize();
+            }
+        }
+    }
+    
+    private List<QueryResult> executeQuery(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) throws SQLException {
+        return jdbcExecutor.execute(executionGroupContext, callback).stream().map(QueryResult.class::cast).collect(Collectors.toList());
+    }
+    
     private Enumerable<Object[]> executeByShardingSphereData(final String databaseName, final String schemaName, final ShardingSphereTable table) {
         Optional<ShardingSphereTableData> tableData = Optional.ofNullable(data.getDatabaseData().get(databaseName)).map(optional -> optional.getSchemaData().get(schemaName))
                 .map(ShardingSphereSchemaData::getTableData).map(shardingSphereData -> shardingSphereData.get(table.getName()));
@@ -365,30 +359,6 @@ public final class TranslatableTableScanExecutor implements TableScanExecutor {
         return result;
     }
     
-    private AbstractEnumerable<Object[]> createEnumerable(final MergedResult mergedResult, final QueryResultMetaData metaData, final Collection<Statement> statements) throws SQLException {
-        // TODO remove getRows when mergedResult support JDBC first method
-        Collection<Object[]> rows = getRows(mergedResult, metaData);
-        return new AbstractEnumerable<Object[]>() {
-            
-            @Override
-            public Enumerator<Object[]> enumerator() {
-                return new SQLFederationRowEnumerator<>(rows, statements);
-            }
-        };
-    }
-    
-    private Collection<Object[]> getRows(final MergedResult mergedResult, final QueryResultMetaData metaData) throws SQLException {
-        Collection<Object[]> result = new LinkedList<>();
-        while (mergedResult.next()) {
-            Object[] currentRow = new Object[metaData.getColumnCount()];
-            for (int i = 0; i < metaData.getColumnCount(); i++) {
-                currentRow[i] = mergedResult.getValue(i + 1, Object.class);
-            }
-            result.add(currentRow);
-        }
-        return result;
-    }
-    
     private QueryContext createQueryContext(final ShardingSphereMetaData metaData, final SqlString sqlString, final DatabaseType databaseType, final boolean useCache) {
         String sql = sqlString.getSql().replace("\n", " ");
         SQLStatement sqlStatement = new SQLStatementParserEngine(databaseType.getType(),
@@ -419,4 +389,11 @@ public final class TranslatableTableScanExecutor implements TableScanExecutor {
             }
         };
     }
+    
+    @FunctionalInterface
+    private interface RowEnumeratorCreator<T> {
+        
+        SQLFederationRowEnumerator<T> create(MergedResult mergedResult, List<QueryResult> queryResults, Collection<Statement> statements,
+                                             Consumer<SQLFederationRowEnumerator<T>> releaseListener) throws SQLException;
+    }
 }
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.row;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+
+import java.util.function.Supplier;
+
+/**
+ * SQL federation row enumerable.
+ * 
+ * <p>The first enumerator streams and buffers rows of the scan. When the enumerable is enumerated again, the buffered rows are replayed,
+ * the scan is only executed again if the previous enumerator was closed before all rows were read.</p>
+ * 
+ * @param <T> type of row
+ */
+@RequiredArgsConstructor
+public final class SQLFederationRowEnumerable<T> extends AbstractEnumerable<T> {
+    
+    private final Supplier<SQLFederationRowEnumerator<T>> scanner;
+    
+    private SQLFederationRowEnumerator<T> scanEnumerator;
+    
+    @Override
+    public Enumerator<T> enumerator() {
+        if (null != scanEnumerator && scanEnumerator.isReplayable()) {
+            return Linq4j.enumerator(scanEnumerator.getRows());
+        }
+        scanEnumerator = scanner.get();
+        return scanEnumerator;
+    }
+}
@@ -18,62 +18,187 @@
 package org.apache.shardingsphere.sqlfederation.executor.row;
 
 import org.apache.calcite.linq4j.Enumerator;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.wrapper.SQLWrapperException;
 
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * SQL federation row enumerator.
  * 
+ * <p>Rows are pulled from merged result on demand and buffered, statements are released once merged result is exhausted, materialized or enumerator is closed.
+ * Enumerator is reset by loading remaining rows into buffer and replaying the buffer, so the scan is never executed again.</p>
+ * 
  * @param <T> type of row
  */
 public final class SQLFederationRowEnumerator<T> implements Enumerator<T> {
     
-    private final Collection<T> rows;
+    private final MergedResult mergedResult;
+    
+    private final int columnCount;
+    
+    private final boolean scalar;
     
     private final Collection<Statement> statements;
     
-    private Iterator<T> iterator;
+    private final Consumer<SQLFederationRowEnumerator<T>> releaseListener;
+    
+    private final List<T> rows = new ArrayList<>();
+    
+    private int currentRowIndex = -1;
     
-    private T currentRow;
+    private boolean exhausted;
     
-    public SQLFederationRowEnumerator(final Collection<T> rows, final Collection<Statement> statements) {
-        this.rows = rows;
+    private boolean released;
+    
+    private boolean closed;
+    
+    public SQLFederationRowEnumerator(final MergedResult mergedResult, final int columnCount, final Collection<Statement> statements,
+                                      final Consumer<SQLFederationRowEnumerator<T>> releaseListener) {
+        this(mergedResult, columnCount, false, statements, releaseListener);
+    }
+    
+    private SQLFederationRowEnumerator(final MergedResult mergedResult, final int columnCount, final boolean scalar, final Collection<Statement> statements,
+                                       final Consumer<SQLFederationRowEnumerator<T>> releaseListener) {
+        this.mergedResult = mergedResult;
+        this.columnCount = columnCount;
+        this.scalar = scalar;
         this.statements = statements;
-        iterator = rows.iterator();
+        this.releaseListener = releaseListener;
+    }
+    
+    /**
+     * Create scalar row enumerator.
+     * 
+     * @param mergedResult merged result
+     * @param statements statements
+     * @param releaseListener listener called once statements are released
+     * @param <T> type of row
+     * @return created scalar row enumerator
+     */
+    public static <T> SQLFederationRowEnumerator<T> newScalarInstance(final MergedResult mergedResult, final Collection<Statement> statements,
+                                                                      final Consumer<SQLFederationRowEnumerator<T>> releaseListener) {
+        return new SQLFederationRowEnumerator<>(mergedResult, 1, true, statements, releaseListener);
     }
     
     @Override
     public T current() {
-        return currentRow;
+        return currentRowIndex >= 0 && currentRowIndex < rows.size() ? rows.get(currentRowIndex) : null;
     }
     
     @Override
     public boolean moveNext() {
-        if (iterator.hasNext()) {
-            currentRow = iterator.next();
+        if (closed) {
+            return false;
+        }
+        if (currentRowIndex + 1 < rows.size()) {
+            currentRowIndex++;
             return true;
         }
-        currentRow = null;
-        iterator = rows.iterator();
+        if (!exhausted && loadNextRow()) {
+            currentRowIndex++;
+            return true;
+        }
+        currentRowIndex = rows.size();
         return false;
     }
     
+    private boolean loadNextRow() {
+        try {
+            if (mergedResult.next()) {
+                rows.add(loadCurrentRow());
+                return true;
+            }
+        } catch (final SQLException ex) {
+            close();
+            throw new SQLWrapperException(ex);
+        }
+        exhausted = true;
+        release();
+        return false;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private T loadCurrentRow() throws SQLException {
+        if (scalar) {
+            return (T) mergedResult.getValue(1, Object.class);
+        }
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = mergedResult.getValue(i + 1, Object.class);
+        }
+        return (T) result;
+    }
+    
+    /**
+     * Judge whether enumerator is still streaming rows from statements.
+     * 
+     * @return enumerator is streaming or not
+     */
+    public boolean isStreaming() {
+        return !closed && !exhausted;
+    }
+    
+    /**
+     * Judge whether all rows of the scan can be replayed without executing the scan again.
+     * 
+     * @return all rows can be replayed or not
+     */
+    public boolean isReplayable() {
+        return exhausted || !closed;
+    }
+    
+    /**
+     * Materialize remaining rows into buffer and release statements, so the connections of statements can be used by other scans.
+     */
+    public void materialize() {
+        while (isStreaming()) {
+            loadNextRow();
+        }
+    }
+    
+    /**
+     * Get all rows of the scan, remaining rows are materialized first.
+     * 
+     * @return all rows of the scan
+     */
+    public List<T> getRows() {
+        materialize();
+        return rows;
+    }
+    
     @Override
     public void reset() {
+        if (closed) {
+            return;
+        }
+        materialize();
+        currentRowIndex = -1;
     }
     
     @Override
     public void close() {
+        closed = true;
+        currentRowIndex = rows.size();
+        release();
+    }
+    
+    private void release() {
+        if (released) {
+            return;
+        }
+        released = true;
+        releaseListener.accept(this);
         try {
+            mergedResult.close();
             for (Statement each : statements) {
                 each.close();
             }
-            currentRow = null;
-            iterator = rows.iterator();
         } catch (final SQLException ex) {
             throw new SQLWrapperException(ex);
         }
@@ -22,8 +22,10 @@ import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelDistributionTraitDef;
 import org.apache.calcite.rel.RelReferentialConstraint;
 import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.util.ImmutableBitSet;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -31,6 +33,39 @@ import java.util.List;
  */
 public final class SQLFederationStatistic implements Statistic {
     
+    private final Double rowCount;
+    
+    private final List<ImmutableBitSet> keys;
+    
+    public SQLFederationStatistic() {
+        this(null, Collections.emptyList());
+    }
+    
+    public SQLFederationStatistic(final Double rowCount, final List<ImmutableBitSet> keys) {
+        this.rowCount = rowCount;
+        this.keys = keys;
+    }
+    
+    @Override
+    public Double getRowCount() {
+        return rowCount;
+    }
+    
+    @Override
+    public boolean isKey(final ImmutableBitSet columns) {
+        for (ImmutableBitSet each : keys) {
+            if (columns.contains(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public List<ImmutableBitSet> getKeys() {
+        return keys;
+    }
+    
     @Override
     public List<RelReferentialConstraint> getReferentialConstraints() {
         return new ArrayList<>();
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.database.type.SchemaSupportedDatabaseType;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereTableData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL federation statistic loader.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLFederationStatisticLoader {
+    
+    private static final String SHARDING_SPHERE = "shardingsphere";
+    
+    private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
+    
+    private static final int LOGIC_DATABASE_NAME_INDEX = 1;
+    
+    private static final int LOGIC_TABLE_NAME_INDEX = 2;
+    
+    private static final int ROW_COUNT_INDEX = 5;
+    
+    private static final Cache<ShardingSphereTableData, CachedRowCounts> ROW_COUNTS_CACHE = Caffeine.newBuilder().weakKeys().build();
+    
+    /**
+     * Load statistics of tables.
+     * 
+     * <p>Row count is the sum of actual table row counts collected into sharding table statistics, which is refreshed by ShardingSphere data collector.
+     * Sharding table statistics is kept in shardingsphere schema of each logic database for schema supported database types, and in shardingsphere database for others.
+     * Row counts are cached until the version of sharding table statistics changes.</p>
+     * 
+     * <p>Primary key is only regarded as unique key when the table is not distributed, because rows with the same primary key may exist in different data nodes.</p>
+     *
+     * @param database ShardingSphere database
+     * @param schema ShardingSphere schema
+     * @param data ShardingSphere data
+     * @return statistics, key is lower case table name
+     */
+    public static Map<String, SQLFederationStatistic> load(final ShardingSphereDatabase database, final ShardingSphereSchema schema, final ShardingSphereData data) {
+        Map<String, Double> rowCounts = loadRowCounts(database, data);
+        Collection<DataNodeContainedRule> dataNodeContainedRules = database.getRuleMetaData().findRules(DataNodeContainedRule.class);
+        Map<String, SQLFederationStatistic> result = new HashMap<>(schema.getTables().size(), 1F);
+        for (ShardingSphereTable each : schema.getTables().values()) {
+            String tableName = each.getName().toLowerCase();
+            result.put(tableName, new SQLFederationStatistic(rowCounts.get(tableName), isDistributed(each.getName(), dataNodeContainedRules) ? Collections.emptyList() : getKeys(each)));
+        }
+        return result;
+    }
+    
+    private static Map<String, Double> loadRowCounts(final ShardingSphereDatabase database, final ShardingSphereData data) {
+        ShardingSphereTableData tableData = findShardingTableStatistics(database, data);
+        if (null == tableData) {
+            return Collections.emptyMap();
+        }
+        long version = tableData.getVersion();
+        CachedRowCounts cachedRowCounts = ROW_COUNTS_CACHE.getIfPresent(tableData);
+        if (null == cachedRowCounts || cachedRowCounts.version != version) {
+            cachedRowCounts = new CachedRowCounts(version, aggregateRowCounts(tableData));
+            ROW_COUNTS_CACHE.put(tableData, cachedRowCounts);
+        }
+        return cachedRowCounts.rowCounts.getOrDefault(database.getName().toLowerCase(), Collections.emptyMap());
+    }
+    
+    private static ShardingSphereTableData findShardingTableStatistics(final ShardingSphereDatabase database, final ShardingSphereData data) {
+        ShardingSphereDatabaseData databaseData = null == data ? null : data.getDatabase(database.getProtocolType() instanceof SchemaSupportedDatabaseType ? database.getName() : SHARDING_SPHERE);
+        ShardingSphereSchemaData schemaData = null == databaseData ? null : databaseData.getSchema(SHARDING_SPHERE);
+        return null == schemaData ? null : schemaData.getTable(SHARDING_TABLE_STATISTICS);
+    }
+    
+    private static Map<String, Map<String, Double>> aggregateRowCounts(final ShardingSphereTableData tableData) {
+        Map<String, Map<String, Double>> result = new HashMap<>();
+        for (ShardingSphereRowData each : tableData.getRows()) {
+            List<Object> row = each.getRows();
+            if (row.size() <= ROW_COUNT_INDEX || null == row.get(ROW_COUNT_INDEX)) {
+                continue;
+            }
+            result.computeIfAbsent(String.valueOf(row.get(LOGIC_DATABASE_NAME_INDEX)).toLowerCase(), unused -> new HashMap<>())
+                    .merge(String.valueOf(row.get(LOGIC_TABLE_NAME_INDEX)).toLowerCase(), new BigDecimal(row.get(ROW_COUNT_INDEX).toString()).doubleValue(), Double::sum);
+        }
+        return result;
+    }
+    
+    private static boolean isDistributed(final String tableName, final Collection<DataNodeContainedRule> dataNodeContainedRules) {
+        for (DataNodeContainedRule each : dataNodeContainedRules) {
+            if (each.getDataNodesByTableName(tableName).size() > 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static List<ImmutableBitSet> getKeys(final ShardingSphereTable table) {
+        ImmutableBitSet.Builder primaryKey = ImmutableBitSet.builder();
+        int index = 0;
+        for (ShardingSphereColumn each : table.getColumns()) {
+            if (each.isPrimaryKey()) {
+                primaryKey.set(index);
+            }
+            index++;
+        }
+        return primaryKey.isEmpty() ? Collections.emptyList() : Collections.singletonList(primaryKey.build());
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CachedRowCounts {
+        
+        private final long version;
+        
+        private final Map<String, Map<String, Double>> rowCounts;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.row;
+
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SQLFederationRowEnumerableTest {
+    
+    @Test
+    void assertEnumeratorReplaysRowsWithoutScanningAgain() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1, 2);
+        AtomicInteger scanCount = new AtomicInteger();
+        SQLFederationRowEnumerable<Object> enumerable = new SQLFederationRowEnumerable<>(() -> {
+            scanCount.incrementAndGet();
+            return SQLFederationRowEnumerator.newScalarInstance(mergedResult, Collections.singleton(mock(Statement.class)), enumerator -> {
+            });
+        });
+        Enumerator<Object> first = enumerable.enumerator();
+        assertTrue(first.moveNext());
+        assertThat(first.current(), is(1));
+        Enumerator<Object> second = enumerable.enumerator();
+        assertTrue(second.moveNext());
+        assertThat(second.current(), is(1));
+        assertTrue(second.moveNext());
+        assertThat(second.current(), is(2));
+        assertFalse(second.moveNext());
+        assertTrue(first.moveNext());
+        assertThat(first.current(), is(2));
+        assertFalse(first.moveNext());
+        first.close();
+        assertThat(enumerable.toList(), is(Arrays.asList(1, 2)));
+        assertThat(scanCount.get(), is(1));
+    }
+    
+    @Test
+    void assertEnumeratorScansAgainWhenPreviousEnumeratorClosedEarly() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1);
+        AtomicInteger scanCount = new AtomicInteger();
+        SQLFederationRowEnumerable<Object> enumerable = new SQLFederationRowEnumerable<>(() -> {
+            scanCount.incrementAndGet();
+            return SQLFederationRowEnumerator.newScalarInstance(mergedResult, Collections.singleton(mock(Statement.class)), enumerator -> {
+            });
+        });
+        Enumerator<Object> first = enumerable.enumerator();
+        assertTrue(first.moveNext());
+        first.close();
+        enumerable.enumerator().close();
+        assertThat(scanCount.get(), is(2));
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.row;
+
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SQLFederationRowEnumeratorTest {
+    
+    @Test
+    void assertMoveNextAndCloseStatementsWhenExhausted() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1);
+        when(mergedResult.getValue(2, Object.class)).thenReturn("foo");
+        Statement statement = mock(Statement.class);
+        SQLFederationRowEnumerator<Object[]> actual = new SQLFederationRowEnumerator<>(mergedResult, 2, Collections.singleton(statement), enumerator -> {
+        });
+        assertTrue(actual.moveNext());
+        assertThat(actual.current()[0], is(1));
+        assertThat(actual.current()[1], is("foo"));
+        verify(statement, times(0)).close();
+        assertFalse(actual.moveNext());
+        assertThat(actual.current(), nullValue());
+        verify(statement).close();
+        actual.close();
+        assertFalse(actual.moveNext());
+        verify(statement).close();
+    }
+    
+    @Test
+    void assertMaterialize() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1, 2);
+        Statement statement = mock(Statement.class);
+        SQLFederationRowEnumerator<Object> actual = SQLFederationRowEnumerator.newScalarInstance(mergedResult, Collections.singleton(statement), enumerator -> {
+        });
+        assertTrue(actual.moveNext());
+        assertThat(actual.current(), is(1));
+        assertTrue(actual.isStreaming());
+        actual.materialize();
+        assertFalse(actual.isStreaming());
+        verify(statement).close();
+        assertThat(actual.current(), is(1));
+        assertTrue(actual.moveNext());
+        assertThat(actual.current(), is(2));
+        assertFalse(actual.moveNext());
+    }
+    
+    @Test
+    void assertReset() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1, 2);
+        Statement statement = mock(Statement.class);
+        AtomicInteger releasedCount = new AtomicInteger();
+        SQLFederationRowEnumerator<Object> actual = SQLFederationRowEnumerator.newScalarInstance(mergedResult, Collections.singleton(statement), enumerator -> releasedCount.incrementAndGet());
+        assertTrue(actual.moveNext());
+        actual.reset();
+        verify(statement).close();
+        assertThat(releasedCount.get(), is(1));
+        assertTrue(actual.moveNext());
+        assertThat(actual.current(), is(1));
+        assertTrue(actual.moveNext());
+        assertThat(actual.current(), is(2));
+        assertFalse(actual.moveNext());
+        actual.reset();
+        assertTrue(actual.moveNext());
+        assertThat(actual.current(), is(1));
+        verify(mergedResult, times(3)).next();
+        assertThat(releasedCount.get(), is(1));
+    }
+    
+    @Test
+    void assertReleaseListenerCalledOnceWhenClosed() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1);
+        List<SQLFederationRowEnumerator<Object>> actualReleased = new LinkedList<>();
+        SQLFederationRowEnumerator<Object> actual = SQLFederationRowEnumerator.newScalarInstance(mergedResult, Collections.singleton(mock(Statement.class)), actualReleased::add);
+        assertTrue(actual.moveNext());
+        assertTrue(actualReleased.isEmpty());
+        actual.close();
+        actual.close();
+        assertThat(actualReleased, is(Collections.singletonList(actual)));
+        assertFalse(actual.isReplayable());
+    }
+    
+    @Test
+    void assertMoveNextWithScalarInstance() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1);
+        Statement statement = mock(Statement.class);
+        SQLFederationRowEnumerator<Object> actual = SQLFederationRowEnumerator.newScalarInstance(mergedResult, Collections.singleton(statement), enumerator -> {
+        });
+        assertTrue(actual.moveNext());
+        assertThat(actual.current(), is(1));
+        actual.close();
+        verify(statement).close();
+        assertFalse(actual.moveNext());
+    }
+}
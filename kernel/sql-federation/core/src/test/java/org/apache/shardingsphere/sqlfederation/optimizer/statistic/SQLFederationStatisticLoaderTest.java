@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereTableData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SQLFederationStatisticLoaderTest {
+    
+    @Test
+    void assertLoad() {
+        Map<String, SQLFederationStatistic> actual = SQLFederationStatisticLoader.load(mockDatabase(), createSchema(), createShardingSphereData());
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get("t_order").getRowCount(), is(300D));
+        assertTrue(actual.get("t_order").getKeys().isEmpty());
+        assertFalse(actual.get("t_order").isKey(ImmutableBitSet.of(0, 1)));
+        assertThat(actual.get("t_order_item").getRowCount(), is(50D));
+        assertThat(actual.get("t_single").getRowCount(), is(nullValue()));
+        assertThat(actual.get("t_single").getKeys(), is(Collections.singletonList(ImmutableBitSet.of(1))));
+        assertTrue(actual.get("t_single").isKey(ImmutableBitSet.of(0, 1)));
+        assertFalse(actual.get("t_single").isKey(ImmutableBitSet.of(0)));
+    }
+    
+    @Test
+    void assertLoadWithoutShardingSphereData() {
+        Map<String, SQLFederationStatistic> actual = SQLFederationStatisticLoader.load(mockDatabase(), createSchema(), null);
+        assertThat(actual.get("t_order").getRowCount(), is(nullValue()));
+        assertThat(actual.get("t_order_item").getRowCount(), is(nullValue()));
+    }
+    
+    @Test
+    void assertLoadWithSchemaSupportedDatabaseType() {
+        ShardingSphereDatabase database = mockDatabase();
+        when(database.getProtocolType()).thenReturn(new PostgreSQLDatabaseType());
+        ShardingSphereData data = new ShardingSphereData();
+        data.putDatabase("sharding_db", createShardingSphereData().getDatabase("shardingsphere"));
+        Map<String, SQLFederationStatistic> actual = SQLFederationStatisticLoader.load(database, createSchema(), data);
+        assertThat(actual.get("t_order").getRowCount(), is(300D));
+        assertThat(SQLFederationStatisticLoader.load(database, createSchema(), createShardingSphereData()).get("t_order").getRowCount(), is(nullValue()));
+    }
+    
+    @Test
+    void assertLoadAfterShardingTableStatisticsChanged() {
+        ShardingSphereDatabase database = mockDatabase();
+        ShardingSphereData data = createShardingSphereData();
+        assertThat(SQLFederationStatisticLoader.load(database, createSchema(), data).get("t_order").getRowCount(), is(300D));
+        ShardingSphereTableData tableData = data.getDatabase("shardingsphere").getSchema("shardingsphere").getTable("sharding_table_statistics");
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(5, "sharding_db", "t_order", "ds_2", "t_order_2", new BigDecimal("10"), BigDecimal.ZERO)));
+        assertThat(SQLFederationStatisticLoader.load(database, createSchema(), data).get("t_order").getRowCount(), is(300D));
+        tableData.increaseVersion();
+        assertThat(SQLFederationStatisticLoader.load(database, createSchema(), data).get("t_order").getRowCount(), is(310D));
+    }
+    
+    private ShardingSphereDatabase mockDatabase() {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getName()).thenReturn("sharding_db");
+        DataNodeContainedRule rule = mock(DataNodeContainedRule.class);
+        when(rule.getDataNodesByTableName("t_order")).thenReturn(Arrays.asList(new DataNode("ds_0.t_order_0"), new DataNode("ds_1.t_order_1")));
+        when(rule.getDataNodesByTableName("t_order_item")).thenReturn(Arrays.asList(new DataNode("ds_0.t_order_item_0"), new DataNode("ds_1.t_order_item_1")));
+        when(rule.getDataNodesByTableName("t_single")).thenReturn(Collections.singletonList(new DataNode("ds_0.t_single")));
+        when(result.getRuleMetaData().findRules(DataNodeContainedRule.class)).thenReturn(Collections.singletonList(rule));
+        return result;
+    }
+    
+    private ShardingSphereSchema createSchema() {
+        ShardingSphereSchema result = new ShardingSphereSchema();
+        result.getTables().put("t_order", createTable("t_order"));
+        result.getTables().put("t_order_item", createTable("t_order_item"));
+        result.getTables().put("t_single", createTable("t_single"));
+        return result;
+    }
+    
+    private ShardingSphereTable createTable(final String tableName) {
+        return new ShardingSphereTable(tableName, Arrays.asList(new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false),
+                new ShardingSphereColumn("id", Types.INTEGER, true, false, false, true, false)), Collections.emptyList(), Collections.emptyList());
+    }
+    
+    private ShardingSphereData createShardingSphereData() {
+        ShardingSphereTableData tableData = new ShardingSphereTableData("sharding_table_statistics");
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "sharding_db", "t_order", "ds_0", "t_order_0", new BigDecimal("100"), BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(2, "sharding_db", "t_order", "ds_1", "t_order_1", "200", BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(3, "sharding_db", "t_order_item", "ds_0", "t_order_item_0", new BigDecimal("50"), BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(4, "other_db", "t_order", "ds_0", "t_order_0", new BigDecimal("1000"), BigDecimal.ZERO)));
+        ShardingSphereSchemaData schemaData = new ShardingSphereSchemaData();
+        schemaData.putTable("sharding_table_statistics", tableData);
+        ShardingSphereDatabaseData databaseData = new ShardingSphereDatabaseData();
+        databaseData.putSchema("shardingsphere", schemaData);
+        ShardingSphereData result = new ShardingSphereData();
+        result.putDatabase("shardingsphere", databaseData);
+        return result;
+    }
+}
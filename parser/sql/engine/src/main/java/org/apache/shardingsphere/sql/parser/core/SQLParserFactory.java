@@ -28,6 +28,7 @@ import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ConsoleErrorListener;
 import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.TokenFactory;
 import org.antlr.v4.runtime.TokenStream;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
@@ -49,24 +50,49 @@ public final class SQLParserFactory {
      * @return created instance
      */
     public static SQLParser newInstance(final String sql, final Class<? extends SQLLexer> lexerClass, final Class<? extends SQLParser> parserClass) {
-        return createSQLParser(createTokenStream(sql, lexerClass), parserClass);
+        return newInstance(createTokenStream(sql, lexerClass), parserClass);
     }
     
+    /**
+     * Create new instance of SQL parser with token stream.
+     *
+     * @param tokenStream token stream
+     * @param parserClass parser class
+     * @return created instance
+     */
     @SneakyThrows(ReflectiveOperationException.class)
-    private static SQLParser createSQLParser(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass) {
+    public static SQLParser newInstance(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass) {
         SQLParser result = parserClass.getConstructor(TokenStream.class).newInstance(tokenStream);
         ((Parser) result).setErrorHandler(new BailErrorStrategy());
         ((Parser) result).removeErrorListener(ConsoleErrorListener.INSTANCE);
         return result;
     }
     
-    @SneakyThrows(ReflectiveOperationException.class)
-    private static TokenStream createTokenStream(final String sql, final Class<? extends SQLLexer> lexerClass) {
-        Lexer lexer = (Lexer) lexerClass.getConstructor(CharStream.class).newInstance(getSQLCharStream(sql));
-        lexer.removeErrorListener(ConsoleErrorListener.INSTANCE);
+    /**
+     * Create new instance of token stream.
+     *
+     * @param sql SQL
+     * @param lexerClass lexer class
+     * @param tokenFactory token factory
+     * @return created token stream
+     */
+    public static CommonTokenStream newTokenStream(final String sql, final Class<? extends SQLLexer> lexerClass, final TokenFactory<?> tokenFactory) {
+        Lexer lexer = createLexer(sql, lexerClass);
+        lexer.setTokenFactory(tokenFactory);
         return new CommonTokenStream(lexer);
     }
     
+    private static TokenStream createTokenStream(final String sql, final Class<? extends SQLLexer> lexerClass) {
+        return new CommonTokenStream(createLexer(sql, lexerClass));
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private static Lexer createLexer(final String sql, final Class<? extends SQLLexer> lexerClass) {
+        Lexer result = (Lexer) lexerClass.getConstructor(CharStream.class).newInstance(getSQLCharStream(sql));
+        result.removeErrorListener(ConsoleErrorListener.INSTANCE);
+        return result;
+    }
+    
     private static CharStream getSQLCharStream(final String sql) {
         CodePointBuffer buffer = CodePointBuffer.withChars(CharBuffer.wrap(sql.toCharArray()));
         return CodePointCharStream.fromBuffer(buffer);
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.token;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Pair;
+
+/**
+ * Rebindable token.
+ * 
+ * <p>A parse tree built from rebindable tokens can be reused by another SQL which has the same token types, by rebinding tokens to the tokens of the other SQL.</p>
+ */
+public final class RebindableToken extends CommonToken {
+    
+    private static final long serialVersionUID = -1484618253612547013L;
+    
+    public RebindableToken(final Pair<TokenSource, CharStream> source, final int type, final int channel, final int start, final int stop) {
+        super(source, type, channel, start, stop);
+    }
+    
+    public RebindableToken(final int type, final String text) {
+        super(type, text);
+    }
+    
+    /**
+     * Rebind to token.
+     *
+     * @param token token to be rebound to
+     */
+    public void rebind(final RebindableToken token) {
+        source = token.source;
+        type = token.type;
+        channel = token.channel;
+        text = token.text;
+        index = token.index;
+        start = token.start;
+        stop = token.stop;
+        line = token.line;
+        charPositionInLine = token.charPositionInLine;
+    }
+}
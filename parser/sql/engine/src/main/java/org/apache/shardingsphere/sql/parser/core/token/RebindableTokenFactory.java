@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.token;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Pair;
+
+/**
+ * Rebindable token factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RebindableTokenFactory implements TokenFactory<RebindableToken> {
+    
+    private static final RebindableTokenFactory INSTANCE = new RebindableTokenFactory();
+    
+    /**
+     * Get rebindable token factory instance.
+     *
+     * @return rebindable token factory instance
+     */
+    public static RebindableTokenFactory getInstance() {
+        return INSTANCE;
+    }
+    
+    @Override
+    public RebindableToken create(final Pair<TokenSource, CharStream> source, final int type, final String text, final int channel, final int start, final int stop,
+                                  final int line, final int charPositionInLine) {
+        RebindableToken result = new RebindableToken(source, type, channel, start, stop);
+        result.setLine(line);
+        result.setCharPositionInLine(charPositionInLine);
+        if (null != text) {
+            result.setText(text);
+        }
+        return result;
+    }
+    
+    @Override
+    public RebindableToken create(final int type, final String text) {
+        return new RebindableToken(type, text);
+    }
+}
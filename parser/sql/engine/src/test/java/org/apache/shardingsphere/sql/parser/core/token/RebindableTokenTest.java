@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.token;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Pair;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class RebindableTokenTest {
+    
+    @Test
+    void assertRebind() {
+        RebindableToken actual = createToken("id = 1", 5, 5, 0);
+        actual.rebind(createToken("id  =  12345", 7, 11, 3));
+        assertThat(actual.getText(), is("12345"));
+        assertThat(actual.getStartIndex(), is(7));
+        assertThat(actual.getStopIndex(), is(11));
+        assertThat(actual.getTokenIndex(), is(3));
+        assertThat(actual.getCharPositionInLine(), is(7));
+    }
+    
+    private RebindableToken createToken(final String sql, final int start, final int stop, final int tokenIndex) {
+        CharStream charStream = CharStreams.fromString(sql);
+        RebindableToken result = RebindableTokenFactory.getInstance().create(new Pair<TokenSource, CharStream>(null, charStream), 1, null, 0, start, stop, 1, start);
+        result.setTokenIndex(tokenIndex);
+        return result;
+    }
+}
@@ -22,6 +22,9 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.compression.JdkZlibEncoder;
+import io.netty.handler.codec.compression.SnappyFrameEncoder;
+import io.netty.handler.codec.compression.ZlibWrapper;
 import io.netty.util.AttributeKey;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.authority.model.ShardingSpherePrivileges;
@@ -36,11 +39,13 @@ import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.AckStreaming
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CommitStreamingRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody.BasicBody;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody.CompressionType;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RollbackStreamingRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StartStreamingRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StopStreamingRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StreamDataRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.LoginResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ServerGreetingResult;
 import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
 import org.apache.shardingsphere.distsql.handler.exception.rule.MissingRequiredRuleException;
@@ -145,12 +150,32 @@ public final class CDCChannelInboundHandler extends ChannelInboundHandlerAdapter
         Optional<ShardingSphereUser> user = authorityRule.findUser(new Grantee(body.getUsername(), getHostAddress(ctx)));
         if (user.isPresent() && Objects.equals(Hashing.sha256().hashBytes(user.get().getPassword().getBytes()).toString().toUpperCase(), body.getPassword())) {
             ctx.channel().attr(CONNECTION_CONTEXT_KEY).set(new CDCConnectionContext(user.get()));
-            ctx.writeAndFlush(CDCResponseGenerator.succeedBuilder(request.getRequestId()).build());
+            CompressionType compressionType = getAcceptedCompressionType(request.getLoginRequestBody().getCompressionType());
+            LoginResult loginResult = LoginResult.newBuilder().setCompressionType(compressionType).build();
+            ctx.writeAndFlush(CDCResponseGenerator.succeedBuilder(request.getRequestId()).setLoginResult(loginResult).build());
+            addCompressionEncoder(ctx, compressionType);
         } else {
             throw new CDCExceptionWrapper(request.getRequestId(), new CDCLoginException("Illegal username or password"));
         }
     }
     
+    private CompressionType getAcceptedCompressionType(final CompressionType requestedCompressionType) {
+        return CompressionType.SNAPPY == requestedCompressionType || CompressionType.ZLIB == requestedCompressionType ? requestedCompressionType : CompressionType.NONE;
+    }
+    
+    private void addCompressionEncoder(final ChannelHandlerContext ctx, final CompressionType compressionType) {
+        switch (compressionType) {
+            case SNAPPY:
+                ctx.pipeline().addFirst(new SnappyFrameEncoder());
+                break;
+            case ZLIB:
+                ctx.pipeline().addFirst(new JdkZlibEncoder(ZlibWrapper.ZLIB));
+                break;
+            default:
+                break;
+        }
+    }
+    
     private void checkPrivileges(final String requestId, final Grantee grantee, final String currentDatabase) {
         AuthorityRule authorityRule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData().findSingleRule(AuthorityRule.class)
                 .orElseThrow(() -> new CDCExceptionWrapper(requestId, new MissingRequiredRuleException("authority")));
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.proxy.frontend.netty;
 
 import com.google.common.hash.Hashing;
 import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.SnappyFrameEncoder;
 import io.netty.handler.logging.LoggingHandler;
 import org.apache.shardingsphere.authority.rule.AuthorityRule;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
@@ -26,6 +27,7 @@ import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest.B
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest.Type;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody.BasicBody;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody.CompressionType;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.Status;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
@@ -44,6 +46,7 @@ import org.mockito.quality.Strictness;
 import java.util.Collections;
 import java.util.Optional;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -118,4 +121,18 @@ class CDCChannelInboundHandlerTest {
         assertThat(expectedLoginResult.getErrorCode(), is(""));
         assertThat(expectedLoginResult.getErrorMessage(), is(""));
     }
+    
+    @Test
+    void assertLoginRequestSucceedWithCompression() {
+        String encryptPassword = Hashing.sha256().hashBytes("root".getBytes()).toString().toUpperCase();
+        CDCRequest actualRequest = CDCRequest.newBuilder().setType(Type.LOGIN).setLoginRequestBody(LoginRequestBody.newBuilder().setBasicBody(BasicBody.newBuilder().setUsername("root")
+                .setPassword(encryptPassword).build()).setCompressionType(CompressionType.SNAPPY).build()).build();
+        channel.writeInbound(actualRequest);
+        CDCResponse expectedGreetingResult = channel.readOutbound();
+        assertTrue(expectedGreetingResult.hasServerGreetingResult());
+        CDCResponse expectedLoginResult = channel.readOutbound();
+        assertThat(expectedLoginResult.getStatus(), is(Status.SUCCEED));
+        assertThat(expectedLoginResult.getLoginResult().getCompressionType(), is(CompressionType.SNAPPY));
+        assertThat(channel.pipeline().first(), instanceOf(SnappyFrameEncoder.class));
+    }
 }